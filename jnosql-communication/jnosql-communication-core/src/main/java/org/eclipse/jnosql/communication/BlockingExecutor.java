@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link Executor} shared by the blocking calls to the database that run off the caller thread: the
+ * asynchronous and reactive operations, and the parallel reads by key. The pool is created on the first task and
+ * sized by the {@link Configurations#ASYNC_THREADS} setting: by default, it has up to twice the available
+ * processors, at least {@value #MIN_THREADS}, and the tasks beyond them wait in a queue; the
+ * {@value #UNBOUNDED} value creates a thread for each pending task instead.
+ */
+public enum BlockingExecutor implements Executor {
+
+    INSTANCE;
+
+    /**
+     * The value of the {@link Configurations#ASYNC_THREADS} setting that does not bound the threads.
+     */
+    public static final String UNBOUNDED = "unbounded";
+
+    static final int MIN_THREADS = 4;
+
+    @Override
+    public void execute(Runnable command) {
+        ExecutorHolder.EXECUTOR.execute(command);
+    }
+
+    /**
+     * Returns the number of threads of the setting value: the positive value itself, or the default when it is
+     * not a positive number; {@code -1} for {@value #UNBOUNDED}.
+     */
+    static int threads(String value) {
+        if (value == null || value.isBlank()) {
+            return defaultThreads();
+        }
+        if (UNBOUNDED.equals(value.trim().toLowerCase(Locale.US))) {
+            return -1;
+        }
+        try {
+            int threads = Integer.parseInt(value.trim());
+            return threads > 0 ? threads : defaultThreads();
+        } catch (NumberFormatException exception) {
+            throw new CommunicationException("The " + Configurations.ASYNC_THREADS.get()
+                    + " setting must be a number or " + UNBOUNDED + ": " + value, exception);
+        }
+    }
+
+    private static int defaultThreads() {
+        return Math.max(MIN_THREADS, Runtime.getRuntime().availableProcessors() * 2);
+    }
+
+    private static final class ExecutorHolder {
+
+        private static final ThreadFactory THREADS = runnable -> {
+            Thread thread = new Thread(runnable, "jnosql-blocking");
+            thread.setDaemon(true);
+            return thread;
+        };
+
+        private static final ExecutorService EXECUTOR = create(threads(setting()));
+
+        private static String setting() {
+            try {
+                return ConfigProvider.getConfig()
+                        .getOptionalValue(Configurations.ASYNC_THREADS.get(), String.class)
+                        .orElse(null);
+            } catch (IllegalStateException exception) {
+                return null;
+            }
+        }
+
+        private static ExecutorService create(int threads) {
+            if (threads < 0) {
+                return Executors.newCachedThreadPool(THREADS);
+            }
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), THREADS);
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+}
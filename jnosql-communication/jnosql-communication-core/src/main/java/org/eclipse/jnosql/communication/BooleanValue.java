@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * A {@link Value} that holds a {@code boolean} without boxing it, created by {@link Value#ofBoolean(boolean)}.
+ * The {@link #get()} method boxes the value, {@link #isTrue()} does not.
+ * The shared methods are at {@link PrimitiveValue}.
+ */
+record BooleanValue(boolean value) implements PrimitiveValue {
+
+    @Override
+    public Object get() {
+        return Boolean.valueOf(value);
+    }
+
+    @Override
+    public Class<?> wrapper() {
+        return Boolean.class;
+    }
+
+    @Override
+    public Class<?> primitive() {
+        return boolean.class;
+    }
+
+    @Override
+    public boolean isTrue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof BooleanValue that) {
+            return value == that.value;
+        }
+        return PrimitiveValue.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Boolean.hashCode(value);
+    }
+}
@@ -77,7 +77,107 @@ public enum Configurations implements Supplier<String> {
      * explicitly manage multi-field sorting during cursor-based pagination.</p>
      * <p>To enable, set: <code>org.eclipse.jnosql.pagination.cursor=true</code></p>
      */
-    CURSOR_PAGINATION_MULTIPLE_SORTING("org.eclipse.jnosql.pagination.cursor");
+    CURSOR_PAGINATION_MULTIPLE_SORTING("org.eclipse.jnosql.pagination.cursor"),
+
+    /**
+     * Configuration to define the maximum number of parsed queries kept in the query plan cache.
+     * <p>Parsing a query string is expensive, so the parsed query is kept and reused when the same query
+     * is executed again; the parameters are bound on each execution. A value of zero disables the cache.
+     * By default, the cache keeps up to 1000 queries.</p>
+     * <p>Example: <code>org.eclipse.jnosql.query.cache.size=500</code></p>
+     */
+    QUERY_CACHE_SIZE("org.eclipse.jnosql.query.cache.size"),
+
+    /**
+     * Configuration to define how the mapping reads and writes the entity fields and creates the entity instances.
+     * <p>The {@code METHOD_HANDLE} option, the default, resolves a method handle per field once, when the entity
+     * metadata is created, falling back to reflection when the field cannot be accessed that way. The
+     * {@code REFLECTION} option always uses {@link java.lang.reflect.Field} and {@link java.lang.reflect.Constructor}.</p>
+     * <p>Example: <code>org.eclipse.jnosql.mapping.field.access=REFLECTION</code></p>
+     */
+    FIELD_ACCESS("org.eclipse.jnosql.mapping.field.access"),
+
+    /**
+     * Configuration to take the entities, embeddables and repositories only from the class indexes generated at
+     * compile time by the {@code jnosql-mapping-processor}, without scanning the classpath.
+     * <p>By default, it is {@code false}: the indexes are merged with a scan of the classpath elements they do not
+     * come from, e.g., the entities of a module compiled without the processor. When it is {@code true} and there
+     * are indexes, the classpath is not scanned at all.</p>
+     * <p>Example: <code>org.eclipse.jnosql.mapping.scan.index.only=true</code></p>
+     */
+    SCAN_INDEX_ONLY("org.eclipse.jnosql.mapping.scan.index.only"),
+
+    /**
+     * Configuration to define the maximum number of entities, or keys, sent to the database in one call when the
+     * template inserts, updates or reads several entities.
+     * <p>The entities are converted and sent in chunks of this size, thus a driver that supports batch operations
+     * makes one round-trip per chunk instead of one per entity. By default, the chunk has up to 100 entities.</p>
+     * <p>Example: <code>org.eclipse.jnosql.mapping.batch.size=500</code></p>
+     */
+    BATCH_SIZE("org.eclipse.jnosql.mapping.batch.size"),
+
+    /**
+     * Configuration to read several keys of a key-value database with parallel single-key reads instead of
+     * a multi-get.
+     * <p>It is meant for drivers without a native multi-get, where each key is a round-trip: the value is the
+     * maximum number of keys read at the same time. By default, it is zero, and the keys are read with
+     * {@code BucketManager.getAll} when the driver declares the {@code GET_ALL} capability, one by one otherwise.</p>
+     * <p>Example: <code>org.eclipse.jnosql.keyvalue.get.parallelism=8</code></p>
+     */
+    KEY_VALUE_PARALLELISM("org.eclipse.jnosql.keyvalue.get.parallelism"),
+
+    /**
+     * Configuration to find the entities of {@code NoSQLRepository.findByIdIn} with parallel single-id reads.
+     * <p>It is meant for databases without a native multi-get, where each id is a round-trip: the value is the
+     * maximum number of ids read at the same time, and the entities keep the order of the ids. By default, it is
+     * zero, and the ids are read in chunks of {@link #BATCH_SIZE}.</p>
+     * <p>Example: <code>org.eclipse.jnosql.mapping.find.parallelism=8</code></p>
+     */
+    FIND_BY_ID_PARALLELISM("org.eclipse.jnosql.mapping.find.parallelism"),
+
+    /**
+     * Configuration to define the maximum number of threads that execute the asynchronous operations of the
+     * templates and repositories, such as {@code findAsync} or a repository method that returns a
+     * {@link java.util.concurrent.CompletionStage}, the reactive operations and the parallel reads by key.
+     * <p>The operations are blocking calls to the database, so by default, the threads are twice the available
+     * processors, at least four, and the operations beyond them wait in a queue; a positive value changes the
+     * number of threads, and {@code unbounded} creates a thread for each pending operation.</p>
+     * <p>Example: <code>org.eclipse.jnosql.mapping.async.threads=16</code></p>
+     */
+    ASYNC_THREADS("org.eclipse.jnosql.mapping.async.threads"),
+
+    /**
+     * Configuration to convert the entities of the queries of the semi-structured templates on several threads.
+     * <p>It is meant for large results, where the conversion, not the driver, is the bottleneck: the rows are read
+     * on the calling thread and converted in batches of {@link #BATCH_SIZE} on the pool of {@link #ASYNC_THREADS},
+     * the value is the maximum number of batches converted at the same time. The entities keep the order of the rows
+     * when the query is sorted. By default, it is zero, and each row is converted when it is read.</p>
+     * <p>Example: <code>org.eclipse.jnosql.mapping.materialization.parallelism=4</code></p>
+     */
+    MATERIALIZATION_PARALLELISM("org.eclipse.jnosql.mapping.materialization.parallelism"),
+
+    /**
+     * Configuration to enable the entity cache of the templates for the entities of the given classes, in addition
+     * to the ones annotated with {@code org.eclipse.jnosql.mapping.Cacheable}.
+     * <p>The value is a comma-separated list of the fully qualified class names. The cache keeps the entities read
+     * by id, and it is meant for reference data that rarely changes.</p>
+     * <p>Example: <code>org.eclipse.jnosql.mapping.cache.entities=com.acme.Country,com.acme.Currency</code></p>
+     */
+    ENTITY_CACHE_ENTITIES("org.eclipse.jnosql.mapping.cache.entities"),
+
+    /**
+     * Configuration to define the maximum number of entities kept in the entity cache of each template.
+     * A value of zero disables the cache. By default, the cache keeps up to 10000 entities.
+     * <p>Example: <code>org.eclipse.jnosql.mapping.cache.size=500</code></p>
+     */
+    ENTITY_CACHE_SIZE("org.eclipse.jnosql.mapping.cache.size"),
+
+    /**
+     * Configuration to define, in seconds, how long an entity is kept in the entity cache after it is read.
+     * A value of zero keeps the entities until they are evicted by size or by a write. By default, it is 600 seconds.
+     * <p>Example: <code>org.eclipse.jnosql.mapping.cache.ttl=3600</code></p>
+     */
+    ENTITY_CACHE_TTL("org.eclipse.jnosql.mapping.cache.ttl");
 
     private final String configuration;
 
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+/**
+ * A {@link Value} that holds a {@code double} without boxing it, created by {@link Value#ofDouble(double)}.
+ * The {@link #get()} method boxes the value, {@link #getAsDouble()} does not.
+ * The shared methods are at {@link PrimitiveValue}.
+ */
+record DoubleValue(double value) implements PrimitiveValue {
+
+    @Override
+    public Object get() {
+        return Double.valueOf(value);
+    }
+
+    @Override
+    public Class<?> wrapper() {
+        return Double.class;
+    }
+
+    @Override
+    public Class<?> primitive() {
+        return double.class;
+    }
+
+    @Override
+    public double getAsDouble() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof DoubleValue that) {
+            return Double.compare(value, that.value) == 0;
+        }
+        return PrimitiveValue.equals(this, o);
+    }
+
+    @Override
+    public int hashCode() {
+        return Double.hashCode(value);
+    }
+}
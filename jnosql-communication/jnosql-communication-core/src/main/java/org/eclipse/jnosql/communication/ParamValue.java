@@ -21,10 +21,19 @@ final class ParamValue implements Value {
 
     private final String name;
 
+    private final int index;
+
     private Object value;
 
-    ParamValue(String name) {
+    ParamValue(String name, int index) {
         this.name = name;
+        this.index = index;
+    }
+
+    ParamValue(String name, int index, Object value) {
+        this.name = name;
+        this.index = index;
+        this.value = value;
     }
 
     void setValue(Object value) {
@@ -41,6 +50,14 @@ final class ParamValue implements Value {
         return name;
     }
 
+    int index() {
+        return index;
+    }
+
+    Object value() {
+        return value;
+    }
+
     @Override
     public <T> T get(Class<T> type) {
         validValue();
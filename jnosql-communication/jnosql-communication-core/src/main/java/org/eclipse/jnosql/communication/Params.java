@@ -18,7 +18,11 @@ package org.eclipse.jnosql.communication;
 
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -26,11 +30,20 @@ import static java.util.stream.Collectors.toList;
 
 /**
  * A group of params to a dynamic query
+ *
+ * <p>Each param has a position, in the order it was added, and the params are indexed by name and by the prefix
+ * name, so binding a value does not scan all of them. Besides the methods that bind the values in the params,
+ * {@link #newBinding()} keeps the values apart, so the same params can be bound several times, even
+ * concurrently.</p>
  */
 public final class Params {
 
     private final List<ParamValue> parameters = new ArrayList<>();
 
+    private final Map<String, List<ParamValue>> names = new HashMap<>();
+
+    private final Map<String, List<ParamValue>> prefixes = new HashMap<>();
+
 
     /**
      * @return if the params list is not empty
@@ -46,8 +59,10 @@ public final class Params {
      * @return the {@link Value}
      */
     public Value add(String param) {
-        ParamValue value = new ParamValue(param);
+        ParamValue value = new ParamValue(param, parameters.size());
         parameters.add(value);
+        names.computeIfAbsent(param, k -> new ArrayList<>()).add(value);
+        prefixes.computeIfAbsent(prefix(param), k -> new ArrayList<>()).add(value);
         return value;
     }
 
@@ -58,8 +73,9 @@ public final class Params {
      * @param value the value
      */
     public void bind(String name, Object value) {
-        parameters.stream().filter(p -> p.getName().startsWith(name)).forEach(p -> p.setValue(value));
-
+        for (ParamValue param : find(name)) {
+            param.setValue(value);
+        }
     }
 
     /**
@@ -68,11 +84,9 @@ public final class Params {
      * @param value the value
      */
     public void prefix(String name, Object value) {
-        parameters.stream().filter(p -> {
-            int lastIndex = p.getName().lastIndexOf('_') == -1 ? p.getName().length() : p.getName().lastIndexOf('_');
-            String fieldName = p.getName().substring(0, lastIndex);
-            return fieldName.equals(name);
-        }).forEach(p -> p.setValue(value));
+        for (ParamValue param : prefixes.getOrDefault(name, List.of())) {
+            param.setValue(value);
+        }
     }
 
     /**
@@ -82,12 +96,35 @@ public final class Params {
         return parameters.stream().map(ParamValue::getName).collect(toList());
     }
 
+    /**
+     * Creates an empty {@link Binding} of these params.
+     *
+     * @return a new {@link Binding} instance
+     */
+    public Binding newBinding() {
+        return new Binding(this, new Object[parameters.size()]);
+    }
+
     @Override
     public String toString() {
         return parameters.stream().map(ParamValue::getName).collect(joining(","));
     }
 
+    /**
+     * The params with the name, when there is no param with this exact name, the ones that start with it.
+     */
+    private List<ParamValue> find(String name) {
+        List<ParamValue> params = names.get(name);
+        if (params != null) {
+            return params;
+        }
+        return parameters.stream().filter(p -> p.getName().startsWith(name)).toList();
+    }
 
+    private static String prefix(String name) {
+        int lastIndex = name.lastIndexOf('_');
+        return lastIndex == -1 ? name : name.substring(0, lastIndex);
+    }
 
     /**
      * It returns a new Params instance
@@ -98,4 +135,122 @@ public final class Params {
         return new Params();
     }
 
+    /**
+     * The values of one execution of a query with {@link Params}. The values are kept in the binding, by the
+     * position of each param, instead of in the params, thus the params can be shared by several bindings.
+     * A binding replaces the params of a query with {@link #resolve(Value)}.
+     *
+     * <p>This class is not thread-safe, each execution uses its own binding.</p>
+     */
+    public static final class Binding {
+
+        private final Params params;
+
+        private final Object[] values;
+
+        private Binding(Params params, Object[] values) {
+            this.params = params;
+            this.values = values;
+        }
+
+        /**
+         * Binds the value to the params with the name, when there is no param with this exact name, to the
+         * ones that start with it, as {@link Params#bind(String, Object)}.
+         *
+         * @param name  the name
+         * @param value the value
+         * @return this binding
+         * @throws NullPointerException when the name is null
+         */
+        public Binding bind(String name, Object value) {
+            Objects.requireNonNull(name, "name is required");
+            for (ParamValue param : params.find(name)) {
+                values[param.index()] = value;
+            }
+            return this;
+        }
+
+        /**
+         * Returns the names of the params without a value.
+         *
+         * @return the names of the params left
+         */
+        public List<String> unbound() {
+            List<String> unbound = new ArrayList<>();
+            for (ParamValue param : params.parameters) {
+                if (values[param.index()] == null && param.value() == null) {
+                    unbound.add(param.getName());
+                }
+            }
+            return unbound;
+        }
+
+        /**
+         * Returns a value without the params of these params: a param is replaced by a param with the bound
+         * value, and a list that has params is replaced by a list with the params replaced. Any other value is
+         * returned as it is.
+         *
+         * @param value the value of a query
+         * @return the value with the bound params
+         * @throws NullPointerException when the value is null
+         */
+        public Value resolve(Value value) {
+            Objects.requireNonNull(value, "value is required");
+            if (value instanceof ParamValue param) {
+                return resolve(param);
+            }
+            if (!value.isNull() && value.get() instanceof List<?> list && hasParam(list)) {
+                return Value.of(resolve(list));
+            }
+            return value;
+        }
+
+        /**
+         * Creates a binding of the same params with the values bound so far.
+         *
+         * @return a new {@link Binding} instance
+         */
+        public Binding copy() {
+            return new Binding(params, values.clone());
+        }
+
+        @Override
+        public String toString() {
+            return "Binding{" + "params=" + params +
+                    ", values=" + Arrays.toString(values) +
+                    '}';
+        }
+
+        private ParamValue resolve(ParamValue param) {
+            int index = param.index();
+            if (index < params.parameters.size() && params.parameters.get(index) == param) {
+                Object bound = values[index];
+                return new ParamValue(param.getName(), index, bound == null ? param.value() : bound);
+            }
+            return param;
+        }
+
+        private List<Object> resolve(List<?> list) {
+            List<Object> resolved = new ArrayList<>(list.size());
+            for (Object item : list) {
+                if (item instanceof ParamValue param) {
+                    resolved.add(resolve(param));
+                } else if (item instanceof List<?> items && hasParam(items)) {
+                    resolved.add(resolve(items));
+                } else {
+                    resolved.add(item);
+                }
+            }
+            return resolved;
+        }
+
+        private static boolean hasParam(List<?> list) {
+            for (Object item : list) {
+                if (item instanceof ParamValue || item instanceof List<?> items && hasParam(items)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
 }
@@ -0,0 +1,85 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import java.util.Objects;
+
+/**
+ * The {@link Value} methods shared by the values that hold a primitive without boxing it, such as {@link IntValue}.
+ * The implementation defines the primitive accessor of its type, the {@link #wrapper()} and {@link #primitive()}
+ * types, and the {@code equals} that compares the primitives of the same type before
+ * {@link #equals(PrimitiveValue, Object)}.
+ */
+interface PrimitiveValue extends Value {
+
+    ValueReader SERVICE_PROVIDER = ValueReaderDecorator.getInstance();
+
+    TypeReferenceReader REFERENCE_READER = TypeReferenceReaderDecorator.getInstance();
+
+    /**
+     * The wrapper type of the primitive, such as {@link Integer}.
+     *
+     * @return the wrapper type
+     */
+    Class<?> wrapper();
+
+    /**
+     * The primitive type, such as {@code int}.
+     *
+     * @return the primitive type
+     */
+    Class<?> primitive();
+
+    @SuppressWarnings("unchecked")
+    @Override
+    default <T> T get(Class<T> type) {
+        Objects.requireNonNull(type, "type is required");
+        if (wrapper().equals(type) || primitive().equals(type)) {
+            return (T) get();
+        }
+        return SERVICE_PROVIDER.read(type, get());
+    }
+
+    @Override
+    default <T> T get(TypeSupplier<T> supplier) {
+        Objects.requireNonNull(supplier, "supplier is required");
+        if (REFERENCE_READER.test(supplier)) {
+            return REFERENCE_READER.convert(supplier, get());
+        }
+        throw new UnsupportedOperationException("The type " + supplier.get().getTypeName() + " is not supported");
+    }
+
+    @Override
+    default boolean isInstanceOf(Class<?> type) {
+        Objects.requireNonNull(type, "type is required");
+        return type.isAssignableFrom(wrapper());
+    }
+
+    @Override
+    default boolean isNull() {
+        return false;
+    }
+
+    /**
+     * Checks if the other object is a {@link Value} with the same boxed value.
+     *
+     * @param value the primitive value
+     * @param other the other object
+     * @return true when both hold the same value
+     */
+    static boolean equals(PrimitiveValue value, Object other) {
+        return value == other || other instanceof Value that && value.get().equals(that.get());
+    }
+}
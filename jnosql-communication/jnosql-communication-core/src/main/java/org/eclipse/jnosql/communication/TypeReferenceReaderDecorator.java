@@ -17,13 +17,20 @@
 package org.eclipse.jnosql.communication;
 
 
+import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Decorators of all {@link TypeReferenceReader}
  *
+ * <p>The reader of each {@link Type} of a {@link TypeSupplier} is resolved once and cached, including the types
+ * without a reader, so a conversion does not scan all the readers.</p>
+ *
  * @see ValueReader
  */
 public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
@@ -32,6 +39,8 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     private final List<TypeReferenceReader> readers = new ArrayList<>();
 
+    private final Map<Type, Optional<TypeReferenceReader>> cache = new ConcurrentHashMap<>();
+
     {
         ServiceLoader.load(TypeReferenceReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -44,17 +53,27 @@ public final class TypeReferenceReaderDecorator implements TypeReferenceReader {
 
     @Override
     public boolean test(TypeSupplier type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return reader(type).isPresent();
     }
 
     @Override
     public <T> T convert(TypeSupplier<T> typeReference, Object value) {
 
-        TypeReferenceReader valueReader = readers.stream().filter(r -> r.test(typeReference)).findFirst().
+        TypeReferenceReader valueReader = reader(typeReference).
                 orElseThrow(() -> new UnsupportedOperationException("The type " + typeReference + " is not supported yet"));
         return valueReader.convert(typeReference, value);
     }
 
+    private Optional<TypeReferenceReader> reader(TypeSupplier<?> typeReference) {
+        Type type = typeReference.get();
+        Optional<TypeReferenceReader> reader = cache.get(type);
+        if (reader == null) {
+            reader = readers.stream().filter(r -> r.test(typeReference)).findFirst();
+            cache.putIfAbsent(type, reader);
+        }
+        return reader;
+    }
+
     @Override
     public String toString() {
         return "TypeReferenceReaderDecorator{" + "readers=" + readers +
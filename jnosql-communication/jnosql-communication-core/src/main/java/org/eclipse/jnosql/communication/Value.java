@@ -17,6 +17,7 @@
 package org.eclipse.jnosql.communication;
 
 
+import java.util.Objects;
 
 /**
  * It represents an information unit that is to/from a database.
@@ -78,6 +79,54 @@ public interface Value {
      */
     boolean isNull();
 
+    /**
+     * Returns the value as an {@code int}. The values created by {@link #ofInt(int)} return it without boxing,
+     * the others convert it as {@link #get(Class)}.
+     *
+     * @return the value as an {@code int}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default int getAsInt() {
+        return Objects.requireNonNull(get(Integer.class), "The value is null");
+    }
+
+    /**
+     * Returns the value as a {@code long}. The values created by {@link #ofLong(long)} return it without boxing,
+     * the others convert it as {@link #get(Class)}.
+     *
+     * @return the value as a {@code long}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default long getAsLong() {
+        return Objects.requireNonNull(get(Long.class), "The value is null");
+    }
+
+    /**
+     * Returns the value as a {@code double}. The values created by {@link #ofDouble(double)} return it without
+     * boxing, the others convert it as {@link #get(Class)}.
+     *
+     * @return the value as a {@code double}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default double getAsDouble() {
+        return Objects.requireNonNull(get(Double.class), "The value is null");
+    }
+
+    /**
+     * Returns the value as a {@code boolean}. The values created by {@link #ofBoolean(boolean)} return it without
+     * boxing, the others convert it as {@link #get(Class)}.
+     *
+     * @return the value as a {@code boolean}
+     * @throws NullPointerException          when the value is null
+     * @throws UnsupportedOperationException when the value cannot be converted
+     */
+    default boolean isTrue() {
+        return Objects.requireNonNull(get(Boolean.class), "The value is null");
+    }
+
 
     /**
      * Creates a new {@link Value} instance.
@@ -92,6 +141,46 @@ public interface Value {
         return new DefaultValue(value);
     }
 
+    /**
+     * Creates a {@link Value} that holds the {@code int} without boxing it, read by {@link #getAsInt()}.
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance within the value informed
+     */
+    static Value ofInt(int value) {
+        return new IntValue(value);
+    }
+
+    /**
+     * Creates a {@link Value} that holds the {@code long} without boxing it, read by {@link #getAsLong()}.
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance within the value informed
+     */
+    static Value ofLong(long value) {
+        return new LongValue(value);
+    }
+
+    /**
+     * Creates a {@link Value} that holds the {@code double} without boxing it, read by {@link #getAsDouble()}.
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance within the value informed
+     */
+    static Value ofDouble(double value) {
+        return new DoubleValue(value);
+    }
+
+    /**
+     * Creates a {@link Value} that holds the {@code boolean} without boxing it, read by {@link #isTrue()}.
+     *
+     * @param value the information to {@link Value}
+     * @return a {@link Value} instance within the value informed
+     */
+    static Value ofBoolean(boolean value) {
+        return new BooleanValue(value);
+    }
+
     /**
      * Creates and returns a {@link Value} instance representing a null value.
      * This method provides a convenient way to obtain a {@link Value} instance that encapsulates a null value.
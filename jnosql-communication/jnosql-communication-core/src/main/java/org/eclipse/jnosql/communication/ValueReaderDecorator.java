@@ -19,19 +19,36 @@ package org.eclipse.jnosql.communication;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 
 /**
  * Decorators of all {@link ValueReader} supported by Jakarta NoSQL
  *
+ * <p>The reader of each type is resolved once and cached per {@link Class}, including the types without a reader,
+ * so a conversion does not scan all the readers. A value that is already an instance of the type, or the wrapper
+ * of a primitive type, is returned without a reader.</p>
+ *
  * @see ValueReader
  */
 public final class ValueReaderDecorator implements ValueReader {
 
     private static final ValueReaderDecorator INSTANCE = new ValueReaderDecorator();
 
+    private static final Map<Class<?>, Class<?>> WRAPPERS = Map.of(boolean.class, Boolean.class,
+            byte.class, Byte.class, char.class, Character.class, short.class, Short.class,
+            int.class, Integer.class, long.class, Long.class, float.class, Float.class, double.class, Double.class);
+
     private final List<ValueReader> readers = new ArrayList<>();
 
+    private final ClassValue<Optional<ValueReader>> cache = new ClassValue<>() {
+        @Override
+        protected Optional<ValueReader> computeValue(Class<?> type) {
+            return readers.stream().filter(r -> r.test(type)).findFirst();
+        }
+    };
+
     {
         ServiceLoader.load(ValueReader.class).stream()
                 .map(ServiceLoader.Provider::get)
@@ -44,15 +61,19 @@ public final class ValueReaderDecorator implements ValueReader {
 
     @Override
     public boolean test(Class type) {
-        return readers.stream().anyMatch(r -> r.test(type));
+        return cache.get(type).isPresent();
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T read(Class<T> type, Object value) {
         if (type.isInstance(value)) {
             return type.cast(value);
         }
-        ValueReader valueReader = readers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
+        if (type.isPrimitive() && WRAPPERS.getOrDefault(type, type).isInstance(value)) {
+            return (T) value;
+        }
+        ValueReader valueReader = cache.get(type).orElseThrow(
                 () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
         return valueReader.read(type, value);
     }
@@ -130,6 +130,8 @@ public final class ValueUtil {
             return null;
         } else if (val instanceof Value) {
             return convert(Value.class.cast(val), valueWriter);
+        } else if (valueWriter instanceof ValueWriterDecorator<?, ?> decorator) {
+            return decorator.writeIfSupported(val);
         } else if (valueWriter.test(val.getClass())) {
             return valueWriter.write(val);
         }
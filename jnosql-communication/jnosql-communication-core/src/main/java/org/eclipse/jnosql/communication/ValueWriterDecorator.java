@@ -20,10 +20,14 @@ package org.eclipse.jnosql.communication;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Decorators of all {@link ValueWriter} supported by Diana
  *
+ * <p>The writer of each type is resolved once and cached per {@link Class}, including the types without a
+ * writer, so a conversion does not scan all the writers.</p>
+ *
  * @param <T> current type
  * @param <S> the converted type
  * @see ValueWriter
@@ -34,6 +38,13 @@ public final class ValueWriterDecorator<T, S> implements ValueWriter<T, S> {
 
     private final List<ValueWriter> writers = new ArrayList<>();
 
+    private final ClassValue<Optional<ValueWriter>> cache = new ClassValue<>() {
+        @Override
+        protected Optional<ValueWriter> computeValue(Class<?> type) {
+            return writers.stream().filter(w -> w.test(type)).findFirst();
+        }
+    };
+
     {
         ValueWriter.getWriters().forEach(writers::add);
     }
@@ -47,17 +58,30 @@ public final class ValueWriterDecorator<T, S> implements ValueWriter<T, S> {
 
     @Override
     public boolean test(Class<?> type) {
-        return writers.stream().anyMatch(writerField -> writerField.test(type));
+        return cache.get(type).isPresent();
     }
 
     @Override
     public Object write(Object object) {
         Class<?> type = object.getClass();
-        ValueWriter valueWriter = writers.stream().filter(r -> r.test(type)).findFirst().orElseThrow(
+        ValueWriter valueWriter = cache.get(type).orElseThrow(
                 () -> new UnsupportedOperationException("The type " + type + " is not supported yet"));
         return valueWriter.write(object);
     }
 
+    /**
+     * Writes the object when there is a writer to its type, otherwise returns it as it is, with a single lookup
+     * instead of {@link #test(Class)} followed by {@link #write(Object)}.
+     *
+     * @param object the object
+     * @return the written object or the object itself
+     */
+    @SuppressWarnings("unchecked")
+    Object writeIfSupported(Object object) {
+        Optional<ValueWriter> valueWriter = cache.get(object.getClass());
+        return valueWriter.isPresent() ? valueWriter.get().write(object) : object;
+    }
+
     @Override
     public String toString() {
         return "ValueWriterDecorator{" + "writers=" + writers +
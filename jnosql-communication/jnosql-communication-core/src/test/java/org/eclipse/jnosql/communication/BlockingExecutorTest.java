@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class BlockingExecutorTest {
+
+    @Test
+    void shouldBoundTheThreadsByDefault() {
+        int threads = BlockingExecutor.threads(null);
+        assertSoftly(soft -> {
+            soft.assertThat(threads).isGreaterThanOrEqualTo(BlockingExecutor.MIN_THREADS);
+            soft.assertThat(BlockingExecutor.threads(" ")).isEqualTo(threads);
+            soft.assertThat(BlockingExecutor.threads("0")).isEqualTo(threads);
+        });
+    }
+
+    @Test
+    void shouldReadTheThreadsOfTheSetting() {
+        assertSoftly(soft -> {
+            soft.assertThat(BlockingExecutor.threads("16")).isEqualTo(16);
+            soft.assertThat(BlockingExecutor.threads("Unbounded")).isNegative();
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenTheSettingIsInvalid() {
+        assertThatThrownBy(() -> BlockingExecutor.threads("many")).isInstanceOf(CommunicationException.class);
+    }
+
+    @Test
+    void shouldRunOnDaemonThreads() throws Exception {
+        Thread thread = CompletableFuture.supplyAsync(Thread::currentThread, BlockingExecutor.INSTANCE)
+                .get(1, TimeUnit.MINUTES);
+        assertThat(thread.isDaemon()).isTrue();
+        assertThat(thread.getName()).isEqualTo("jnosql-blocking");
+    }
+}
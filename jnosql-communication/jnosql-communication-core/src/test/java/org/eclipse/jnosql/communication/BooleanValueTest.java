@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class BooleanValueTest {
+
+    @Test
+    void shouldReturnBoolean() {
+        Value value = Value.ofBoolean(true);
+        assertSoftly(soft -> {
+            soft.assertThat(value.isTrue()).isTrue();
+            soft.assertThat(value.get()).isEqualTo(true);
+            soft.assertThat(value.isNull()).isFalse();
+            soft.assertThat(value.isInstanceOf(Boolean.class)).isTrue();
+        });
+    }
+
+    @Test
+    void shouldConvert() {
+        Value value = Value.ofBoolean(true);
+        assertSoftly(soft -> {
+            soft.assertThat(value.get(boolean.class)).isTrue();
+            soft.assertThat(value.get(AtomicBoolean.class)).isTrue();
+            soft.assertThat(value.get(String.class)).isEqualTo("true");
+        });
+    }
+
+    @Test
+    void shouldBeEqualToDefaultValue() {
+        assertThat(Value.ofBoolean(true)).isEqualTo(Value.of(true)).isEqualTo(Value.ofBoolean(true))
+                .hasSameHashCodeAs(Value.of(true)).isNotEqualTo(Value.ofBoolean(false));
+        assertThat(Value.of(true)).isEqualTo(Value.ofBoolean(true));
+    }
+}
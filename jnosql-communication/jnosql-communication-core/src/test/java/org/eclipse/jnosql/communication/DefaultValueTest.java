@@ -203,4 +203,16 @@ class DefaultValueTest {
             soft.assertThat(value.isNull()).isTrue();
         });
     }
+
+    @Test
+    @DisplayName("Should convert to the primitive types")
+    void shouldConvertToPrimitives() {
+        assertSoftly(soft -> {
+            soft.assertThat(Value.of("10").getAsInt()).isEqualTo(10);
+            soft.assertThat(Value.of(10).getAsLong()).isEqualTo(10L);
+            soft.assertThat(Value.of("10.5").getAsDouble()).isEqualTo(10.5D);
+            soft.assertThat(Value.of("true").isTrue()).isTrue();
+        });
+        assertThatThrownBy(() -> Value.ofNull().getAsInt()).isInstanceOf(NullPointerException.class);
+    }
 }
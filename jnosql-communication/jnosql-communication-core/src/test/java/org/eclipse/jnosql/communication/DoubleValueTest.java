@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class DoubleValueTest {
+
+    @Test
+    void shouldReturnDouble() {
+        Value value = Value.ofDouble(10.5D);
+        assertSoftly(soft -> {
+            soft.assertThat(value.getAsDouble()).isEqualTo(10.5D);
+            soft.assertThat(value.get()).isEqualTo(10.5D);
+            soft.assertThat(value.isNull()).isFalse();
+            soft.assertThat(value.isInstanceOf(Double.class)).isTrue();
+        });
+    }
+
+    @Test
+    void shouldConvert() {
+        Value value = Value.ofDouble(10.5D);
+        assertSoftly(soft -> {
+            soft.assertThat(value.get(double.class)).isEqualTo(10.5D);
+            soft.assertThat(value.getAsInt()).isEqualTo(10);
+            soft.assertThat(value.get(String.class)).isEqualTo("10.5");
+        });
+    }
+
+    @Test
+    void shouldBeEqualToDefaultValue() {
+        assertThat(Value.ofDouble(10.5D)).isEqualTo(Value.of(10.5D)).isEqualTo(Value.ofDouble(10.5D))
+                .hasSameHashCodeAs(Value.of(10.5D));
+        assertThat(Value.ofDouble(Double.NaN)).isEqualTo(Value.ofDouble(Double.NaN));
+        assertThat(Value.ofDouble(0.0D)).isNotEqualTo(Value.ofDouble(-0.0D));
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class IntValueTest {
+
+    @Test
+    void shouldReturnInt() {
+        Value value = Value.ofInt(10);
+        assertSoftly(soft -> {
+            soft.assertThat(value.getAsInt()).isEqualTo(10);
+            soft.assertThat(value.get()).isEqualTo(10);
+            soft.assertThat(value.isNull()).isFalse();
+            soft.assertThat(value.isInstanceOf(Integer.class)).isTrue();
+            soft.assertThat(value.isInstanceOf(Number.class)).isTrue();
+            soft.assertThat(value.isInstanceOf(Long.class)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldConvert() {
+        Value value = Value.ofInt(10);
+        assertSoftly(soft -> {
+            soft.assertThat(value.get(int.class)).isEqualTo(10);
+            soft.assertThat(value.get(String.class)).isEqualTo("10");
+            soft.assertThat(value.getAsLong()).isEqualTo(10L);
+            soft.assertThat(value.get(new TypeReference<List<Long>>() {
+            })).containsExactly(10L);
+        });
+    }
+
+    @Test
+    void shouldBeEqualToDefaultValue() {
+        assertThat(Value.ofInt(10)).isEqualTo(Value.of(10)).isEqualTo(Value.ofInt(10))
+                .hasSameHashCodeAs(Value.of(10)).isNotEqualTo(Value.of(10L));
+        assertThat(Value.of(10)).isEqualTo(Value.ofInt(10));
+    }
+}
@@ -58,6 +58,66 @@ class ParamsTest {
         Assertions.assertEquals("Ada", value.get());
     }
 
+    @Test
+    void shouldBindExactNameBeforePrefix() {
+        Params params = Params.newParams();
+        Value id = params.add("id");
+        Value idx = params.add("idx");
+        params.bind("id", 10);
+        params.bind("idx", 20);
+        assertSoftly(softly -> {
+            softly.assertThat(id.get()).isEqualTo(10);
+            softly.assertThat(idx.get()).isEqualTo(20);
+        });
+    }
+
+    @Test
+    void shouldBindStartingNameWhenThereIsNoExactName() {
+        Params params = Params.newParams();
+        Value value = params.add("name_2342342");
+        params.bind("name", "Ada");
+        Assertions.assertEquals("Ada", value.get());
+    }
+
+    @Test
+    void shouldBindValuesApart() {
+        Params params = Params.newParams();
+        Value age = params.add("age");
+        Value name = params.add("name");
+        Params.Binding binding = params.newBinding().bind("age", 10);
+        Params.Binding copy = binding.copy().bind("name", "Ada");
+
+        assertSoftly(softly -> {
+            softly.assertThat(binding.unbound()).containsExactly("name");
+            softly.assertThat(copy.unbound()).isEmpty();
+            softly.assertThat(binding.resolve(age).get()).isEqualTo(10);
+            softly.assertThat(copy.resolve(name).get()).isEqualTo("Ada");
+            softly.assertThat(((ParamValue) age).isEmpty()).isTrue();
+            softly.assertThat(((ParamValue) name).isEmpty()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldResolveParamsInList() {
+        Params params = Params.newParams();
+        Value first = params.add("first");
+        Value second = params.add("second");
+        Params.Binding binding = params.newBinding().bind("first", 1).bind("second", 2);
+        Value other = Value.of(List.of(1, 2));
+
+        Value resolved = binding.resolve(Value.of(List.of(first, second, 3)));
+        List<?> nested = (List<?>) binding.resolve(Value.of(List.of(List.of(second)))).get();
+
+        assertSoftly(softly -> {
+            softly.assertThat(ValueUtil.convert(resolved)).isEqualTo(List.of(1, 2, 3));
+            softly.assertThat(((List<?>) nested.get(0)).get(0)).isInstanceOf(Value.class)
+                    .extracting(v -> ((Value) v).get()).isEqualTo(2);
+            softly.assertThat(binding.resolve(other)).isSameAs(other);
+            softly.assertThat(binding.resolve(Value.ofNull())).isSameAs(Value.ofNull());
+            softly.assertThat(Params.newParams().newBinding().resolve(first)).isSameAs(first);
+        });
+    }
+
     @Nested
     @DisplayName("Given an empty Params")
     class GivenEmptyParamsTest {
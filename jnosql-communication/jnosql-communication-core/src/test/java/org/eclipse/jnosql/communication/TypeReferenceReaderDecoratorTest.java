@@ -0,0 +1,66 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TypeReferenceReaderDecoratorTest {
+
+    private final TypeReferenceReaderDecorator reader = TypeReferenceReaderDecorator.getInstance();
+
+    @Test
+    @DisplayName("Should convert the type reference")
+    void shouldConvert() {
+        List<Integer> result = reader.convert(new TypeReference<List<Integer>>() {
+        }, List.of("10", "20"));
+        assertThat(result).containsExactly(10, 20);
+    }
+
+    @Test
+    @DisplayName("Should convert equal type references with the same reader")
+    void shouldConvertEqualTypes() {
+        List<Integer> first = reader.convert(new TypeReference<List<Integer>>() {
+        }, List.of("10"));
+        List<Integer> second = reader.convert(new TypeReference<List<Integer>>() {
+        }, List.of("20"));
+        assertThat(first).containsExactly(10);
+        assertThat(second).containsExactly(20);
+    }
+
+    @Test
+    @DisplayName("Should check for compatibility")
+    void shouldReturnIfIsCompatible() {
+        assertThat(reader.test(new TypeReference<Map<String, Integer>>() {
+        })).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should keep the result of an unsupported type")
+    void shouldReturnErrorWhenTypeIsNotSupported() {
+        TypeReference<Map<String, List<Integer>>> type = new TypeReference<>() {
+        };
+        assertThat(reader.test(type)).isFalse();
+        assertThatThrownBy(() -> reader.convert(type, Map.of()))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(reader.test(type)).isFalse();
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the conversions of {@link ValueReaderDecorator} and {@link ValueUtil}, which resolve the reader or
+ * writer once per type, against the previous path that scans all the readers and writers on every call.
+ *
+ * <p>Run it with the {@link #main(String[])} method from the test classpath.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueDispatchBenchmark {
+
+    private List<ValueReader> readers;
+
+    private List<ValueWriter<Object, Object>> writers;
+
+    private ValueReaderDecorator reader;
+
+    private Value value;
+
+    @Setup
+    public void setUp() {
+        readers = ServiceLoader.load(ValueReader.class).stream().map(ServiceLoader.Provider::get).toList();
+        writers = ValueWriter.<Object, Object>getWriters().toList();
+        reader = ValueReaderDecorator.getInstance();
+        value = Value.of(List.of(10, "Ada", LocalDate.of(2026, 1, 1), 10L));
+    }
+
+    @Benchmark
+    public Object readScan() {
+        ValueReader valueReader = readers.stream().filter(r -> r.test(LocalDate.class)).findFirst().orElseThrow();
+        return valueReader.read(LocalDate.class, "2026-01-01");
+    }
+
+    @Benchmark
+    public Object readDispatch() {
+        return reader.read(LocalDate.class, "2026-01-01");
+    }
+
+    @Benchmark
+    public Object readPrimitiveScan() {
+        ValueReader valueReader = readers.stream().filter(r -> r.test(int.class)).findFirst().orElseThrow();
+        return valueReader.read(int.class, 10);
+    }
+
+    @Benchmark
+    public Object readPrimitiveDispatch() {
+        return reader.read(int.class, 10);
+    }
+
+    @Benchmark
+    public Object writeScan() {
+        List<?> items = value.get(List.class);
+        return items.stream().map(item -> {
+            if (writers.stream().anyMatch(w -> w.test(item.getClass()))) {
+                return writers.stream().filter(w -> w.test(item.getClass())).findFirst().orElseThrow().write(item);
+            }
+            return item;
+        }).toList();
+    }
+
+    @Benchmark
+    public Object writeDispatch() {
+        return ValueUtil.convert(value);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ValueDispatchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
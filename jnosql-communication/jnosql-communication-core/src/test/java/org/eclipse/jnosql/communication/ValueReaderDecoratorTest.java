@@ -63,6 +63,38 @@ class ValueReaderDecoratorTest {
         assertFalse(serviceLoader.test(Bean.class));
     }
 
+    @Test
+    @DisplayName("Should return the wrapper of a primitive type as it is")
+    void shouldReturnWrapperOfPrimitive() {
+        Integer value = 10;
+        Object result = serviceLoader.read(int.class, value);
+        assertThat(result).isSameAs(value);
+    }
+
+    @Test
+    @DisplayName("Should throw UnsupportedOperationException when the primitive type has no wrapper")
+    void shouldReturnErrorWhenPrimitiveHasNoWrapper() {
+        assertThatThrownBy(() -> serviceLoader.read(void.class, "name"))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessage("The type void is not supported yet");
+    }
+
+    @Test
+    @DisplayName("Should convert to a primitive type")
+    void shouldConvertToPrimitive() {
+        Object result = serviceLoader.read(long.class, "10");
+        assertThat(result).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("Should keep the result of an unsupported type")
+    void shouldKeepUnsupportedType() {
+        assertThat(serviceLoader.test(Bean.class)).isFalse();
+        assertThatThrownBy(() -> serviceLoader.read(Bean.class, "name"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThat(serviceLoader.test(Bean.class)).isFalse();
+    }
+
     static class Bean {
         Bean() {
         }
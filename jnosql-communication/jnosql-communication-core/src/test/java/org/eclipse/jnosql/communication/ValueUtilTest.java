@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -75,6 +76,12 @@ class ValueUtilTest {
         Assertions.assertNull(result);
     }
 
+    @Test
+    void shouldConvertWithDefaultWriter() {
+        Value value = Value.of(Arrays.asList(Optional.of("Ada"), Optional.empty(), 10));
+        assertEquals(Arrays.asList("Ada", null, 10), ValueUtil.convert(value));
+    }
+
     @Test
     void shouldConvertWithCustomWriter() {
         ValueWriter<Integer, String> customWriter = new ValueWriter<>() {
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+/**
+ * The operations that a {@link BucketManager} executes natively in the database, instead of the fallback of the
+ * default methods. A driver declares them at {@link BucketManager#capabilities()}, then the callers can pick the
+ * cheapest path.
+ *
+ * <p>A capability that is not declared means it is unknown, not unsupported: the callers must keep the result
+ * correct either way.</p>
+ */
+public enum BucketCapability {
+
+    /**
+     * {@link BucketManager#getAll(Iterable)} reads the keys in one round trip, returning each value with its key.
+     */
+    GET_ALL
+}
@@ -20,7 +20,12 @@ package org.eclipse.jnosql.communication.keyvalue;
 import org.eclipse.jnosql.communication.Value;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Interface used to interact with the persistence context to {@link KeyValueEntity}
@@ -35,6 +40,29 @@ public interface BucketManager extends AutoCloseable {
      */
     String name();
 
+    /**
+     * Returns the operations that this manager executes natively in the database. The default
+     * implementation returns an empty set, so the callers use the default methods of this interface.
+     *
+     * @return the capabilities of this manager
+     * @see BucketCapability
+     */
+    default Set<BucketCapability> capabilities() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Checks if this manager executes the operation natively in the database.
+     *
+     * @param capability the capability
+     * @return true if the capability is declared at {@link #capabilities()}
+     * @throws NullPointerException when the capability is null
+     */
+    default boolean supports(BucketCapability capability) {
+        Objects.requireNonNull(capability, "capability is required");
+        return capabilities().contains(capability);
+    }
+
     /**
      * Associates the specified value with the specified key and then storage
      *
@@ -102,6 +130,30 @@ public interface BucketManager extends AutoCloseable {
      */
     <K> Iterable<Value> get(Iterable<K> keys);
 
+    /**
+     * Finds the entities of the keys, keeping each value with its key, in the order of the keys.
+     * The keys that are not found are skipped.
+     *
+     * <p>It is the multi-get of the drivers that declare {@link BucketCapability#GET_ALL}, which read the keys
+     * in one call. The default implementation is not a multi-get: it reads the keys one by one with
+     * {@link #get(Object)}, since {@link #get(Iterable)} does not tell which key each value belongs to.</p>
+     *
+     * @param keys the keys to be used in this query
+     * @param <K>  the key type
+     * @return the entities found, in the order of the keys
+     * @throws NullPointerException when either the keys or a key is null
+     */
+    default <K> List<KeyValueEntity> getAll(Iterable<K> keys) {
+        Objects.requireNonNull(keys, "keys is required");
+        List<K> values = new ArrayList<>();
+        keys.forEach(key -> values.add(Objects.requireNonNull(key, "key is required")));
+        List<KeyValueEntity> entities = new ArrayList<>(values.size());
+        for (K key : values) {
+            get(key).ifPresent(value -> entities.add(KeyValueEntity.of(key, value)));
+        }
+        return entities;
+    }
+
     /**
      * Removes an entity from key
      *
@@ -29,6 +29,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatement {
     private final List<Value> keys;
@@ -77,7 +78,7 @@ final class DefaultKeyValuePreparedStatement implements KeyValuePreparedStatemen
 
         switch (type) {
             case GET -> {
-                return keys.stream().map(Value::get).map(manager::get).filter(Optional::isPresent).map(Optional::get);
+                return StreamSupport.stream(manager.get(keys.stream().map(Value::get).toList()).spliterator(), false);
             }
             case DEL -> {
                 manager.delete(keys.stream().map(Value::get).collect(Collectors.toList()));
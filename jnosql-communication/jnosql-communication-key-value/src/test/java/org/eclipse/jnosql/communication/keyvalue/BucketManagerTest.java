@@ -0,0 +1,85 @@
+/*
+ *
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ *
+ */
+package org.eclipse.jnosql.communication.keyvalue;
+
+import org.eclipse.jnosql.communication.Value;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BucketManagerTest {
+
+    private BucketManager manager;
+
+    @BeforeEach
+    void setUp() {
+        manager = Mockito.mock(BucketManager.class, Mockito.CALLS_REAL_METHODS);
+    }
+
+    @Test
+    @DisplayName("Should read each key with its own value, skipping the keys not found")
+    void shouldReadKeysOneByOne() {
+        when(manager.get("a")).thenReturn(Optional.empty());
+        when(manager.get("b")).thenReturn(Optional.of(Value.of("two")));
+        when(manager.get("c")).thenReturn(Optional.of(Value.of("three")));
+
+        List<KeyValueEntity> entities = manager.getAll(List.of("a", "b", "c"));
+
+        assertThat(entities).containsExactly(KeyValueEntity.of("b", "two"), KeyValueEntity.of("c", "three"));
+        verify(manager, never()).get(List.of("a", "b", "c"));
+    }
+
+    @Test
+    @DisplayName("Should not call the database when there is no key")
+    void shouldReturnEmptyWhenKeysAreEmpty() {
+        assertThat(manager.getAll(List.of())).isEmpty();
+        verify(manager, never()).get(Mockito.any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should throw NullPointerException when a key is null")
+    void shouldReturnErrorWhenKeyIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> manager.getAll(Arrays.asList("a", null)))
+                .withMessage("key is required");
+    }
+
+    @Test
+    @DisplayName("Should not declare any capability by default")
+    void shouldNotSupportGetAllByDefault() {
+        assertThat(manager.capabilities()).isEmpty();
+        assertThat(manager.supports(BucketCapability.GET_ALL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should check the declared capabilities")
+    void shouldSupportDeclaredCapability() {
+        when(manager.capabilities()).thenReturn(Set.of(BucketCapability.GET_ALL));
+        assertThat(manager.supports(BucketCapability.GET_ALL)).isTrue();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.DefaultErrorStrategy;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Runs an ANTLR parser with the two-stage strategy: it first tries the faster {@link PredictionMode#SLL}
+ * prediction with a {@link BailErrorStrategy}, and only when it fails, it parses the query again with the
+ * full {@link PredictionMode#LL} prediction and the {@link QueryErrorListener}, which reports the syntax error.
+ * A query that succeeds with SLL has the same parse tree it would have with LL.
+ *
+ * <p>The parser, the lexer and the token stream are reused across the calls, so it is meant to be used
+ * with per-thread instances; each parser has its own {@link BailErrorStrategy}, as the error strategies keep the
+ * state of the current parse. The DFA cache is held statically by the generated parsers, so it is shared
+ * between all the instances.</p>
+ */
+public final class TwoStageParser {
+
+    private TwoStageParser() {
+    }
+
+    /**
+     * Creates the parser that {@link #parse(Parser, CharStream, Function)} expects, wiring the lexer
+     * and the token stream to it and registering the {@link QueryErrorListener} at the lexer.
+     *
+     * @param lexer  the lexer factory from the input
+     * @param parser the parser factory from the token stream
+     * @param <P>    the parser type
+     * @return the parser instance
+     */
+    public static <P extends Parser> P create(Function<CharStream, Lexer> lexer, Function<CommonTokenStream, P> parser) {
+        Objects.requireNonNull(lexer, "lexer is required");
+        Objects.requireNonNull(parser, "parser is required");
+        var instance = lexer.apply(CharStreams.fromString(""));
+        instance.removeErrorListeners();
+        instance.addErrorListener(QueryErrorListener.INSTANCE);
+        P created = parser.apply(new CommonTokenStream(instance));
+        created.setErrorHandler(new BailErrorStrategy());
+        return created;
+    }
+
+    /**
+     * Parses the input with the given parser, see {@link #create(Function, Function)}.
+     *
+     * @param parser the parser, its token source must be the lexer of the grammar
+     * @param input  the query to parse
+     * @param rule   the rule used as the start of the parse tree
+     * @param <P>    the parser type
+     * @param <T>    the parse tree type
+     * @return the parse tree
+     * @throws org.eclipse.jnosql.communication.QueryException when there is a syntax error
+     */
+    public static <P extends Parser, T extends ParseTree> T parse(P parser, CharStream input, Function<P, T> rule) {
+        Objects.requireNonNull(parser, "parser is required");
+        Objects.requireNonNull(input, "input is required");
+        Objects.requireNonNull(rule, "rule is required");
+
+        var tokens = (CommonTokenStream) parser.getTokenStream();
+        var lexer = (Lexer) tokens.getTokenSource();
+        lexer.setInputStream(input);
+        tokens.setTokenSource(lexer);
+        parser.setTokenStream(tokens);
+        parser.removeErrorListeners();
+        if (!(parser.getErrorHandler() instanceof BailErrorStrategy)) {
+            parser.setErrorHandler(new BailErrorStrategy());
+        }
+        parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+        try {
+            return rule.apply(parser);
+        } catch (ParseCancellationException exception) {
+            tokens.seek(0);
+            parser.reset();
+            parser.addErrorListener(QueryErrorListener.INSTANCE);
+            parser.setErrorHandler(new DefaultErrorStrategy());
+            parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+            return rule.apply(parser);
+        }
+    }
+}
@@ -11,12 +11,10 @@
  */
 package org.eclipse.jnosql.communication.query.data;
 
-import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
-import org.eclipse.jnosql.communication.query.QueryErrorListener;
+import org.eclipse.jnosql.communication.query.TwoStageParser;
 import org.eclipse.jnosql.query.grammar.data.JDQLBaseListener;
 import org.eclipse.jnosql.query.grammar.data.JDQLLexer;
 import org.eclipse.jnosql.query.grammar.data.JDQLParser;
@@ -24,19 +22,11 @@ import org.eclipse.jnosql.query.grammar.data.JDQLParser;
 
 abstract class AbstractJDQLProvider extends JDQLBaseListener {
 
-    protected void runQuery(String query) {
-
-        CharStream stream = CharStreams.fromString(query);
-        JDQLLexer lexer = new JDQLLexer(stream);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
+    private static final ThreadLocal<JDQLParser> PARSER = ThreadLocal.withInitial(() ->
+            TwoStageParser.create(JDQLLexer::new, JDQLParser::new));
 
-        JDQLParser parser = new JDQLParser(tokens);
-        lexer.removeErrorListeners();
-        parser.removeErrorListeners();
-        lexer.addErrorListener(QueryErrorListener.INSTANCE);
-        parser.addErrorListener(QueryErrorListener.INSTANCE);
-
-        var tree = getTree(parser);
+    protected void runQuery(String query) {
+        var tree = TwoStageParser.parse(PARSER.get(), CharStreams.fromString(query), this::getTree);
         ParseTreeWalker.DEFAULT.walk(this, tree);
     }
 
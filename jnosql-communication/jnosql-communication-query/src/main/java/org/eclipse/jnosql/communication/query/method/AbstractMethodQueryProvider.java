@@ -11,9 +11,7 @@
  */
 package org.eclipse.jnosql.communication.query.method;
 
-import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CharStreams;
-import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.tree.ParseTree;
 import org.antlr.v4.runtime.tree.ParseTreeWalker;
 import org.eclipse.jnosql.communication.Condition;
@@ -22,8 +20,8 @@ import org.eclipse.jnosql.communication.query.BooleanQueryValue;
 import org.eclipse.jnosql.communication.query.ConditionQueryValue;
 import org.eclipse.jnosql.communication.query.ParamQueryValue;
 import org.eclipse.jnosql.communication.query.QueryCondition;
-import org.eclipse.jnosql.communication.query.QueryErrorListener;
 import org.eclipse.jnosql.communication.query.StringQueryValue;
+import org.eclipse.jnosql.communication.query.TwoStageParser;
 import org.eclipse.jnosql.communication.query.Where;
 import org.eclipse.jnosql.query.grammar.method.MethodBaseListener;
 import org.eclipse.jnosql.query.grammar.method.MethodLexer;
@@ -54,6 +52,10 @@ import static org.eclipse.jnosql.communication.Condition.OR;
 abstract class AbstractMethodQueryProvider extends MethodBaseListener {
 
     private static final String SUB_ENTITY_FLAG = "_";
+
+    private static final ThreadLocal<MethodParser> PARSER = ThreadLocal.withInitial(() ->
+            TwoStageParser.create(MethodLexer::new, MethodParser::new));
+
     protected Where where;
 
     protected QueryCondition condition;
@@ -64,18 +66,8 @@ abstract class AbstractMethodQueryProvider extends MethodBaseListener {
 
     protected void runQuery(String query) {
 
-        CharStream stream = CharStreams.fromString(query);
-        MethodLexer lexer = new MethodLexer(stream);
-        CommonTokenStream tokens = new CommonTokenStream(lexer);
-        MethodParser parser = new MethodParser(tokens);
-        lexer.removeErrorListeners();
-        parser.removeErrorListeners();
-        lexer.addErrorListener(QueryErrorListener.INSTANCE);
-        parser.addErrorListener(QueryErrorListener.INSTANCE);
-
-        ParseTree tree = getParserTree().apply(parser);
-        ParseTreeWalker walker = new ParseTreeWalker();
-        walker.walk(this, tree);
+        ParseTree tree = TwoStageParser.parse(PARSER.get(), CharStreams.fromString(query), getParserTree());
+        ParseTreeWalker.DEFAULT.walk(this, tree);
 
         if (Objects.nonNull(condition)) {
             this.where = Where.of(condition);
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *  All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ *  and Apache License v2.0 which accompanies this distribution.
+ *  The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *  and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *  You may elect to redistribute this code under either of these licenses.
+ *  Contributors:
+ *  Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query;
+
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.query.grammar.data.JDQLLexer;
+import org.eclipse.jnosql.query.grammar.data.JDQLParser;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TwoStageParserTest {
+
+    private final JDQLParser parser = TwoStageParser.create(JDQLLexer::new, JDQLParser::new);
+
+    @Test
+    void shouldParseWithSLL() {
+        var tree = TwoStageParser.parse(parser, CharStreams.fromString("FROM Person WHERE age > 10"),
+                JDQLParser::select_statement);
+        assertThat(tree.from_clause().entity_name().getText()).isEqualTo("Person");
+        assertThat(parser.getInterpreter().getPredictionMode()).isEqualTo(PredictionMode.SLL);
+    }
+
+    @Test
+    void shouldReportSyntaxErrorAfterFallback() {
+        assertThatThrownBy(() -> TwoStageParser.parse(parser, CharStreams.fromString("FROM Person WHERE age >"),
+                JDQLParser::select_statement))
+                .isInstanceOf(QueryException.class)
+                .hasMessageStartingWith("line 1:");
+        assertThat(parser.getInterpreter().getPredictionMode()).isEqualTo(PredictionMode.LL);
+    }
+
+    @Test
+    void shouldReuseParserAfterError() {
+        assertThatThrownBy(() -> TwoStageParser.parse(parser, CharStreams.fromString("DELETE Person WHERE"),
+                JDQLParser::delete_statement))
+                .isInstanceOf(QueryException.class);
+
+        var tree = TwoStageParser.parse(parser, CharStreams.fromString("DELETE FROM Person WHERE name = 'Ada'"),
+                JDQLParser::delete_statement);
+        assertThat(tree.from_clause().entity_name().getText()).isEqualTo("Person");
+        assertThat(tree.where_clause()).isNotNull();
+    }
+
+    @Test
+    void shouldNotShareTheErrorStrategy() {
+        var other = TwoStageParser.create(JDQLLexer::new, JDQLParser::new);
+        assertThat(parser.getErrorHandler()).isInstanceOf(BailErrorStrategy.class)
+                .isNotSameAs(other.getErrorHandler());
+    }
+}
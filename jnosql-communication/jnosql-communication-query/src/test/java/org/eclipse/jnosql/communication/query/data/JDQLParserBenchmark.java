@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.query.data;
+
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.eclipse.jnosql.communication.query.QueryErrorListener;
+import org.eclipse.jnosql.communication.query.TwoStageParser;
+import org.eclipse.jnosql.query.grammar.data.JDQLLexer;
+import org.eclipse.jnosql.query.grammar.data.JDQLParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the single-stage LL parsing, with a new lexer and parser per query, against the
+ * {@link TwoStageParser} used by the JDQL providers. When {@code cold} is true, the shared DFA cache is
+ * cleared before each invocation, so every parse pays the full ATN simulation.
+ *
+ * <p>Run it with the {@link #main(String[])} method from the test classpath.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JDQLParserBenchmark {
+
+    @Param({"true", "false"})
+    private boolean cold;
+
+    @Param({
+            "FROM Person WHERE age > 10 AND name = 'Ada' ORDER BY name DESC",
+            "SELECT name, age FROM Person WHERE (age BETWEEN 10 AND 20 OR name LIKE 'A%') AND active = TRUE",
+            "UPDATE Person SET name = :name, age = :age WHERE id = :id"
+    })
+    private String query;
+
+    private JDQLParser parser;
+
+    @Setup(Level.Trial)
+    public void setUpParser() {
+        parser = TwoStageParser.create(JDQLLexer::new, JDQLParser::new);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearDFA() {
+        if (cold) {
+            parser.getInterpreter().clearDFA();
+        }
+    }
+
+    @Benchmark
+    public Object singleStageLL() {
+        var lexer = new JDQLLexer(CharStreams.fromString(query));
+        var tokens = new CommonTokenStream(lexer);
+        var legacy = new JDQLParser(tokens);
+        lexer.removeErrorListeners();
+        legacy.removeErrorListeners();
+        lexer.addErrorListener(QueryErrorListener.INSTANCE);
+        legacy.addErrorListener(QueryErrorListener.INSTANCE);
+        return legacy.statement();
+    }
+
+    @Benchmark
+    public Object twoStage() {
+        return TwoStageParser.parse(parser, CharStreams.fromString(query), JDQLParser::statement);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JDQLParserBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
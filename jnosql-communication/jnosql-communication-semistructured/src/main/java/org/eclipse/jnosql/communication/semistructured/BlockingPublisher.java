@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * A cold {@link Flow.Publisher} over a blocking {@link Stream}: each subscription opens its own stream at the
+ * first request and pulls from it on the {@link Executor}, only as many elements as the subscriber requested.
+ * The stream is closed when it is exhausted, when it fails or when the subscription is cancelled.
+ *
+ * <p>The signals of a subscription are serialized: at most one task of the subscription runs at a time, and a
+ * request made while it runs is drained by that same task.</p>
+ *
+ * @param <T> the element type
+ */
+final class BlockingPublisher<T> implements Flow.Publisher<T> {
+
+    private final Supplier<Stream<T>> source;
+
+    private final Executor executor;
+
+    BlockingPublisher(Supplier<Stream<T>> source, Executor executor) {
+        this.source = source;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        subscriber.onSubscribe(new BlockingSubscription<>(subscriber, source, executor));
+    }
+
+    private static final class BlockingSubscription<T> implements Flow.Subscription, Runnable {
+
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final Supplier<Stream<T>> source;
+
+        private final Executor executor;
+
+        private final AtomicLong requested = new AtomicLong();
+
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        private volatile boolean invalid;
+
+        private boolean done;
+
+        private Stream<T> stream;
+
+        private Iterator<T> iterator;
+
+        private BlockingSubscription(Flow.Subscriber<? super T> subscriber, Supplier<Stream<T>> source,
+                                     Executor executor) {
+            this.subscriber = subscriber;
+            this.source = source;
+            this.executor = executor;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalid = true;
+            } else {
+                requested.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                drain();
+                missed = pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void schedule() {
+            if (pending.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch (RejectedExecutionException exception) {
+                    cancelled = true;
+                    subscriber.onError(exception);
+                }
+            }
+        }
+
+        private void drain() {
+            if (done) {
+                return;
+            }
+            if (cancelled) {
+                finish();
+                return;
+            }
+            if (invalid) {
+                finish();
+                subscriber.onError(new IllegalArgumentException("The number of requested elements must be positive"));
+                return;
+            }
+            try {
+                if (iterator == null) {
+                    stream = source.get();
+                    iterator = stream.iterator();
+                }
+                while (requested.get() > 0) {
+                    if (cancelled) {
+                        finish();
+                        return;
+                    }
+                    if (!iterator.hasNext()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                    T next = iterator.next();
+                    requested.getAndUpdate(current -> current == Long.MAX_VALUE ? current : current - 1);
+                    subscriber.onNext(next);
+                }
+                if (!iterator.hasNext() && !cancelled) {
+                    finish();
+                    subscriber.onComplete();
+                }
+            } catch (RuntimeException exception) {
+                finish();
+                subscriber.onError(exception);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            if (stream != null) {
+                stream.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.BlockingExecutor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The {@link ReactiveDatabaseManager} of a blocking {@link DatabaseManager}: every operation is a
+ * {@link BlockingPublisher} that calls the manager on the executor.
+ */
+final class BlockingReactiveDatabaseManager implements ReactiveDatabaseManager {
+
+    private final DatabaseManager manager;
+
+    private final Executor executor;
+
+    BlockingReactiveDatabaseManager(DatabaseManager manager, Executor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    @Override
+    public String name() {
+        return manager.name();
+    }
+
+    @Override
+    public Flow.Publisher<CommunicationEntity> insert(CommunicationEntity entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return new BlockingPublisher<>(() -> Stream.of(manager.insert(entity)), executor);
+    }
+
+    @Override
+    public Flow.Publisher<CommunicationEntity> insert(Iterable<CommunicationEntity> entities) {
+        Objects.requireNonNull(entities, "entities is required");
+        return new BlockingPublisher<>(() -> chunks(entities.iterator())
+                .flatMap(chunk -> StreamSupport.stream(manager.insert(chunk).spliterator(), false)), executor);
+    }
+
+    @Override
+    public Flow.Publisher<Void> delete(DeleteQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return new BlockingPublisher<>(() -> {
+            manager.delete(query);
+            return Stream.empty();
+        }, executor);
+    }
+
+    @Override
+    public Flow.Publisher<CommunicationEntity> select(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return new BlockingPublisher<>(() -> manager.select(query), executor);
+    }
+
+    @Override
+    public String toString() {
+        return "BlockingReactiveDatabaseManager{" + "manager=" + manager + '}';
+    }
+
+    static Executor defaultExecutor() {
+        return BlockingExecutor.INSTANCE;
+    }
+
+    /**
+     * Splits the entities in lists of {@link ChunkedUpdate#CHUNK_SIZE}, each list is read from the iterator
+     * only when the stream reaches it.
+     */
+    private static Stream<List<CommunicationEntity>> chunks(Iterator<CommunicationEntity> entities) {
+        Iterator<List<CommunicationEntity>> chunks = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return entities.hasNext();
+            }
+
+            @Override
+            public List<CommunicationEntity> next() {
+                if (!entities.hasNext()) {
+                    throw new NoSuchElementException("There are no more entities to insert");
+                }
+                List<CommunicationEntity> chunk = new ArrayList<>(ChunkedUpdate.CHUNK_SIZE);
+                while (entities.hasNext() && chunk.size() < ChunkedUpdate.CHUNK_SIZE) {
+                    chunk.add(Objects.requireNonNull(entities.next(), "entity is required"));
+                }
+                return chunk;
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.Params;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the queries of one execution of a {@link CommunicationPreparedStatement}: the params in the conditions
+ * and in the updated elements are replaced by the values of a {@link Params.Binding}. The parsed query is not
+ * changed, so it can be shared by several executions, and the parts without params are reused.
+ */
+final class BoundQueries {
+
+    private BoundQueries() {
+    }
+
+    static SelectQuery select(SelectQuery query, Params.Binding binding) {
+        CriteriaCondition condition = query.condition().orElse(null);
+        CriteriaCondition bound = condition(condition, binding);
+        if (bound == condition) {
+            return query;
+        }
+        return new DefaultSelectQuery(query.limit(), query.skip(), query.name(), query.columns(), query.sorts(),
+                bound, query.isCount());
+    }
+
+    static DeleteQuery delete(DeleteQuery query, Params.Binding binding) {
+        CriteriaCondition condition = query.condition().orElse(null);
+        CriteriaCondition bound = condition(condition, binding);
+        if (bound == condition) {
+            return query;
+        }
+        return new DefaultDeleteQuery(query.name(), bound, query.columns());
+    }
+
+    static UpdateQuery update(UpdateQuery query, Params.Binding binding) {
+        CriteriaCondition condition = query.condition().orElse(null);
+        CriteriaCondition bound = condition(condition, binding);
+        List<Element> set = new ArrayList<>(query.set().size());
+        boolean changed = bound != condition;
+        for (Element element : query.set()) {
+            Element boundElement = element(element, binding);
+            changed |= boundElement != element;
+            set.add(boundElement);
+        }
+        if (!changed) {
+            return query;
+        }
+        return new DefaultUpdateQuery(query.name(), set, bound);
+    }
+
+    static CriteriaCondition condition(CriteriaCondition condition, Params.Binding binding) {
+        if (condition == null) {
+            return null;
+        }
+        Element element = condition.element();
+        Element bound = switch (condition.condition()) {
+            case AND, OR -> conditions(element, binding);
+            case NOT -> {
+                CriteriaCondition negated = (CriteriaCondition) element.get();
+                CriteriaCondition boundNegated = condition(negated, binding);
+                yield boundNegated == negated ? element : Element.of(element.name(), boundNegated);
+            }
+            default -> element(element, binding);
+        };
+        return bound == element ? condition : CriteriaCondition.of(bound, condition.condition());
+    }
+
+    private static Element conditions(Element element, Params.Binding binding) {
+        List<?> conditions = (List<?>) element.get();
+        List<CriteriaCondition> bound = new ArrayList<>(conditions.size());
+        boolean changed = false;
+        for (Object item : conditions) {
+            CriteriaCondition condition = (CriteriaCondition) item;
+            CriteriaCondition boundCondition = condition(condition, binding);
+            changed |= boundCondition != condition;
+            bound.add(boundCondition);
+        }
+        return changed ? Element.of(element.name(), bound) : element;
+    }
+
+    private static Element element(Element element, Params.Binding binding) {
+        Value value = element.value();
+        Value bound = binding.resolve(value);
+        return bound == value ? element : Element.of(element.name(), bound);
+    }
+}
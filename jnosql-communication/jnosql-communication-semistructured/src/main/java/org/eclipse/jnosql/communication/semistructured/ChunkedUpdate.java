@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import jakarta.data.Sort;
+import jakarta.data.page.CursoredPage;
+import jakarta.data.page.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * The in-memory fallback of {@link DatabaseManager#update(UpdateQuery)} and
+ * {@link DatabaseManager#updateCount(UpdateQuery)}: it applies the new values to the matching entities and
+ * writes them back with {@link DatabaseManager#update(Iterable)} in chunks of {@link #CHUNK_SIZE}, so only one
+ * chunk is pending at a time instead of the whole result.
+ *
+ * <p>The matching entities are either read from a single stream or, when a key is given, page by page with
+ * keyset pagination through {@link CursorExecutor}, so each select reads at most one chunk even when the driver
+ * loads its whole result in memory.</p>
+ */
+final class ChunkedUpdate {
+
+    /**
+     * The number of entities sent in each {@link DatabaseManager#update(Iterable)}.
+     */
+    static final int CHUNK_SIZE = 100;
+
+    private ChunkedUpdate() {
+    }
+
+    /**
+     * Updates the entities of the query, read from a single stream, and returns the updated entities.
+     */
+    static List<CommunicationEntity> execute(DatabaseManager manager, UpdateQuery query) {
+        List<CommunicationEntity> updated = new ArrayList<>();
+        stream(manager, query, chunk -> {
+            long size = 0;
+            for (CommunicationEntity entity : manager.update(chunk)) {
+                updated.add(entity);
+                size++;
+            }
+            return size;
+        });
+        return updated;
+    }
+
+    /**
+     * Updates the entities of the query, read from a single stream, and returns how many were updated.
+     */
+    static long count(DatabaseManager manager, UpdateQuery query) {
+        return stream(manager, query, chunk -> size(manager.update(chunk)));
+    }
+
+    /**
+     * Updates the entities of the query, read page by page in the ascending order of the key, and returns how
+     * many were updated. The key must not be one of the updated elements, otherwise the pages would move.
+     */
+    static long count(DatabaseManager manager, UpdateQuery query, String key) {
+        SelectQuery select = new DefaultSelectQuery(0, 0, query.name(), Collections.emptyList(),
+                List.of(Sort.asc(key)), query.condition().orElse(null), false);
+        long updated = 0;
+        PageRequest pageRequest = PageRequest.ofSize(CHUNK_SIZE);
+        while (pageRequest != null) {
+            CursoredPage<CommunicationEntity> page = CursorExecutor.of(pageRequest.mode())
+                    .cursor(select, pageRequest, manager);
+            List<CommunicationEntity> chunk = page.content().stream().map(ChunkedUpdate::mutable).toList();
+            chunk.forEach(entity -> entity.addAll(query.set()));
+            if (!chunk.isEmpty()) {
+                updated += size(manager.update(chunk));
+            }
+            pageRequest = chunk.size() == CHUNK_SIZE && page.hasNext() ? page.nextPageRequest() : null;
+        }
+        return updated;
+    }
+
+    /**
+     * Checks if the query updates the key, thus the keyset pagination cannot be used.
+     */
+    static boolean updatesKey(UpdateQuery query, String key) {
+        return query.set().stream().anyMatch(element -> element.name().equals(key));
+    }
+
+    static long size(Iterable<CommunicationEntity> entities) {
+        if (entities instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        return StreamSupport.stream(entities.spliterator(), false).count();
+    }
+
+    /**
+     * The read-only entities of {@link CommunicationEntity#builder(String, ElementNames)} are copied before
+     * the new values are applied.
+     */
+    private static CommunicationEntity mutable(CommunicationEntity entity) {
+        return entity instanceof CompactCommunicationEntity ? entity.copy() : entity;
+    }
+
+    /**
+     * Each chunk is a new list, as the manager may keep the one it receives, e.g., to write it lazily.
+     */
+    private static long stream(DatabaseManager manager, UpdateQuery query,
+                               ToLongFunction<List<CommunicationEntity>> writer) {
+        long updated = 0;
+        List<CommunicationEntity> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (Stream<CommunicationEntity> entities = manager.select(query.toSelectQuery())) {
+            Iterator<CommunicationEntity> iterator = entities.iterator();
+            while (iterator.hasNext()) {
+                CommunicationEntity entity = mutable(iterator.next());
+                entity.addAll(query.set());
+                chunk.add(entity);
+                if (chunk.size() == CHUNK_SIZE) {
+                    updated += writer.applyAsLong(chunk);
+                    chunk = new ArrayList<>(CHUNK_SIZE);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            updated += writer.applyAsLong(chunk);
+        }
+        return updated;
+    }
+}
@@ -16,6 +16,7 @@ import org.eclipse.jnosql.communication.TypeSupplier;
 import org.eclipse.jnosql.communication.Value;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -45,12 +46,26 @@ import static java.util.stream.Collectors.toList;
  */
 public class CommunicationEntity {
 
-    private final Map<String, Element> elements = new HashMap<>();
+    private final Map<String, Element> elements;
 
     private final String name;
 
     CommunicationEntity(String name) {
         this.name = name;
+        this.elements = new HashMap<>();
+    }
+
+    private CommunicationEntity(String name, int size) {
+        this.name = name;
+        if (size < 0) {
+            throw new IllegalArgumentException("size must be zero or positive: " + size);
+        }
+        this.elements = new HashMap<>((int) (size / 0.75f) + 1);
+    }
+
+    CommunicationEntity(String name, Map<String, Element> elements) {
+        this.name = name;
+        this.elements = elements;
     }
 
 
@@ -313,6 +328,20 @@ public class CommunicationEntity {
         return new CommunicationEntity(requireNonNull(name, "name is required"));
     }
 
+    /**
+     * Creates a new instance of CommunicationEntity with the specified name, sized to hold the expected
+     * number of elements without resizing.
+     *
+     * @param name the name of the communication entity
+     * @param size the expected number of elements
+     * @return a new CommunicationEntity instance
+     * @throws NullPointerException     if the provided name is {@code null}
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public static CommunicationEntity of(String name, int size) {
+        return new CommunicationEntity(requireNonNull(name, "name is required"), size);
+    }
+
     /**
      * Creates a new instance of CommunicationEntity with the specified name and elements.
      *
@@ -327,6 +356,90 @@ public class CommunicationEntity {
         return communicationEntity;
     }
 
+    /**
+     * Creates a builder of read-only entities whose elements are limited to the names of the dictionary.
+     * The built entity keeps its values in an array, in the positions of the dictionary, and creates the
+     * {@link Element} instances on access, thus it is lighter than the mutable entity on read paths, where
+     * a driver converts many rows of the same type. Its modification methods throw
+     * {@link UnsupportedOperationException}, and {@link #copy()} returns a mutable entity.
+     *
+     * @param name  the name of the communication entity
+     * @param names the dictionary of element names, shared by the entities of the same type
+     * @return a new {@link Builder}
+     * @throws NullPointerException if the name or the dictionary is {@code null}
+     * @see ElementNames
+     */
+    public static Builder builder(String name, ElementNames names) {
+        return new Builder(requireNonNull(name, "name is required"), requireNonNull(names, "names is required"));
+    }
+
+    /**
+     * The builder of read-only {@link CommunicationEntity} instances, created by
+     * {@link CommunicationEntity#builder(String, ElementNames)}. After {@link #build()}, the builder starts
+     * a new entity, so a driver can reuse it for each row of the same type.
+     *
+     * <p>This class is not thread-safe.</p>
+     */
+    public static final class Builder {
+
+        private final String name;
+
+        private final ElementNames names;
+
+        private final Object[] values;
+
+        private Builder(String name, ElementNames names) {
+            this.name = name;
+            this.names = names;
+            this.values = new Object[names.size()];
+            Arrays.fill(values, CompactCommunicationEntity.ABSENT);
+        }
+
+        /**
+         * Sets the value at the position of the dictionary.
+         *
+         * @param index the position of the name in the dictionary
+         * @param value the value, it might be a {@link Value} or null
+         * @return this builder
+         * @throws IndexOutOfBoundsException when the index is out of the dictionary
+         */
+        public Builder add(int index, Object value) {
+            Objects.checkIndex(index, values.length);
+            values[index] = value;
+            return this;
+        }
+
+        /**
+         * Sets the value of the name.
+         *
+         * @param name  the name of the element
+         * @param value the value, it might be a {@link Value} or null
+         * @return this builder
+         * @throws NullPointerException     when the name is null
+         * @throws IllegalArgumentException when the name is not in the dictionary
+         */
+        public Builder add(String name, Object value) {
+            int index = names.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("The element name is not in the dictionary: " + name);
+            }
+            values[index] = value;
+            return this;
+        }
+
+        /**
+         * Creates the read-only entity with the values set since the last build; the names without a value
+         * are not elements of the entity.
+         *
+         * @return a new read-only {@link CommunicationEntity}
+         */
+        public CommunicationEntity build() {
+            CommunicationEntity entity = new CompactCommunicationEntity(name, names, values);
+            Arrays.fill(values, CompactCommunicationEntity.ABSENT);
+            return entity;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private Object convert(Object value) {
         if (value instanceof Element) {
@@ -26,11 +26,24 @@ import java.util.stream.StreamSupport;
 
 /**
  * Represents a precompiled query statement.
+ *
+ * <p>The bound values are kept apart from the parsed query, so a statement can be executed several times, and
+ * {@link #copy()} creates another statement of the same parsed query without parsing it again. A statement is
+ * not thread-safe: to execute a query concurrently, prepare it once and bind and execute a copy in each
+ * thread.</p>
  */
 public final class CommunicationPreparedStatement {
 
     private static final UnaryOperator<SelectQuery> SELECT_MAPPER_DEFAULT = s -> s;
 
+    /**
+     * A single result only needs two entities to find out that the result is not unique, so the select
+     * does not read the remaining ones.
+     */
+    private static final UnaryOperator<SelectQuery> SINGLE_RESULT_LIMIT = s -> s.limit() > 0 && s.limit() <= 2 ? s
+            : new DefaultSelectQuery(2, s.skip(), s.name(), s.columns(), s.sorts(), s.condition().orElse(null),
+            s.isCount());
+
     private final SelectQuery selectQuery;
 
     private final DeleteQuery deleteQuery;
@@ -39,11 +52,9 @@ public final class CommunicationPreparedStatement {
 
     private final PreparedStatementType type;
 
-    private final Params params;
-
     private final String query;
 
-    private final List<String> paramsLeft;
+    private final Params.Binding binding;
 
     private final DatabaseManager manager;
 
@@ -53,17 +64,15 @@ public final class CommunicationPreparedStatement {
                                            DeleteQuery deleteQuery,
                                            UpdateQuery updateQuery,
                                            PreparedStatementType type,
-                                           Params params,
                                            String query,
-                                           List<String> paramsLeft,
+                                           Params.Binding binding,
                                            DatabaseManager manager) {
         this.selectQuery = selectQuery;
         this.deleteQuery = deleteQuery;
         this.updateQuery = updateQuery;
         this.type = type;
-        this.params = params;
         this.query = query;
-        this.paramsLeft = paramsLeft;
+        this.binding = binding;
         this.manager = manager;
     }
 
@@ -79,8 +88,7 @@ public final class CommunicationPreparedStatement {
         Objects.requireNonNull(name, "name is required");
         Objects.requireNonNull(value, "value is required");
 
-        paramsLeft.remove(name);
-        params.bind(name, value);
+        binding.bind(name, value);
         return this;
     }
 
@@ -100,19 +108,76 @@ public final class CommunicationPreparedStatement {
             throw new IllegalArgumentException("The index should be greater than zero");
         }
 
-        var name = "?" + index;
-        paramsLeft.remove("?" + index);
-        params.bind(name, value);
+        binding.bind("?" + index, value);
         return this;
     }
 
     /**
-     * Returns the select query if present.
+     * Creates a statement of the same parsed query, with the values bound so far and the same operator.
+     * The copy is independent of this statement, thus binding values in one does not change the other.
+     *
+     * @return a new statement
+     */
+    public CommunicationPreparedStatement copy() {
+        var statement = new CommunicationPreparedStatement(selectQuery, deleteQuery, updateQuery, type, query,
+                binding.copy(), manager);
+        statement.selectMapper = this.selectMapper;
+        return statement;
+    }
+
+    /**
+     * Returns the select query if present, with the values bound so far.
      *
      * @return the select query
      */
     public Optional<SelectQuery> select() {
-        return Optional.ofNullable(selectQuery);
+        return Optional.ofNullable(selectQuery).map(q -> BoundQueries.select(q, binding));
+    }
+
+    /**
+     * Returns the update query if present, with the values bound so far.
+     *
+     * @return the update query
+     */
+    public Optional<UpdateQuery> update() {
+        return Optional.ofNullable(updateQuery).map(q -> BoundQueries.update(q, binding));
+    }
+
+    /**
+     * Executes the update query and returns only the number of updated entities.
+     *
+     * @return the number of updated entities
+     * @throws QueryException if there are parameters left to bind
+     * @throws IllegalArgumentException if the operation is not an update operation
+     * @see DatabaseManager#updateCount(UpdateQuery)
+     */
+    public long updateCount() {
+        checkUpdate();
+        return manager.updateCount(BoundQueries.update(updateQuery, binding));
+    }
+
+    /**
+     * Executes the update query, reading the entities page by page on the key, and returns only the number of
+     * updated entities.
+     *
+     * @param key the name of a unique element used to order the pages, usually the id
+     * @return the number of updated entities
+     * @throws QueryException if there are parameters left to bind
+     * @throws IllegalArgumentException if the operation is not an update operation
+     * @throws NullPointerException when the key is null
+     * @see DatabaseManager#updateCount(UpdateQuery, String)
+     */
+    public long updateCount(String key) {
+        Objects.requireNonNull(key, "key is required");
+        checkUpdate();
+        return manager.updateCount(BoundQueries.update(updateQuery, binding), key);
+    }
+
+    private void checkUpdate() {
+        checkParams();
+        if (!PreparedStatementType.UPDATE.equals(type)) {
+            throw new IllegalArgumentException("The update count is only allowed for UPDATE queries");
+        }
     }
 
     /**
@@ -122,19 +187,22 @@ public final class CommunicationPreparedStatement {
      * @throws QueryException if there are parameters left to bind
      */
     public Stream<CommunicationEntity> result() {
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        return result(operator());
+    }
+
+    private Stream<CommunicationEntity> result(UnaryOperator<SelectQuery> selectOperator) {
+        checkParams();
         switch (type) {
             case SELECT -> {
-                return manager.select(operator().apply(selectQuery));
+                return manager.select(selectOperator.apply(BoundQueries.select(selectQuery, binding)));
             }
             case DELETE -> {
-                manager.delete(deleteQuery);
+                manager.delete(BoundQueries.delete(deleteQuery, binding));
                 return Stream.empty();
             }
             case UPDATE -> {
-                return StreamSupport.stream(manager.update(updateQuery).spliterator(), false);
+                return StreamSupport.stream(manager.update(BoundQueries.update(updateQuery, binding)).spliterator(),
+                        false);
             }
             default -> throw new UnsupportedOperationException("there is not support to operation type: " + type);
         }
@@ -167,11 +235,9 @@ public final class CommunicationPreparedStatement {
      * @throws IllegalArgumentException if the operation is not a count operation
      */
     public long count(){
-        if (!paramsLeft.isEmpty()) {
-            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
-        }
+        checkParams();
         if (PreparedStatementType.COUNT.equals(type)) {
-            return manager.count(selectQuery);
+            return manager.count(BoundQueries.select(selectQuery, binding));
         }
         throw new IllegalArgumentException("The count operation is only allowed for COUNT queries");
 
@@ -186,20 +252,27 @@ public final class CommunicationPreparedStatement {
      * @throws NonUniqueResultException if the result contains more than one entity
      */
     public Optional<CommunicationEntity> singleResult() {
-        Stream<CommunicationEntity> entities = result();
-        final Iterator<CommunicationEntity> iterator = entities.iterator();
+        try (Stream<CommunicationEntity> entities = result(operator().andThen(SINGLE_RESULT_LIMIT)::apply)) {
+            final Iterator<CommunicationEntity> iterator = entities.iterator();
 
-        if (!iterator.hasNext()) {
-            return Optional.empty();
-        }
-        final CommunicationEntity next = iterator.next();
-        if (!iterator.hasNext()) {
-            return Optional.of(next);
+            if (!iterator.hasNext()) {
+                return Optional.empty();
+            }
+            final CommunicationEntity next = iterator.next();
+            if (!iterator.hasNext()) {
+                return Optional.of(next);
+            }
         }
-
         throw new NonUniqueResultException("The select returns more than one entity, select: " + query);
     }
 
+    private void checkParams() {
+        List<String> paramsLeft = binding.unbound();
+        if (!paramsLeft.isEmpty()) {
+            throw new QueryException("Check all the parameters before execute the query, params left: " + paramsLeft);
+        }
+    }
+
     enum PreparedStatementType {
         SELECT, DELETE, UPDATE, COUNT
     }
@@ -217,12 +290,12 @@ public final class CommunicationPreparedStatement {
             DatabaseManager manager) {
         if (selectQuery.isCount()) {
             return new CommunicationPreparedStatement(selectQuery,
-                    null, null, PreparedStatementType.COUNT, params, query,
-                    params.getParametersNames(), manager);
+                    null, null, PreparedStatementType.COUNT, query,
+                    params.newBinding(), manager);
         } else {
             return new CommunicationPreparedStatement(selectQuery,
-                    null, null, PreparedStatementType.SELECT, params, query,
-                    params.getParametersNames(), manager);
+                    null, null, PreparedStatementType.SELECT, query,
+                    params.newBinding(), manager);
         }
 
     }
@@ -233,9 +306,9 @@ public final class CommunicationPreparedStatement {
                                                  DatabaseManager manager) {
 
         return new CommunicationPreparedStatement(null,
-                deleteQuery, null, PreparedStatementType.DELETE, params,
+                deleteQuery, null, PreparedStatementType.DELETE,
                 query,
-                params.getParametersNames(),
+                params.newBinding(),
                 manager);
 
     }
@@ -246,8 +319,8 @@ public final class CommunicationPreparedStatement {
                                                  DatabaseManager manager) {
         return new CommunicationPreparedStatement(null, null,
                 updateQuery,
-                PreparedStatementType.UPDATE, params, query,
-                params.getParametersNames(),  manager);
+                PreparedStatementType.UPDATE, query,
+                params.newBinding(), manager);
 
     }
 }
@@ -0,0 +1,239 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.TypeSupplier;
+import org.eclipse.jnosql.communication.Value;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A read-only {@link CommunicationEntity} that keeps the values of one row in an array, in the positions of an
+ * {@link ElementNames} shared by all the rows of the same type. The {@link Element} and {@link Value} instances
+ * are created on access instead of being stored, and the list of {@link #elements()} is created once.
+ *
+ * <p>The methods that modify the entity throw {@link UnsupportedOperationException}; {@link #copy()} returns
+ * a mutable entity.</p>
+ */
+final class CompactCommunicationEntity extends CommunicationEntity {
+
+    /**
+     * Marks the positions of the dictionary that are not set in this row.
+     */
+    static final Object ABSENT = new Object();
+
+    private final ElementNames names;
+
+    private final Object[] values;
+
+    private final int size;
+
+    private List<Element> elements;
+
+    CompactCommunicationEntity(String name, ElementNames names, Object[] values) {
+        super(name, Collections.emptyMap());
+        this.names = names;
+        this.values = values.clone();
+        int count = 0;
+        for (Object value : values) {
+            if (value != ABSENT) {
+                count++;
+            }
+        }
+        this.size = count;
+    }
+
+    @Override
+    public void addAll(List<Element> elements) {
+        throw readOnly();
+    }
+
+    @Override
+    public void add(Element element) {
+        throw readOnly();
+    }
+
+    @Override
+    public void add(String name, Object value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void add(String name, Value value) {
+        throw readOnly();
+    }
+
+    @Override
+    public void addNull(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean remove(String name) {
+        throw readOnly();
+    }
+
+    @Override
+    public void clear() {
+        throw readOnly();
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        return copy().toMap();
+    }
+
+    @Override
+    public List<Element> elements() {
+        List<Element> result = this.elements;
+        if (result == null) {
+            List<Element> created = new ArrayList<>(size);
+            for (int index = 0; index < values.length; index++) {
+                if (values[index] != ABSENT) {
+                    created.add(Element.of(names.name(index), values[index]));
+                }
+            }
+            result = Collections.unmodifiableList(created);
+            this.elements = result;
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Element> find(String columnName) {
+        requireNonNull(columnName, "columnName is required");
+        int index = names.indexOf(columnName);
+        if (index < 0 || values[index] == ABSENT) {
+            return Optional.empty();
+        }
+        return Optional.of(Element.of(columnName, values[index]));
+    }
+
+    @Override
+    public <T> Optional<T> find(String elementName, Class<T> type) {
+        requireNonNull(elementName, "elementName is required");
+        requireNonNull(type, "type is required");
+        return value(elementName).map(v -> v.get(type));
+    }
+
+    @Override
+    public <T> Optional<T> find(String elementName, TypeSupplier<T> type) {
+        requireNonNull(elementName, "elementName is required");
+        requireNonNull(type, "type is required");
+        return value(elementName).map(v -> v.get(type));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public CommunicationEntity copy() {
+        return of(name(), elements());
+    }
+
+    @Override
+    public Set<String> elementNames() {
+        Set<String> result = new LinkedHashSet<>((int) (size / 0.75f) + 1);
+        for (int index = 0; index < values.length; index++) {
+            if (values[index] != ABSENT) {
+                result.add(names.name(index));
+            }
+        }
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public Collection<Value> values() {
+        List<Value> result = new ArrayList<>(size);
+        for (Object value : values) {
+            if (value != ABSENT) {
+                result.add(toValue(value));
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public boolean contains(String name) {
+        requireNonNull(name, "name is required");
+        int index = names.indexOf(name);
+        return index >= 0 && values[index] != ABSENT;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CompactCommunicationEntity that)) {
+            return false;
+        }
+        return Objects.equals(name(), that.name()) && Objects.equals(elementMap(), that.elementMap());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(elementMap(), name());
+    }
+
+    @Override
+    public String toString() {
+        return "CompactCommunicationEntity{" + "elements=" + toMap() +
+                ", name='" + name() + '\'' +
+                '}';
+    }
+
+    private Optional<Value> value(String name) {
+        int index = names.indexOf(name);
+        if (index < 0 || values[index] == ABSENT) {
+            return Optional.empty();
+        }
+        return Optional.of(toValue(values[index]));
+    }
+
+    private Map<String, Element> elementMap() {
+        Map<String, Element> map = new HashMap<>((int) (size / 0.75f) + 1);
+        for (Element element : elements()) {
+            map.put(element.name(), element);
+        }
+        return map;
+    }
+
+    private static Value toValue(Object value) {
+        return value instanceof Value v ? v : Value.of(value);
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("This CommunicationEntity is read-only, use copy() to modify it");
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+/**
+ * The operations that a {@link DatabaseManager} executes natively in the database, instead of the in-memory
+ * fallback of the default methods. A driver declares them at {@link DatabaseManager#capabilities()} and
+ * {@link DatabaseManagerFactory#capabilities()}, then the callers can pick the cheapest path.
+ *
+ * <p>A capability that is not declared means it is unknown, not unsupported: a driver may override a method
+ * without declaring it, thus the callers must keep the result correct either way.</p>
+ */
+public enum DatabaseCapability {
+
+    /**
+     * {@link DatabaseManager#count(SelectQuery)} and {@link DatabaseManager#exists(SelectQuery)} are executed
+     * in the database, without reading the entities.
+     */
+    COUNT,
+
+    /**
+     * {@link DatabaseManager#update(UpdateQuery)} is executed in the database, without reading the entities.
+     */
+    UPDATE_QUERY,
+
+    /**
+     * A select with an {@code IN} condition on the key reads the entities in one round trip.
+     */
+    MULTI_GET,
+
+    /**
+     * {@link DatabaseManager#insert(Iterable)} and {@link DatabaseManager#update(Iterable)} send the entities
+     * in one round trip.
+     */
+    BATCH_INSERT,
+
+    /**
+     * The sorts of a {@link SelectQuery} are applied in the database.
+     */
+    SORT
+}
@@ -16,9 +16,11 @@ import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
 
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 /**
@@ -36,6 +38,29 @@ public interface DatabaseManager extends AutoCloseable {
      */
     String name();
 
+    /**
+     * Returns the operations that this manager executes natively in the database. The default
+     * implementation returns an empty set, so the callers use the default methods of this interface.
+     *
+     * @return the capabilities of this manager
+     * @see DatabaseCapability
+     */
+    default Set<DatabaseCapability> capabilities() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Checks if this manager executes the operation natively in the database.
+     *
+     * @param capability the capability
+     * @return true if the capability is declared at {@link #capabilities()}
+     * @throws NullPointerException when the capability is null
+     */
+    default boolean supports(DatabaseCapability capability) {
+        Objects.requireNonNull(capability, "capability is required");
+        return capabilities().contains(capability);
+    }
+
     /**
      * Inserts an entity into the database.
      *
@@ -155,15 +180,16 @@ public interface DatabaseManager extends AutoCloseable {
     /**
      * Modifies an existing entity in the database based on the specified query.
      *
-     * <p>This default implementation of the update operation is executed in memory. It fetches the
-     * entities using a selection query, applies updates in memory, and then writes each updated entity
-     * back to the database. While this method provides a straightforward and universal approach, it may
-     * impact performance due to multiple database read and write operations.</p>
+     * <p>This default implementation of the update operation is executed in memory. It streams the
+     * entities of the selection query, applies the updates in memory, and then writes them back to the
+     * database with {@link #update(Iterable)} in chunks of one hundred entities. While this method provides
+     * a straightforward and universal approach, it may impact performance due to multiple database read
+     * and write operations.</p>
      *
      * <p>To enhance performance, especially in production environments, it is recommended that this
      * method is overridden by the database driver to perform the update operation directly in the database.
      * Implementing direct database updates minimizes the overhead associated with in-memory operations
-     * and network latency.</p>
+     * and network latency. Such a driver should declare {@link DatabaseCapability#UPDATE_QUERY}.</p>
      *
      * <p>For databases using an append model to write data or following the BASE model, this method behaves
      * the same as the {@link #insert} method when not overridden.</p>
@@ -176,8 +202,57 @@ public interface DatabaseManager extends AutoCloseable {
      */
     default Iterable<CommunicationEntity> update(UpdateQuery query) {
         Objects.requireNonNull(query, "query is required");
-        var entities = this.select(query.toSelectQuery());
-        return entities.peek(e -> e.addAll(query.set())).map(this::update).toList();
+        return ChunkedUpdate.execute(this, query);
+    }
+
+    /**
+     * Modifies the entities in the database based on the specified query and returns only how many
+     * were updated, so the caller does not hold the updated entities.
+     *
+     * <p>When this manager declares {@link DatabaseCapability#UPDATE_QUERY}, it counts the result of
+     * {@link #update(UpdateQuery)}. Otherwise, it streams the entities of the selection query, applies the
+     * updates in memory and writes them back with {@link #update(Iterable)} in chunks of one hundred entities,
+     * keeping only one chunk in memory.</p>
+     *
+     * @param query the query used to select entities to update
+     * @return the number of updated entities
+     * @throws NullPointerException if the query is null
+     * @see #updateCount(UpdateQuery, String)
+     */
+    default long updateCount(UpdateQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        if (supports(DatabaseCapability.UPDATE_QUERY)) {
+            return ChunkedUpdate.size(update(query));
+        }
+        return ChunkedUpdate.count(this, query);
+    }
+
+    /**
+     * Modifies the entities in the database based on the specified query and returns only how many
+     * were updated, reading the entities page by page with keyset pagination on the given key.
+     *
+     * <p>When this manager declares {@link DatabaseCapability#UPDATE_QUERY}, it counts the result of
+     * {@link #update(UpdateQuery)}. When it declares {@link DatabaseCapability#SORT}, it selects one hundred
+     * entities at a time in the ascending order of the key, each page after the last key of the previous one,
+     * and writes them back with {@link #update(Iterable)}; thus each select reads one page even when the driver
+     * loads its whole result in memory. Otherwise, or when the query updates the key, it behaves as
+     * {@link #updateCount(UpdateQuery)}.</p>
+     *
+     * @param query the query used to select entities to update
+     * @param key   the name of a unique element used to order the pages, usually the id
+     * @return the number of updated entities
+     * @throws NullPointerException if the query or the key is null
+     */
+    default long updateCount(UpdateQuery query, String key) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(key, "key is required");
+        if (supports(DatabaseCapability.UPDATE_QUERY)) {
+            return ChunkedUpdate.size(update(query));
+        }
+        if (supports(DatabaseCapability.SORT) && !ChunkedUpdate.updatesKey(query, key)) {
+            return ChunkedUpdate.count(this, query, key);
+        }
+        return ChunkedUpdate.count(this, query);
     }
 
     /**
@@ -202,13 +277,18 @@ public interface DatabaseManager extends AutoCloseable {
     /**
      * Returns the number of entities in the database that match the specified query.
      *
+     * <p>The default implementation streams the entities of the query and counts them. A driver that counts
+     * in the database should override it and declare {@link DatabaseCapability#COUNT}.</p>
+     *
      * @param query the query
      * @return the number of entities returned by the query
      * @throws NullPointerException when the query is null
      */
     default long count(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return this.select(DefaultSelectQuery.countBy(query)).count();
+        try (Stream<CommunicationEntity> entities = this.select(DefaultSelectQuery.countBy(query))) {
+            return entities.count();
+        }
     }
 
     /**
@@ -220,7 +300,9 @@ public interface DatabaseManager extends AutoCloseable {
      */
     default boolean exists(SelectQuery query) {
         Objects.requireNonNull(query, "query is required");
-        return this.select(DefaultSelectQuery.existsBy(query)).findAny().isPresent();
+        try (Stream<CommunicationEntity> entities = this.select(DefaultSelectQuery.existsBy(query))) {
+            return entities.findAny().isPresent();
+        }
     }
 
     /**
@@ -10,6 +10,8 @@
  */
 package org.eclipse.jnosql.communication.semistructured;
 
+import java.util.Collections;
+import java.util.Set;
 import java.util.function.Function;
 
 /**
@@ -31,6 +33,17 @@ import java.util.function.Function;
 public interface DatabaseManagerFactory extends Function<String, DatabaseManager>, AutoCloseable {
 
 
+    /**
+     * Returns the operations that the managers of this factory execute natively in the database. The default
+     * implementation returns an empty set.
+     *
+     * @return the capabilities of the managers created by this factory
+     * @see DatabaseManager#capabilities()
+     */
+    default Set<DatabaseCapability> capabilities() {
+        return Collections.emptySet();
+    }
+
     /**
      * Closes any resources held by the factory.
      *
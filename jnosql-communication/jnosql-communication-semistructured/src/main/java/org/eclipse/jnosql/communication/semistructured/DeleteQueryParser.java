@@ -13,7 +13,6 @@ package org.eclipse.jnosql.communication.semistructured;
 
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
-import org.eclipse.jnosql.communication.query.data.DeleteProvider;
 
 import java.util.List;
 import java.util.function.BiFunction;
@@ -28,7 +27,18 @@ import static java.util.Objects.requireNonNull;
  */
 public final class DeleteQueryParser implements BiFunction<org.eclipse.jnosql.communication.query.DeleteQuery, CommunicationObserverParser, DeleteQueryParams> {
 
+    private final QueryPlanCache cache;
 
+    /**
+     * Creates a parser that uses the {@link QueryPlanCache#shared()} cache.
+     */
+    public DeleteQueryParser() {
+        this(QueryPlanCache.shared());
+    }
+
+    DeleteQueryParser(QueryPlanCache cache) {
+        this.cache = cache;
+    }
 
     Stream<CommunicationEntity> query(String query, DatabaseManager manager, CommunicationObserverParser observer) {
 
@@ -59,8 +69,7 @@ public final class DeleteQueryParser implements BiFunction<org.eclipse.jnosql.co
     }
 
     private DeleteQuery getQuery(String query, Params params, CommunicationObserverParser observer) {
-        var converter = new DeleteProvider();
-        org.eclipse.jnosql.communication.query.DeleteQuery deleteQuery = converter.apply(query);
+        org.eclipse.jnosql.communication.query.DeleteQuery deleteQuery = cache.delete(query);
 
         return getQuery(params, observer, deleteQuery);
     }
@@ -78,8 +87,7 @@ public final class DeleteQueryParser implements BiFunction<org.eclipse.jnosql.co
 
     private DeleteQuery getQuery(String query, CommunicationObserverParser observer) {
 
-        var converter = new DeleteProvider();
-        org.eclipse.jnosql.communication.query.DeleteQuery deleteQuery = converter.apply(query);
+        org.eclipse.jnosql.communication.query.DeleteQuery deleteQuery = cache.delete(query);
 
         String columnFamily = observer.fireEntity(deleteQuery.entity());
         List<String> columns = deleteQuery.fields().stream()
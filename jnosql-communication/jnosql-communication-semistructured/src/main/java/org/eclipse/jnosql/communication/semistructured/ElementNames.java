@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * An immutable dictionary of element names, each with a fixed position. A driver creates it once per entity type,
+ * for instance per table or collection, and shares it between all the rows of that type through
+ * {@link CommunicationEntity#builder(String, ElementNames)}, so each row only holds its values.
+ *
+ * <pre>{@code
+ * ElementNames names = ElementNames.of("_id", "name", "age");
+ * CommunicationEntity entity = CommunicationEntity.builder("Person", names)
+ *         .add(0, 10L)
+ *         .add(1, "Ada")
+ *         .add(2, 30)
+ *         .build();
+ * }</pre>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public final class ElementNames {
+
+    private final String[] names;
+
+    private final Map<String, Integer> indexes;
+
+    private ElementNames(String[] names) {
+        this.names = names;
+        this.indexes = new HashMap<>((int) (names.length / 0.75f) + 1);
+        for (int index = 0; index < names.length; index++) {
+            if (indexes.putIfAbsent(names[index], index) != null) {
+                throw new IllegalArgumentException("The element name is duplicated: " + names[index]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of names.
+     *
+     * @return the number of names
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * Returns the name at the position.
+     *
+     * @param index the position
+     * @return the name
+     * @throws IndexOutOfBoundsException when the index is out of range
+     */
+    public String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * Returns the position of the name.
+     *
+     * @param name the name
+     * @return the position of the name, or {@code -1} when it is not in this dictionary
+     * @throws NullPointerException when the name is null
+     */
+    public int indexOf(String name) {
+        Objects.requireNonNull(name, "name is required");
+        Integer index = indexes.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Returns the names in their positions.
+     *
+     * @return an unmodifiable list of the names
+     */
+    public List<String> names() {
+        return List.of(names);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return Arrays.equals(names, ((ElementNames) o).names);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(names);
+    }
+
+    @Override
+    public String toString() {
+        return "ElementNames{" + Arrays.toString(names) + '}';
+    }
+
+    /**
+     * Creates a dictionary with the names, the position of each name is its position in the arguments.
+     *
+     * @param names the names
+     * @return a new {@link ElementNames}
+     * @throws NullPointerException     when any name is null
+     * @throws IllegalArgumentException when a name is duplicated
+     */
+    public static ElementNames of(String... names) {
+        Objects.requireNonNull(names, "names is required");
+        String[] copy = names.clone();
+        for (String name : copy) {
+            Objects.requireNonNull(name, "A name in the dictionary is null");
+        }
+        return new ElementNames(copy);
+    }
+
+    /**
+     * Creates a dictionary with the names, the position of each name is its position in the list.
+     *
+     * @param names the names
+     * @return a new {@link ElementNames}
+     * @throws NullPointerException     when any name is null
+     * @throws IllegalArgumentException when a name is duplicated
+     */
+    public static ElementNames of(List<String> names) {
+        Objects.requireNonNull(names, "names is required");
+        return of(names.toArray(String[]::new));
+    }
+}
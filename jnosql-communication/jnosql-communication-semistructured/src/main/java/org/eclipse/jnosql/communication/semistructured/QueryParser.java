@@ -13,6 +13,7 @@ package org.eclipse.jnosql.communication.semistructured;
 import org.eclipse.jnosql.communication.QueryException;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 /**
@@ -20,9 +21,39 @@ import java.util.stream.Stream;
  */
 public final class QueryParser {
 
-    private final SelectQueryParser select = new SelectQueryParser();
-    private final DeleteQueryParser delete = new DeleteQueryParser();
-    private final UpdateQueryParser update = new UpdateQueryParser();
+    private final QueryPlanCache cache;
+    private final SelectQueryParser select;
+    private final DeleteQueryParser delete;
+    private final UpdateQueryParser update;
+
+    /**
+     * Creates a parser that uses the {@link QueryPlanCache#shared()} cache.
+     */
+    public QueryParser() {
+        this(QueryPlanCache.shared());
+    }
+
+    /**
+     * Creates a parser that keeps the parsed queries at the given cache.
+     *
+     * @param cache the cache of parsed queries
+     * @throws NullPointerException when cache is null
+     */
+    public QueryParser(QueryPlanCache cache) {
+        this.cache = Objects.requireNonNull(cache, "cache is required");
+        this.select = new SelectQueryParser(cache);
+        this.delete = new DeleteQueryParser(cache);
+        this.update = new UpdateQueryParser(cache);
+    }
+
+    /**
+     * Returns the cache of parsed queries used by this parser, mostly to read its statistics.
+     *
+     * @return the {@link QueryPlanCache} instance
+     */
+    public QueryPlanCache cache() {
+        return cache;
+    }
 
     /**
      * Executes a query and returns the result, when the operations are <b>insert</b>, <b>update</b> and <b>select</b>
@@ -68,6 +99,26 @@ public final class QueryParser {
         };
     }
 
+    /**
+     * Returns the entity changed by a <b>delete</b> or an <b>update</b> query, as the observer names it. The query
+     * is parsed through the {@link #cache()}, thus a query already executed is not parsed again.
+     *
+     * @param query    the query as {@link String}
+     * @param observer the observer
+     * @return the entity name, or empty when the query is a <b>select</b>
+     * @throws NullPointerException when there is parameter null
+     * @throws QueryException       when there is error in the syntax
+     */
+    public Optional<String> entity(String query, CommunicationObserverParser observer) {
+        Objects.requireNonNull(query, "query is required");
+        Objects.requireNonNull(observer, "observer is required");
+        return switch (QueryType.parse(query)) {
+            case DELETE -> Optional.of(observer.fireEntity(cache.delete(query).entity()));
+            case UPDATE -> Optional.of(observer.fireEntity(cache.update(query).entity()));
+            default -> Optional.empty();
+        };
+    }
+
     private void validation(String query, DatabaseManager manager, CommunicationObserverParser observer) {
         Objects.requireNonNull(query, "query is required");
         Objects.requireNonNull(manager, "manager is required");
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.eclipse.jnosql.communication.query.DeleteQuery;
+import org.eclipse.jnosql.communication.query.SelectQuery;
+import org.eclipse.jnosql.communication.query.UpdateQuery;
+import org.eclipse.jnosql.communication.query.data.DeleteProvider;
+import org.eclipse.jnosql.communication.query.data.SelectProvider;
+import org.eclipse.jnosql.communication.query.data.UpdateProvider;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * A bounded, thread-safe cache of parsed JDQL queries.
+ *
+ * <p>Parsing a query string through the ANTLR grammar is the most expensive step of
+ * {@link DatabaseManager#query(String)} and {@link DatabaseManager#prepare(String)}. The result of this
+ * step, the query AST such as {@link SelectQuery}, is immutable and does not hold any parameter value,
+ * so it can be shared safely between threads. This cache keeps those ASTs keyed by the query text and the
+ * entity name; the conversion to the communication query, including the creation of a fresh
+ * {@link org.eclipse.jnosql.communication.Params} instance, still happens on every call, so each execution
+ * binds its own parameter values.</p>
+ *
+ * <p>When the cache is full, the oldest entry is evicted. A cache with maximum size zero disables caching,
+ * every lookup is a miss and the query is parsed again.</p>
+ */
+public final class QueryPlanCache {
+
+    /**
+     * The default maximum number of parsed queries kept by a cache.
+     */
+    public static final int DEFAULT_SIZE = 1_000;
+
+    private static final QueryPlanCache DEFAULT = new QueryPlanCache(DEFAULT_SIZE);
+
+    private final int maxSize;
+
+    private final Map<Key, Object> plans = new ConcurrentHashMap<>();
+
+    private final Queue<Key> order = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private QueryPlanCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the parsed select query, parsing it when it is not in the cache.
+     *
+     * @param query  the query text
+     * @param entity the entity name, it might be null when the query defines it
+     * @return the parsed select query
+     */
+    SelectQuery select(String query, String entity) {
+        return get(new Key(QueryType.SELECT, query, entity), () -> new SelectProvider().apply(query, entity));
+    }
+
+    /**
+     * Returns the parsed delete query, parsing it when it is not in the cache.
+     *
+     * @param query the query text
+     * @return the parsed delete query
+     */
+    DeleteQuery delete(String query) {
+        return get(new Key(QueryType.DELETE, query, null), () -> new DeleteProvider().apply(query));
+    }
+
+    /**
+     * Returns the parsed update query, parsing it when it is not in the cache.
+     *
+     * @param query the query text
+     * @return the parsed update query
+     */
+    UpdateQuery update(String query) {
+        return get(new Key(QueryType.UPDATE, query, null), () -> new UpdateProvider().apply(query));
+    }
+
+    /**
+     * @return the number of lookups that found a parsed query
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that had to parse the query
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of parsed queries removed to respect the maximum size
+     */
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return the current number of parsed queries in the cache
+     */
+    public int size() {
+        return plans.size();
+    }
+
+    /**
+     * @return the maximum number of parsed queries in the cache
+     */
+    public int maxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all the parsed queries; the counters are kept.
+     */
+    public void clear() {
+        plans.clear();
+        order.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryPlanCache{" +
+                "maxSize=" + maxSize +
+                ", size=" + plans.size() +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Key key, Supplier<T> parser) {
+        if (maxSize <= 0) {
+            misses.increment();
+            return parser.get();
+        }
+        Object plan = plans.get(key);
+        if (plan != null) {
+            hits.increment();
+            return (T) plan;
+        }
+        misses.increment();
+        T parsed = parser.get();
+        if (plans.putIfAbsent(key, parsed) == null) {
+            order.add(key);
+            evict();
+        }
+        return parsed;
+    }
+
+    private void evict() {
+        while (plans.size() > maxSize) {
+            Key eldest = order.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (plans.remove(eldest) != null) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * Creates a cache that keeps up to the given number of parsed queries.
+     *
+     * @param maxSize the maximum size, zero disables the cache
+     * @return a new {@link QueryPlanCache} instance
+     * @throws IllegalArgumentException when maxSize is negative
+     */
+    public static QueryPlanCache of(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maxSize cannot be negative: " + maxSize);
+        }
+        return new QueryPlanCache(maxSize);
+    }
+
+    /**
+     * Returns the cache shared by the {@link QueryParser} instances created without an explicit cache,
+     * such as the ones used by the default methods of {@link DatabaseManager}.
+     *
+     * @return the shared {@link QueryPlanCache} instance
+     */
+    public static QueryPlanCache shared() {
+        return DEFAULT;
+    }
+
+    private record Key(QueryType type, String query, String entity) {
+    }
+}
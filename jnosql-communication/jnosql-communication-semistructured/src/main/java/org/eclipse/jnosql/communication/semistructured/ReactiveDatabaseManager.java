@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * The non-blocking counterpart of {@link DatabaseManager}, built on {@link Flow}. Each method returns a cold
+ * {@link Flow.Publisher}: nothing is sent to the database until a subscriber requests elements, and each
+ * subscription executes the operation again.
+ *
+ * <p>The publishers honor the demand of the subscriber: a {@link #select(SelectQuery)} reads only as many entities
+ * as were requested, and a {@link #insert(Iterable)} sends the entities in chunks as the inserted entities are
+ * requested. A driver with a non-blocking client implements this interface directly; any other driver is adapted
+ * with {@link #of(DatabaseManager)}, which executes the blocking calls on an {@link Executor}.</p>
+ *
+ * <pre>{@code
+ * ReactiveDatabaseManager reactive = ReactiveDatabaseManager.of(manager);
+ * Flow.Publisher<CommunicationEntity> entities = reactive.select(query);
+ * }</pre>
+ */
+public interface ReactiveDatabaseManager {
+
+    /**
+     * Returns the name of the database.
+     *
+     * @return the database name
+     */
+    String name();
+
+    /**
+     * Inserts an entity into the database and emits the saved entity.
+     *
+     * @param entity the entity to be saved
+     * @return a publisher of the saved entity
+     * @throws NullPointerException when the entity is null
+     * @see DatabaseManager#insert(CommunicationEntity)
+     */
+    Flow.Publisher<CommunicationEntity> insert(CommunicationEntity entity);
+
+    /**
+     * Inserts the entities into the database and emits the saved entities. The entities are read from the
+     * {@link Iterable} and sent as the saved entities are requested, thus a slow subscriber delays the inserts
+     * instead of buffering them.
+     *
+     * @param entities the entities to be saved
+     * @return a publisher of the saved entities
+     * @throws NullPointerException when the entities are null
+     * @see DatabaseManager#insert(Iterable)
+     */
+    Flow.Publisher<CommunicationEntity> insert(Iterable<CommunicationEntity> entities);
+
+    /**
+     * Deletes the entities of the query. The publisher emits no element, it completes once the entities
+     * are deleted.
+     *
+     * @param query the query used to select entities to be deleted
+     * @return a publisher that completes when the entities are deleted
+     * @throws NullPointerException when the query is null
+     * @see DatabaseManager#delete(DeleteQuery)
+     */
+    Flow.Publisher<Void> delete(DeleteQuery query);
+
+    /**
+     * Finds the entities of the query and emits them as they are requested.
+     *
+     * @param query the query used to select entities
+     * @return a publisher of the entities found by the query
+     * @throws NullPointerException when the query is null
+     * @see DatabaseManager#select(SelectQuery)
+     */
+    Flow.Publisher<CommunicationEntity> select(SelectQuery query);
+
+    /**
+     * Adapts a blocking {@link DatabaseManager}, its calls are executed on a shared pool of daemon threads
+     * that grows with the number of pending operations, so a slow database does not starve the other
+     * subscriptions.
+     *
+     * @param manager the blocking manager
+     * @return a {@link ReactiveDatabaseManager} over the manager
+     * @throws NullPointerException when the manager is null
+     */
+    static ReactiveDatabaseManager of(DatabaseManager manager) {
+        Objects.requireNonNull(manager, "manager is required");
+        return new BlockingReactiveDatabaseManager(manager, BlockingReactiveDatabaseManager.defaultExecutor());
+    }
+
+    /**
+     * Adapts a blocking {@link DatabaseManager}, its calls are executed on the executor.
+     *
+     * @param manager  the blocking manager
+     * @param executor the executor of the blocking calls
+     * @return a {@link ReactiveDatabaseManager} over the manager
+     * @throws NullPointerException when either the manager or the executor is null
+     */
+    static ReactiveDatabaseManager of(DatabaseManager manager, Executor executor) {
+        Objects.requireNonNull(manager, "manager is required");
+        Objects.requireNonNull(executor, "executor is required");
+        return new BlockingReactiveDatabaseManager(manager, executor);
+    }
+}
@@ -15,7 +15,6 @@ import jakarta.data.Direction;
 import jakarta.data.Sort;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
-import org.eclipse.jnosql.communication.query.data.SelectProvider;
 
 import java.util.List;
 import java.util.Objects;
@@ -26,7 +25,18 @@ import static java.util.stream.Collectors.toList;
 
 public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.communication.query.SelectQuery, CommunicationObserverParser, QueryParams> {
 
+    private final QueryPlanCache cache;
 
+    /**
+     * Creates a parser that uses the {@link QueryPlanCache#shared()} cache.
+     */
+    public SelectQueryParser() {
+        this(QueryPlanCache.shared());
+    }
+
+    SelectQueryParser(QueryPlanCache cache) {
+        this.cache = cache;
+    }
 
     Stream<CommunicationEntity> query(String query, String entity, DatabaseManager manager, CommunicationObserverParser observer) {
 
@@ -38,8 +48,7 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
     CommunicationPreparedStatement prepare(String query, String entity, DatabaseManager manager, CommunicationObserverParser observer) {
 
         Params params = Params.newParams();
-        var converter = new SelectProvider();
-        var selectQuery = converter.apply(query, entity);
+        var selectQuery = cache.select(query, entity);
 
         var prepareQuery = query(params, selectQuery, observer);
         return CommunicationPreparedStatement.select(prepareQuery, params, query, manager);
@@ -59,8 +68,7 @@ public final class SelectQueryParser implements BiFunction<org.eclipse.jnosql.co
 
     private SelectQuery query(String query, String entity, CommunicationObserverParser observer) {
 
-        var converter = new SelectProvider();
-        var selectQuery = converter.apply(query, entity);
+        var selectQuery = cache.select(query, entity);
         var entityName = observer.fireEntity(selectQuery.entity());
         var limit = selectQuery.limit();
         var skip = selectQuery.skip();
@@ -14,7 +14,6 @@ package org.eclipse.jnosql.communication.semistructured;
 import org.eclipse.jnosql.communication.Params;
 import org.eclipse.jnosql.communication.QueryException;
 import org.eclipse.jnosql.communication.query.UpdateItem;
-import org.eclipse.jnosql.communication.query.data.UpdateProvider;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -30,7 +29,18 @@ import static java.util.Objects.requireNonNull;
  */
 public final class UpdateQueryParser implements BiFunction<org.eclipse.jnosql.communication.query.UpdateQuery, CommunicationObserverParser, UpdateQueryParams> {
 
+    private final QueryPlanCache cache;
 
+    /**
+     * Creates a parser that uses the {@link QueryPlanCache#shared()} cache.
+     */
+    public UpdateQueryParser() {
+        this(QueryPlanCache.shared());
+    }
+
+    UpdateQueryParser(QueryPlanCache cache) {
+        this.cache = cache;
+    }
 
     Stream<CommunicationEntity> query(String query, DatabaseManager manager, CommunicationObserverParser observer) {
         var updateQuery = getQuery(query, observer);
@@ -60,8 +70,7 @@ public final class UpdateQueryParser implements BiFunction<org.eclipse.jnosql.co
     }
 
     private UpdateQuery getQuery(String query, Params params, CommunicationObserverParser observer) {
-        var converter = new UpdateProvider();
-        var updateQuery = converter.apply(query);
+        var updateQuery = cache.update(query);
         return getQuery(params, observer, updateQuery);
     }
 
@@ -82,8 +91,7 @@ public final class UpdateQueryParser implements BiFunction<org.eclipse.jnosql.co
 
     private UpdateQuery getQuery(String query, CommunicationObserverParser observer) {
 
-        var converter = new UpdateProvider();
-        var updateQuery = converter.apply(query);
+        var updateQuery = cache.update(query);
 
         var entity = observer.fireEntity(updateQuery.entity());
         Params params = Params.newParams();
@@ -46,6 +46,21 @@ class CommunicationEntityTest {
         Assertions.assertThrows(NullPointerException.class, () -> CommunicationEntity.of("entity", null));
     }
 
+    @Test
+    void shouldReturnErrorWhenSizeIsNegative() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> CommunicationEntity.of("entity", -1));
+    }
+
+    @Test
+    void shouldCreateWithExpectedSize() {
+        CommunicationEntity entity = CommunicationEntity.of("entity", 2);
+        entity.add("name", "Ada");
+        entity.add("age", 30);
+        entity.add("city", "London");
+        assertEquals("entity", entity.name());
+        assertEquals(3, entity.size());
+    }
+
     @Test
     void shouldReturnOneColumn() {
         CommunicationEntity entity = CommunicationEntity.of("entity");
@@ -429,4 +444,99 @@ class CommunicationEntityTest {
         });
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldBuildReadOnlyEntity() {
+        ElementNames names = ElementNames.of("_id", "name", "age", "city");
+        CommunicationEntity entity = CommunicationEntity.builder("Person", names)
+                .add(0, 10L)
+                .add("name", "Ada")
+                .add(2, Value.of(30))
+                .build();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(entity.name()).isEqualTo("Person");
+            softly.assertThat(entity.size()).isEqualTo(3);
+            softly.assertThat(entity.isEmpty()).isFalse();
+            softly.assertThat(entity.elements()).containsExactly(Element.of("_id", 10L),
+                    Element.of("name", "Ada"), Element.of("age", 30));
+            softly.assertThat(entity.elements()).isSameAs(entity.elements());
+            softly.assertThat(entity.elementNames()).containsExactly("_id", "name", "age");
+            softly.assertThat(entity.values()).containsExactly(Value.of(10L), Value.of("Ada"), Value.of(30));
+            softly.assertThat(entity.find("name")).contains(Element.of("name", "Ada"));
+            softly.assertThat(entity.find("age", String.class)).contains("30");
+            softly.assertThat(entity.find("city")).isEmpty();
+            softly.assertThat(entity.find("unknown")).isEmpty();
+            softly.assertThat(entity.contains("city")).isFalse();
+            softly.assertThat(entity.contains("_id")).isTrue();
+            softly.assertThat(entity.toMap()).containsEntry("name", "Ada").hasSize(3);
+        });
+    }
+
+    @Test
+    void shouldKeepNullValueInReadOnlyEntity() {
+        CommunicationEntity entity = CommunicationEntity.builder("Person", ElementNames.of("name"))
+                .add("name", null)
+                .build();
+
+        assertTrue(entity.contains("name"));
+        assertTrue(entity.find("name").orElseThrow().value().isNull());
+    }
+
+    @Test
+    void shouldNotModifyReadOnlyEntity() {
+        CommunicationEntity entity = CommunicationEntity.builder("Person", ElementNames.of("name"))
+                .add("name", "Ada")
+                .build();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThatThrownBy(() -> entity.add("age", 10)).isInstanceOf(UnsupportedOperationException.class);
+            softly.assertThatThrownBy(() -> entity.add(Element.of("age", 10)))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            softly.assertThatThrownBy(() -> entity.addNull("age")).isInstanceOf(UnsupportedOperationException.class);
+            softly.assertThatThrownBy(() -> entity.remove("name")).isInstanceOf(UnsupportedOperationException.class);
+            softly.assertThatThrownBy(entity::clear).isInstanceOf(UnsupportedOperationException.class);
+        });
+    }
+
+    @Test
+    void shouldCopyReadOnlyEntityToMutable() {
+        CommunicationEntity entity = CommunicationEntity.builder("Person", ElementNames.of("name", "age"))
+                .add("name", "Ada")
+                .build();
+
+        CommunicationEntity copy = entity.copy();
+        copy.add("age", 10);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(copy.find("name")).contains(Element.of("name", "Ada"));
+            softly.assertThat(copy.size()).isEqualTo(2);
+            softly.assertThat(entity.size()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldReuseBuilder() {
+        var builder = CommunicationEntity.builder("Person", ElementNames.of("name", "age"));
+        CommunicationEntity ada = builder.add("name", "Ada").add("age", 30).build();
+        CommunicationEntity poliana = builder.add("name", "Poliana").build();
+        CommunicationEntity other = CommunicationEntity.builder("Person", ElementNames.of("name", "age"))
+                .add("name", "Ada").add("age", 30).build();
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(ada.find("name", String.class)).contains("Ada");
+            softly.assertThat(poliana.find("name", String.class)).contains("Poliana");
+            softly.assertThat(poliana.contains("age")).isFalse();
+            softly.assertThat(ada).isEqualTo(other).hasSameHashCodeAs(other);
+            softly.assertThat(ada).isNotEqualTo(poliana);
+        });
+    }
+
+    @Test
+    void shouldReturnErrorWhenBuilderNameIsNotInDictionary() {
+        var builder = CommunicationEntity.builder("Person", ElementNames.of("name"));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.add("age", 10));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> builder.add(1, 10));
+        Assertions.assertThrows(NullPointerException.class, () -> CommunicationEntity.builder("Person", null));
+    }
+
+}
@@ -11,6 +11,7 @@
 
 package org.eclipse.jnosql.communication.semistructured;
 
+import jakarta.data.Sort;
 import jakarta.data.exceptions.NonUniqueResultException;
 import jakarta.data.page.CursoredPage;
 import jakarta.data.page.PageRequest;
@@ -26,8 +27,12 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
@@ -545,12 +550,14 @@ class DatabaseManagerTest {
         entity.add("name", "Poliana");
         Mockito.when(databaseManager.select(select)).thenReturn(Stream.of(entity));
 
-        databaseManager.update(updateQuery);
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> List.copyOf((List<CommunicationEntity>) invocation.getArgument(0)));
 
-        ArgumentCaptor<CommunicationEntity> captor = ArgumentCaptor.forClass(CommunicationEntity.class);
-        Mockito.verify(databaseManager).update(captor.capture());
+        var updated = databaseManager.update(updateQuery);
 
-        CommunicationEntity communication = captor.getValue();
+        Mockito.verify(databaseManager, Mockito.never()).update(Mockito.any(CommunicationEntity.class));
+        Assertions.assertThat(updated).hasSize(1);
+        CommunicationEntity communication = updated.iterator().next();
 
         SoftAssertions.assertSoftly(soft ->{
             soft.assertThat(communication.find("name").orElseThrow().get()).isEqualTo("Ada");
@@ -562,6 +569,170 @@ class DatabaseManagerTest {
     }
 
 
+    @Test
+    void shouldExecuteUpdateInChunks(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        var select = SelectQuery.select().from("person").build();
+        var entities = IntStream.range(0, 250).mapToObj(i -> CommunicationEntity.of("person",
+                List.of(Element.of("id", i)))).toList();
+        Mockito.when(databaseManager.select(select)).thenReturn(entities.stream());
+        List<Integer> chunks = new ArrayList<>();
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any())).thenAnswer(invocation -> {
+            List<CommunicationEntity> chunk = List.copyOf((List<CommunicationEntity>) invocation.getArgument(0));
+            chunks.add(chunk.size());
+            return chunk;
+        });
+
+        var updated = databaseManager.update(updateQuery);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(chunks).containsExactly(100, 100, 50);
+            soft.assertThat(updated).hasSize(250);
+            soft.assertThat(updated).allMatch(e -> e.find("age").orElseThrow().get().equals(10));
+        });
+    }
+
+    @Test
+    void shouldUpdateCountInChunks(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        var select = SelectQuery.select().from("person").build();
+        Mockito.when(databaseManager.select(select)).thenReturn(people(0, 150).stream());
+        List<Integer> chunks = new ArrayList<>();
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any())).thenAnswer(invocation -> {
+            List<CommunicationEntity> chunk = List.copyOf((List<CommunicationEntity>) invocation.getArgument(0));
+            chunks.add(chunk.size());
+            return chunk;
+        });
+
+        long updated = databaseManager.updateCount(updateQuery);
+
+        Assertions.assertThat(updated).isEqualTo(150L);
+        Assertions.assertThat(chunks).containsExactly(100, 50);
+    }
+
+    @Test
+    void shouldSendANewListInEachChunk(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        var select = SelectQuery.select().from("person").build();
+        Mockito.when(databaseManager.select(select)).thenReturn(people(0, 150).stream());
+        List<List<CommunicationEntity>> chunks = new ArrayList<>();
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any())).thenAnswer(invocation -> {
+            List<CommunicationEntity> chunk = invocation.getArgument(0);
+            chunks.add(chunk);
+            return chunk;
+        });
+
+        long updated = databaseManager.updateCount(updateQuery);
+
+        Assertions.assertThat(updated).isEqualTo(150L);
+        Assertions.assertThat(chunks).extracting(List::size).containsExactly(100, 50);
+    }
+
+    @Test
+    void shouldUpdateCountNatively(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        Mockito.when(databaseManager.capabilities()).thenReturn(Set.of(DatabaseCapability.UPDATE_QUERY));
+        Mockito.doReturn(people(0, 3)).when(databaseManager).update(updateQuery);
+
+        Assertions.assertThat(databaseManager.updateCount(updateQuery, "id")).isEqualTo(3L);
+        Mockito.verify(databaseManager, Mockito.never()).select(Mockito.any());
+    }
+
+    @Test
+    void shouldUpdateCountByKeyset(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        Mockito.when(databaseManager.capabilities()).thenReturn(Set.of(DatabaseCapability.SORT));
+        List<SelectQuery> selects = new ArrayList<>();
+        Mockito.when(databaseManager.select(Mockito.any())).thenAnswer(invocation -> {
+            SelectQuery query = invocation.getArgument(0);
+            selects.add(query);
+            return query.condition().isEmpty() ? people(0, 100).stream() : people(100, 130).stream();
+        });
+        List<Integer> chunks = new ArrayList<>();
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any())).thenAnswer(invocation -> {
+            List<CommunicationEntity> chunk = invocation.getArgument(0);
+            chunks.add(chunk.size());
+            return chunk;
+        });
+
+        long updated = databaseManager.updateCount(updateQuery, "id");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(updated).isEqualTo(130L);
+            soft.assertThat(chunks).containsExactly(100, 30);
+            soft.assertThat(selects).hasSize(2).allMatch(q -> q.limit() == 100L)
+                    .allMatch(q -> q.sorts().equals(List.of(Sort.asc("id"))));
+            CriteriaCondition condition = selects.get(1).condition().orElseThrow();
+            soft.assertThat(condition.condition()).isEqualTo(Condition.GREATER_THAN);
+            soft.assertThat(condition.element()).isEqualTo(Element.of("id", 99));
+        });
+    }
+
+    @Test
+    void shouldNotUseKeysetWhenKeyIsUpdated(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("id", 10)), null);
+        var select = SelectQuery.select().from("person").build();
+        Mockito.when(databaseManager.capabilities()).thenReturn(Set.of(DatabaseCapability.SORT));
+        Mockito.when(databaseManager.select(select)).thenReturn(people(0, 2).stream());
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> List.copyOf((List<CommunicationEntity>) invocation.getArgument(0)));
+
+        Assertions.assertThat(databaseManager.updateCount(updateQuery, "id")).isEqualTo(2L);
+        Mockito.verify(databaseManager).select(select);
+    }
+
+    @Test
+    void shouldCopyReadOnlyEntitiesOnUpdate(){
+        var updateQuery = new DefaultUpdateQuery("person", List.of(Element.of("age", 10)), null);
+        var select = SelectQuery.select().from("person").build();
+        var entity = CommunicationEntity.builder("person", ElementNames.of("id", "age")).add("id", 1).build();
+        Mockito.when(databaseManager.select(select)).thenReturn(Stream.of(entity));
+        Mockito.when(databaseManager.update(Mockito.<Iterable<CommunicationEntity>>any()))
+                .thenAnswer(invocation -> List.copyOf((List<CommunicationEntity>) invocation.getArgument(0)));
+
+        var updated = databaseManager.update(updateQuery);
+
+        Assertions.assertThat(updated).singleElement()
+                .satisfies(e -> Assertions.assertThat(e.find("age", Integer.class)).contains(10));
+        Assertions.assertThat(entity.contains("age")).isFalse();
+    }
+
+    @Test
+    void shouldCloseStreamOnCount(){
+        SelectQuery query = SelectQuery.select().from("person").build();
+        AtomicBoolean closed = new AtomicBoolean();
+        Mockito.when(databaseManager.select(query)).thenReturn(stream().onClose(() -> closed.set(true)));
+
+        long count = databaseManager.count(query);
+
+        Assertions.assertThat(count).isEqualTo(2L);
+        Assertions.assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldNotSupportCapabilitiesByDefault(){
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(databaseManager.capabilities()).isEmpty();
+            soft.assertThat(DatabaseCapability.values()).noneMatch(databaseManager::supports);
+        });
+        assertThrows(NullPointerException.class, () -> databaseManager.supports(null));
+    }
+
+    @Test
+    void shouldSupportDeclaredCapabilities(){
+        Mockito.when(databaseManager.capabilities()).thenReturn(Set.of(DatabaseCapability.COUNT));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(databaseManager.supports(DatabaseCapability.COUNT)).isTrue();
+            soft.assertThat(databaseManager.supports(DatabaseCapability.UPDATE_QUERY)).isFalse();
+        });
+    }
+
+    private static List<CommunicationEntity> people(int from, int to) {
+        return IntStream.range(from, to).mapToObj(i -> CommunicationEntity.of("person",
+                new ArrayList<>(List.of(Element.of("id", i))))).toList();
+    }
+
     private Stream<CommunicationEntity> stream() {
         var entity = CommunicationEntity.of("name");
         entity.add("name", "Ada");
@@ -11,6 +11,9 @@
 package org.eclipse.jnosql.communication.semistructured;
 
 import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.eclipse.jnosql.communication.TypeReference;
+import org.eclipse.jnosql.communication.ValueUtil;
 import jakarta.data.exceptions.NonUniqueResultException;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -19,7 +22,13 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -160,6 +169,7 @@ class DefaultElementQueryParserTest {
         assertEquals(Condition.EQUALS, criteriaCondition.condition());
         assertEquals("age", element.name());
         assertEquals(12, element.get());
+        assertEquals(2L, selectQuery.limit());
         assertTrue(result.isPresent());
     }
 
@@ -197,4 +207,107 @@ class DefaultElementQueryParserTest {
        assertThrows(NonUniqueResultException.class, prepare::singleResult);
     }
 
+    @ParameterizedTest(name = "Should parser the query {0}")
+    @ValueSource(strings = {"FROM God WHERE age = :age"})
+    void shouldReturnErrorUpdateCountOnSelect(String query) {
+        CommunicationPreparedStatement prepare = parser.prepare(query, null, manager, CommunicationObserverParser.EMPTY);
+        prepare.bind("age", 12);
+        assertThrows(IllegalArgumentException.class, prepare::updateCount);
+        Mockito.verifyNoInteractions(manager);
+    }
+
+    @Test
+    void shouldExecutePrepareStatementWithNewValues() {
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        CommunicationPreparedStatement prepare = parser.prepare("FROM God WHERE age = :age AND name IN (:names)",
+                null, manager, CommunicationObserverParser.EMPTY);
+
+        prepare.bind("age", 12).bind("names", List.of("Diana")).result();
+        prepare.bind("age", 20).result();
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+
+        List<CriteriaCondition> first = captor.getAllValues().get(0).condition().orElseThrow().element()
+                .get(new TypeReference<>() {
+                });
+        List<CriteriaCondition> second = captor.getAllValues().get(1).condition().orElseThrow().element()
+                .get(new TypeReference<>() {
+                });
+        assertEquals(12, first.get(0).element().get());
+        assertEquals(20, second.get(0).element().get());
+        assertEquals(List.of("Diana"), ValueUtil.convertToList(second.get(1).element().value()));
+    }
+
+    @Test
+    void shouldNotChangeParsedQueryOnBind() {
+        CommunicationPreparedStatement prepare = parser.prepare("FROM God WHERE age = :age", null, manager,
+                CommunicationObserverParser.EMPTY);
+        CommunicationPreparedStatement copy = prepare.copy();
+
+        prepare.bind("age", 12);
+
+        assertEquals(12, prepare.select().orElseThrow().condition().orElseThrow().element().get());
+        assertThrows(QueryException.class, copy::result);
+        assertThrows(QueryException.class, () -> copy.select().orElseThrow().condition().orElseThrow()
+                .element().get());
+    }
+
+    @Test
+    void shouldCopyBoundValues() {
+        ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
+        CommunicationPreparedStatement prepare = parser.prepare("DELETE FROM God WHERE age = :age AND name = :name",
+                null, manager, CommunicationObserverParser.EMPTY);
+        prepare.bind("age", 12);
+
+        prepare.copy().bind("name", "Diana").result();
+        prepare.copy().bind("name", "Apollo").result();
+
+        Mockito.verify(manager, Mockito.times(2)).delete(captor.capture());
+        List<Object> names = captor.getAllValues().stream()
+                .map(q -> q.condition().orElseThrow().element().get(new TypeReference<List<CriteriaCondition>>() {
+                }).get(1).element().get())
+                .toList();
+        assertEquals(List.of("Diana", "Apollo"), names);
+        assertThrows(QueryException.class, prepare::result);
+    }
+
+    @Test
+    void shouldBindParamUsedTwice() {
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        CommunicationPreparedStatement prepare = parser.prepare("FROM God WHERE age > :age OR power > :age",
+                null, manager, CommunicationObserverParser.EMPTY);
+
+        prepare.bind("age", 12).result();
+
+        Mockito.verify(manager).select(captor.capture());
+        List<CriteriaCondition> conditions = captor.getValue().condition().orElseThrow().element()
+                .get(new TypeReference<>() {
+                });
+        assertEquals(12, conditions.get(0).element().get());
+        assertEquals(12, conditions.get(1).element().get());
+    }
+
+    @Test
+    void shouldExecuteCopiesConcurrently() throws InterruptedException {
+        Map<Integer, Object> bound = new ConcurrentHashMap<>();
+        Mockito.when(manager.select(Mockito.any(SelectQuery.class))).thenAnswer(invocation -> {
+            SelectQuery query = invocation.getArgument(0);
+            Object age = query.condition().orElseThrow().element().get();
+            bound.put((Integer) age, age);
+            return Stream.empty();
+        });
+        CommunicationPreparedStatement prepare = parser.prepare("FROM God WHERE age = :age", null, manager,
+                CommunicationObserverParser.EMPTY);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int index = 0; index < 100; index++) {
+                int age = index;
+                executor.execute(() -> prepare.copy().bind("age", age).result());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(100, bound.size());
+    }
 }
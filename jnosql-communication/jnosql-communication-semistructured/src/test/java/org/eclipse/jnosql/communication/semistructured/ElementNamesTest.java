@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ElementNamesTest {
+
+    @Test
+    void shouldIndexNames() {
+        ElementNames names = ElementNames.of("_id", "name", "age");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(names.size()).isEqualTo(3);
+            soft.assertThat(names.indexOf("name")).isEqualTo(1);
+            soft.assertThat(names.indexOf("unknown")).isEqualTo(-1);
+            soft.assertThat(names.name(2)).isEqualTo("age");
+            soft.assertThat(names.names()).containsExactly("_id", "name", "age");
+        });
+    }
+
+    @Test
+    void shouldCreateFromList() {
+        assertThat(ElementNames.of(List.of("_id", "name"))).isEqualTo(ElementNames.of("_id", "name"))
+                .hasSameHashCodeAs(ElementNames.of("_id", "name"));
+    }
+
+    @Test
+    void shouldNotChangeWhenArrayChanges() {
+        String[] values = {"_id", "name"};
+        ElementNames names = ElementNames.of(values);
+        values[0] = "other";
+        assertThat(names.indexOf("_id")).isZero();
+    }
+
+    @Test
+    void shouldReturnErrorWhenNameIsInvalid() {
+        assertThrows(IllegalArgumentException.class, () -> ElementNames.of("name", "name"));
+        assertThrows(NullPointerException.class, () -> ElementNames.of("name", null));
+        assertThrows(NullPointerException.class, () -> ElementNames.of("name").indexOf(null));
+    }
+}
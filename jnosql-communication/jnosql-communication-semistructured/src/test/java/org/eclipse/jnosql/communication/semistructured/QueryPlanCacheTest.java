@@ -0,0 +1,128 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *  are made available under the terms of the Eclipse Public License v1.0
+ * and Apache License v2.0 which accompanies this distribution.
+ * The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ * and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ * You may elect to redistribute this code under either of these licenses.
+ *
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Condition;
+import org.eclipse.jnosql.communication.QueryException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+class QueryPlanCacheTest {
+
+    private final DatabaseManager manager = Mockito.mock(DatabaseManager.class);
+
+    @Test
+    void shouldReturnErrorWhenSizeIsNegative() {
+        assertThatThrownBy(() -> QueryPlanCache.of(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        var cache = QueryPlanCache.of(10);
+        var parser = new QueryParser(cache);
+        when(manager.select(Mockito.any())).thenReturn(Stream.empty());
+
+        parser.query("FROM God WHERE age = 10", null, manager, CommunicationObserverParser.EMPTY);
+        parser.query("FROM God WHERE age = 10", null, manager, CommunicationObserverParser.EMPTY);
+        parser.query("FROM God WHERE age = 10", "Other", manager, CommunicationObserverParser.EMPTY);
+        parser.query("DELETE FROM God WHERE age = 10", null, manager, CommunicationObserverParser.EMPTY);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.hits()).isEqualTo(1L);
+            soft.assertThat(cache.misses()).isEqualTo(3L);
+            soft.assertThat(cache.evictions()).isZero();
+            soft.assertThat(cache.size()).isEqualTo(3);
+            soft.assertThat(parser.cache()).isSameAs(cache);
+        });
+    }
+
+    @Test
+    void shouldEvictOldestQuery() {
+        var cache = QueryPlanCache.of(2);
+        cache.select("FROM God WHERE age = 1", null);
+        cache.select("FROM God WHERE age = 2", null);
+        cache.select("FROM God WHERE age = 3", null);
+        cache.select("FROM God WHERE age = 3", null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.size()).isEqualTo(2);
+            soft.assertThat(cache.evictions()).isEqualTo(1L);
+            soft.assertThat(cache.hits()).isEqualTo(1L);
+            soft.assertThat(cache.misses()).isEqualTo(3L);
+        });
+    }
+
+    @Test
+    void shouldNotKeepQueriesWhenDisabled() {
+        var cache = QueryPlanCache.of(0);
+        var first = cache.select("FROM God WHERE age = 1", null);
+        var second = cache.select("FROM God WHERE age = 1", null);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).isNotSameAs(second);
+            soft.assertThat(cache.size()).isZero();
+            soft.assertThat(cache.misses()).isEqualTo(2L);
+            soft.assertThat(cache.hits()).isZero();
+        });
+    }
+
+    @Test
+    void shouldNotCacheInvalidQuery() {
+        var cache = QueryPlanCache.of(10);
+        assertThatThrownBy(() -> cache.select("FROM God WHERE age ==", null))
+                .isInstanceOf(QueryException.class);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldClear() {
+        var cache = QueryPlanCache.of(10);
+        cache.delete("DELETE FROM God WHERE age = 1");
+        cache.update("UPDATE God SET age = 2 WHERE age = 1");
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldBindParametersIndependentlyOnCachedQuery() {
+        var cache = QueryPlanCache.of(10);
+        var parser = new QueryParser(cache);
+        var query = "FROM God WHERE age = :age";
+
+        var first = parser.prepare(query, null, manager, CommunicationObserverParser.EMPTY);
+        var second = parser.prepare(query, null, manager, CommunicationObserverParser.EMPTY);
+        first.bind("age", 10);
+        second.bind("age", 20);
+
+        var captor = ArgumentCaptor.forClass(SelectQuery.class);
+        when(manager.select(Mockito.any())).thenReturn(Stream.empty());
+        first.result();
+        second.result();
+        Mockito.verify(manager, Mockito.times(2)).select(captor.capture());
+
+        var values = captor.getAllValues().stream()
+                .map(s -> s.condition().orElseThrow())
+                .peek(c -> assertThat(c.condition()).isEqualTo(Condition.EQUALS))
+                .map(c -> c.element().get())
+                .toList();
+        assertThat(values).containsExactly(10, 20);
+        assertThat(cache.hits()).isEqualTo(1L);
+    }
+}
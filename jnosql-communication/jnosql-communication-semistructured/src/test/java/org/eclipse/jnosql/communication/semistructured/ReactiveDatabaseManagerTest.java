@@ -0,0 +1,269 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.communication.semistructured;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveDatabaseManagerTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    @Mock
+    private DatabaseManager manager;
+
+    private ReactiveDatabaseManager reactive;
+
+    @BeforeEach
+    void setUp() {
+        reactive = ReactiveDatabaseManager.of(manager, DIRECT);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParametersAreNull() {
+        assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> ReactiveDatabaseManager.of(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> ReactiveDatabaseManager.of(manager, null))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> reactive.select(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> reactive.delete(null)).isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> reactive.insert((CommunicationEntity) null))
+                    .isInstanceOf(NullPointerException.class);
+            soft.assertThatThrownBy(() -> reactive.insert((Iterable<CommunicationEntity>) null))
+                    .isInstanceOf(NullPointerException.class);
+        });
+    }
+
+    @Test
+    void shouldNotSelectBeforeRequest() {
+        SelectQuery query = SelectQuery.select().from("person").build();
+        reactive.select(query).subscribe(new RecordingSubscriber<>());
+        verify(manager, never()).select(any());
+    }
+
+    @Test
+    void shouldSelectOnlyWhatIsRequested() {
+        SelectQuery query = SelectQuery.select().from("person").build();
+        AtomicInteger read = new AtomicInteger();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(manager.select(query)).thenReturn(entities(10).peek(e -> read.incrementAndGet())
+                .onClose(() -> closed.set(true)));
+        RecordingSubscriber<CommunicationEntity> subscriber = new RecordingSubscriber<>();
+        reactive.select(query).subscribe(subscriber);
+
+        subscriber.request(3);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).hasSize(3);
+            soft.assertThat(read.get()).isLessThanOrEqualTo(4);
+            soft.assertThat(subscriber.completed).isFalse();
+            soft.assertThat(closed.get()).isFalse();
+        });
+
+        subscriber.request(Long.MAX_VALUE);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).hasSize(10);
+            soft.assertThat(subscriber.completed).isTrue();
+            soft.assertThat(subscriber.error).isNull();
+            soft.assertThat(closed.get()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldCloseStreamWhenCancelled() {
+        SelectQuery query = SelectQuery.select().from("person").build();
+        AtomicBoolean closed = new AtomicBoolean();
+        when(manager.select(query)).thenReturn(entities(10).onClose(() -> closed.set(true)));
+        RecordingSubscriber<CommunicationEntity> subscriber = new RecordingSubscriber<>();
+        reactive.select(query).subscribe(subscriber);
+
+        subscriber.request(2);
+        subscriber.subscription.cancel();
+        subscriber.request(5);
+
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).hasSize(2);
+            soft.assertThat(subscriber.completed).isFalse();
+            soft.assertThat(closed.get()).isTrue();
+        });
+    }
+
+    @Test
+    void shouldSignalErrorWhenRequestIsNotPositive() {
+        SelectQuery query = SelectQuery.select().from("person").build();
+        RecordingSubscriber<CommunicationEntity> subscriber = new RecordingSubscriber<>();
+        reactive.select(query).subscribe(subscriber);
+        subscriber.request(0);
+        assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldSignalErrorFromDatabase() {
+        SelectQuery query = SelectQuery.select().from("person").build();
+        when(manager.select(query)).thenThrow(new UnsupportedOperationException("not supported"));
+        RecordingSubscriber<CommunicationEntity> subscriber = new RecordingSubscriber<>();
+        reactive.select(query).subscribe(subscriber);
+        subscriber.request(1);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.error).isInstanceOf(UnsupportedOperationException.class);
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+    }
+
+    @Test
+    void shouldInsert() {
+        CommunicationEntity entity = CommunicationEntity.of("person", List.of(Element.of("_id", 1)));
+        when(manager.insert(entity)).thenReturn(entity);
+        RecordingSubscriber<CommunicationEntity> subscriber = new RecordingSubscriber<>();
+        reactive.insert(entity).subscribe(subscriber);
+        subscriber.request(1);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly(entity);
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldInsertInChunksAsRequested() {
+        List<CommunicationEntity> entities = entities(ChunkedUpdate.CHUNK_SIZE + 10).toList();
+        when(manager.insert(anyIterable())).thenAnswer(invocation -> invocation.getArgument(0));
+        RecordingSubscriber<CommunicationEntity> subscriber = new RecordingSubscriber<>();
+        reactive.insert(entities).subscribe(subscriber);
+
+        subscriber.request(1);
+        verify(manager, Mockito.times(1)).insert(anyIterable());
+
+        subscriber.request(Long.MAX_VALUE);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactlyElementsOf(entities);
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+        verify(manager, Mockito.times(2)).insert(anyIterable());
+    }
+
+    @Test
+    void shouldDelete() {
+        DeleteQuery query = DeleteQuery.delete().from("person").build();
+        RecordingSubscriber<Void> subscriber = new RecordingSubscriber<>();
+        reactive.delete(query).subscribe(subscriber);
+        verify(manager, never()).delete(query);
+        subscriber.request(1);
+        verify(manager).delete(query);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).isEmpty();
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+    }
+
+    @Test
+    void shouldSelectOnDefaultExecutor() throws InterruptedException {
+        SelectQuery query = SelectQuery.select().from("person").build();
+        when(manager.select(query)).thenReturn(entities(5));
+        CountDownLatch latch = new CountDownLatch(1);
+        RecordingSubscriber<CommunicationEntity> subscriber = new RecordingSubscriber<>(latch);
+        ReactiveDatabaseManager.of(manager).select(query).subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).hasSize(5);
+            soft.assertThat(subscriber.threads).allMatch(name -> name.startsWith("jnosql-blocking"));
+        });
+    }
+
+    @Test
+    void shouldReturnName() {
+        when(manager.name()).thenReturn("database");
+        assertThat(reactive.name()).isEqualTo("database");
+    }
+
+    private static Stream<CommunicationEntity> entities(int size) {
+        return IntStream.range(0, size)
+                .mapToObj(index -> CommunicationEntity.of("person", List.of(Element.of("_id", index))));
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final List<T> items = new ArrayList<>();
+
+        private final List<String> threads = new ArrayList<>();
+
+        private final CountDownLatch latch;
+
+        private Flow.Subscription subscription;
+
+        private volatile boolean completed;
+
+        private volatile Throwable error;
+
+        private RecordingSubscriber() {
+            this(new CountDownLatch(1));
+        }
+
+        private RecordingSubscriber(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        private void request(long n) {
+            subscription.request(n);
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+            threads.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+            latch.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+            latch.countDown();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping;
+
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * When several entities are either saved or updated in one operation, such as the insert or update of an
+ * {@link Iterable}, it's the event fired once with all the entities after the database action.
+ * It's fired only when there is an observer, in addition to the {@link EntityPostPersist} of each entity, thus an
+ * application that handles the entities together observes this event instead.
+ */
+public final class EntitiesPostPersist implements Supplier<List<Object>> {
+
+    private final List<Object> values;
+
+    EntitiesPostPersist(List<Object> values) {
+        this.values = values;
+    }
+
+
+    @Override
+    public List<Object> get() {
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof EntitiesPostPersist)) {
+            return false;
+        }
+        EntitiesPostPersist that = (EntitiesPostPersist) o;
+        return Objects.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "EntitiesPostPersist{" + "values=" + values +
+                '}';
+    }
+
+    /**
+     * Creates the event with the entities, in the order of the operation.
+     *
+     * @param values the entities
+     * @return the event with an unmodifiable copy of the entities
+     * @throws NullPointerException when the list or any entity is null
+     */
+    public static EntitiesPostPersist of(List<?> values) {
+        Objects.requireNonNull(values, "values is required");
+        return new EntitiesPostPersist(List.copyOf(values));
+    }
+
+
+}
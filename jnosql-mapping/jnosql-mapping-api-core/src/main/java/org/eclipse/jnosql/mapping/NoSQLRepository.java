@@ -17,7 +17,11 @@ package org.eclipse.jnosql.mapping;
 import jakarta.data.repository.BasicRepository;
 import jakarta.data.repository.CrudRepository;
 import jakarta.data.repository.Delete;
+import org.eclipse.jnosql.mapping.util.FanOut;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
@@ -67,6 +71,32 @@ public interface NoSQLRepository<T, K> extends BasicRepository<T, K>, CrudReposi
      */
     Stream<T> findByIdIn(Iterable<K> ids);
 
+    /**
+     * Returns all instances of the type {@code T} with the given Ids, finding at most {@code parallelism} Ids at
+     * the same time. It is meant for databases without a native multi-get, where each Id is a round trip.
+     * <p>
+     * If some or all Ids are not found, no entities are returned for these Ids. The entities keep the order of
+     * the Ids, and a parallelism of zero or one is the same as {@link #findByIdIn(Iterable)}.
+     *
+     * @param ids         must not be {@code null} nor contain any {@code null} values.
+     * @param parallelism the maximum number of Ids found at the same time, or zero to find them sequentially.
+     * @return guaranteed to be not {@code null}. The size can be equal or less than the number of given
+     * ids.
+     * @throws NullPointerException     in case the given {@link Iterable ids} or one of its items is {@code null}.
+     * @throws IllegalArgumentException when the parallelism is negative.
+     */
+    default Stream<T> findByIdIn(Iterable<K> ids, int parallelism) {
+        Objects.requireNonNull(ids, "ids is required");
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("The parallelism must not be negative: " + parallelism);
+        }
+        if (parallelism <= 1) {
+            return findByIdIn(ids);
+        }
+        List<K> values = new ArrayList<>();
+        ids.forEach(values::add);
+        return FanOut.lookup(values, parallelism, this::findById).stream();
+    }
 
     /**
      * Deletes all instances of the type {@code T} with the given Ids.
@@ -15,11 +15,8 @@
 package org.eclipse.jnosql.mapping.metadata;
 
 
-import jakarta.nosql.NoSQLException;
-
 import java.util.List;
 import java.util.Objects;
-import java.util.ServiceLoader;
 
 /**
  * The ConstructorBuilder interface provides a way to create an entity from a constructor.
@@ -65,8 +62,6 @@ public interface ConstructorBuilder {
      */
     static ConstructorBuilder of(ConstructorMetadata constructor){
         Objects.requireNonNull(constructor, "constructor is required");
-        var supplier = ServiceLoader.load(ConstructorBuilderSupplier.class).findFirst()
-                .orElseThrow(() -> new NoSQLException("There is not implementation for the ConstructorBuilderSupplier"));
-        return supplier.apply(constructor);
+        return ConstructorBuilderSupplier.load().apply(constructor);
     }
 }
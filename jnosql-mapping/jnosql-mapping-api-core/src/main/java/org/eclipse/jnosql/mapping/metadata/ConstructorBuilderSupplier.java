@@ -14,10 +14,26 @@
  */
 package org.eclipse.jnosql.mapping.metadata;
 
+import jakarta.nosql.NoSQLException;
+
+import java.util.ServiceLoader;
 import java.util.function.Function;
 
 /**
  * A supplier that create a ConstructorBuilder from the ConstructorMetadata.
  */
 public interface ConstructorBuilderSupplier extends Function<ConstructorMetadata, ConstructorBuilder> {
+
+    /**
+     * Loads and returns the first {@link ConstructorBuilderSupplier} implementation using the ServiceLoader
+     * mechanism. A caller that creates many entities should keep the returned supplier instead of loading
+     * it for each entity.
+     *
+     * @return An instance of the loaded {@link ConstructorBuilderSupplier} implementation.
+     * @throws NoSQLException If no implementation is found.
+     */
+    static ConstructorBuilderSupplier load() {
+        return ServiceLoader.load(ConstructorBuilderSupplier.class).findFirst()
+                .orElseThrow(() -> new NoSQLException("There is not implementation for the ConstructorBuilderSupplier"));
+    }
 }
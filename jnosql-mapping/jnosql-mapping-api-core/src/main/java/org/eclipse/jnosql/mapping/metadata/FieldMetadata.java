@@ -61,6 +61,19 @@ public interface FieldMetadata extends FieldParameterMetadata {
      */
     Object value(Value value);
 
+    /**
+     * Converts the value to the field type, as {@link #value(Value)}, and writes it through the bean.
+     * An implementation may write the primitive fields without boxing the value, e.g., through
+     * {@link Value#getAsInt()}.
+     *
+     * @param bean  the bean
+     * @param value the value {@link Value}
+     * @throws NullPointerException when there is a null parameter
+     */
+    default void writeValue(Object bean, Value value) {
+        write(bean, value(value));
+    }
+
     /**
      * Returns true if the field is annotated with {@link Id}.
      *
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.util;
+
+import org.eclipse.jnosql.communication.BlockingExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Executes a lookup per key with bounded concurrency, for the databases where each key is a round trip: the time
+ * of {@code n} keys is about {@code n / parallelism} round trips instead of {@code n}.
+ *
+ * <p>At most {@code parallelism} keys are read at the same time. Each worker takes the next key until there are no
+ * more keys, and the caller thread is one of the workers; the other ones run on the bounded
+ * {@link BlockingExecutor}. The caller waits only for the keys taken by the other workers, not for a worker that
+ * has not started, thus a full pool slows the lookup down but does not block it. The results keep the order of
+ * the keys.</p>
+ */
+public final class FanOut {
+
+    private FanOut() {
+    }
+
+    /**
+     * Executes the lookup of each key, at most {@code parallelism} at the same time, and returns the values that
+     * are found in the order of their keys. When a lookup fails, the keys that were not taken yet are skipped and
+     * the first failure is thrown.
+     *
+     * @param keys        the keys
+     * @param parallelism the maximum number of keys read at the same time
+     * @param lookup      the lookup of one key
+     * @param <K>         the key type
+     * @param <V>         the value type
+     * @return the values found, in the order of the keys
+     * @throws NullPointerException     when either the keys or the lookup is null
+     * @throws IllegalArgumentException when the parallelism is lower than one
+     */
+    public static <K, V> List<V> lookup(List<K> keys, int parallelism, Function<K, Optional<V>> lookup) {
+        Objects.requireNonNull(keys, "keys is required");
+        Objects.requireNonNull(lookup, "lookup is required");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism must be greater than zero: " + parallelism);
+        }
+        int size = keys.size();
+        Object[] values = new Object[size];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger finished = new AtomicInteger();
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Runnable worker = () -> {
+            for (int index = next.getAndIncrement(); index < size; index = next.getAndIncrement()) {
+                try {
+                    if (failure.get() == null) {
+                        values[index] = lookup.apply(keys.get(index)).orElse(null);
+                    }
+                } catch (RuntimeException exception) {
+                    failure.compareAndSet(null, exception);
+                } finally {
+                    if (finished.incrementAndGet() == size) {
+                        done.complete(null);
+                    }
+                }
+            }
+        };
+        int workers = Math.min(parallelism, size);
+        for (int index = 1; index < workers; index++) {
+            BlockingExecutor.INSTANCE.execute(worker);
+        }
+        worker.run();
+        if (size > 0) {
+            done.join();
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        List<V> result = new ArrayList<>(values.length);
+        for (Object value : values) {
+            if (value != null) {
+                result.add(cast(value));
+            }
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> V cast(Object value) {
+        return (V) value;
+    }
+}
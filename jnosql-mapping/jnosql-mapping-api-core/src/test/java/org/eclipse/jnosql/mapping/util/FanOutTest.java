@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.util;
+
+import org.eclipse.jnosql.communication.BlockingExecutor;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FanOutTest {
+
+    @Test
+    void shouldKeepTheOrderOfTheKeys() {
+        List<Integer> keys = IntStream.range(0, 50).boxed().toList();
+
+        List<String> values = FanOut.lookup(keys, 8, key -> {
+            sleep(50 - key);
+            return key % 5 == 0 ? Optional.empty() : Optional.of("value-" + key);
+        });
+
+        List<String> expected = keys.stream().filter(key -> key % 5 != 0).map(key -> "value-" + key).toList();
+        assertThat(values).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void shouldBoundTheConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger max = new AtomicInteger();
+        List<Integer> keys = IntStream.range(0, 40).boxed().toList();
+
+        List<Integer> values = FanOut.lookup(keys, 4, key -> {
+            max.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleep(2);
+            running.decrementAndGet();
+            return Optional.of(key);
+        });
+
+        assertThat(values).containsExactlyElementsOf(keys);
+        assertThat(max.get()).isBetween(1, 4);
+    }
+
+    @Test
+    void shouldRunOnTheCallerThreadWhenParallelismIsOne() {
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+
+        FanOut.lookup(List.of(1, 2, 3), 1, key -> {
+            threads.add(Thread.currentThread().getName());
+            return Optional.of(key);
+        });
+
+        assertThat(threads).containsOnly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldThrowTheFirstFailure() {
+        List<Integer> keys = IntStream.range(0, 20).boxed().toList();
+
+        assertThatThrownBy(() -> FanOut.lookup(keys, 4, key -> {
+            if (key == 3) {
+                throw new IllegalStateException("failure");
+            }
+            return Optional.of(key);
+        })).isInstanceOf(IllegalStateException.class).hasMessage("failure");
+    }
+
+    @Test
+    void shouldNotWaitForTheWorkersThatDidNotStart() throws Exception {
+        List<Integer> keys = IntStream.range(0, 16).boxed().toList();
+        List<CompletableFuture<List<Integer>>> lookups = IntStream.range(0, 128)
+                .mapToObj(index -> CompletableFuture.supplyAsync(() -> FanOut.lookup(keys, 8, key -> {
+                    sleep(1);
+                    return Optional.of(key);
+                }), BlockingExecutor.INSTANCE))
+                .toList();
+
+        CompletableFuture.allOf(lookups.toArray(CompletableFuture[]::new)).get(1, TimeUnit.MINUTES);
+
+        assertThat(lookups).allSatisfy(lookup -> assertThat(lookup.join()).containsExactlyElementsOf(keys));
+    }
+
+    @Test
+    void shouldReturnEmptyWhenThereAreNoKeys() {
+        assertThat(FanOut.lookup(List.of(), 4, Optional::of)).isEmpty();
+    }
+
+    @Test
+    void shouldReturnErrorWhenParallelismIsInvalid() {
+        assertThatThrownBy(() -> FanOut.lookup(List.of(1), 0, Optional::of))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsNull() {
+        assertThatThrownBy(() -> FanOut.lookup(null, 1, Optional::of)).isInstanceOf(NullPointerException.class);
+        assertThatThrownBy(() -> FanOut.lookup(List.of(1), 1, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
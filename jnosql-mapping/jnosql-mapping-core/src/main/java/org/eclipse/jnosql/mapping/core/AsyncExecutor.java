@@ -0,0 +1,34 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core;
+
+import org.eclipse.jnosql.communication.BlockingExecutor;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The {@link Executor} of the asynchronous operations of the templates and repositories. It runs the operations on
+ * the {@link BlockingExecutor}, bounded by the {@link org.eclipse.jnosql.communication.Configurations#ASYNC_THREADS}
+ * setting, thus independent lookups of the same request run concurrently up to that bound.
+ */
+public enum AsyncExecutor implements Executor {
+
+    INSTANCE;
+
+    @Override
+    public void execute(Runnable command) {
+        BlockingExecutor.INSTANCE.execute(command);
+    }
+}
@@ -16,16 +16,19 @@ package org.eclipse.jnosql.mapping.core;
 
 
 import jakarta.enterprise.context.ApplicationScoped;
-import jakarta.enterprise.context.spi.CreationalContext;
 import jakarta.enterprise.inject.spi.Bean;
 import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
 import jakarta.nosql.AttributeConverter;
+import org.eclipse.jnosql.mapping.Shareable;
 import org.eclipse.jnosql.mapping.metadata.FieldParameterMetadata;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -40,8 +43,12 @@ public class Converters {
     @Inject
     private BeanManager beanManager;
 
+    private final Map<Class<?>, Supplier<?>> converters = new ConcurrentHashMap<>();
+
     /**
      * Returns a converter instance where it might use scope from CDI.
+     * The converter of each class is resolved once: a converter with a normal scope, or annotated with
+     * {@link Shareable}, is created once and shared, the other ones are created on each call.
      *
      * @param metadata the metadata field
      * @param <X> the type of the entity attribute
@@ -49,33 +56,36 @@ public class Converters {
      * @return a converter instance
      * @throws NullPointerException when converter is null
      */
+    @SuppressWarnings("unchecked")
     public <X, Y> AttributeConverter<X, Y> get(FieldParameterMetadata metadata) {
         Objects.requireNonNull(metadata, "The metadata is required");
-        return getInstance(metadata);
-    }
-
-
-
-    @SuppressWarnings("unchecked")
-    private <T> T getInstance(FieldParameterMetadata metadata) {
-        Class<T> type = (Class<T>) metadata.converter()
+        Class<?> type = metadata.converter()
                 .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
                         + metadata.name() + " in the Field: " + metadata.type()));
+        return (AttributeConverter<X, Y>) converters.computeIfAbsent(type, k -> resolve(k, metadata)).get();
+    }
 
+    @SuppressWarnings("unchecked")
+    private <T> Supplier<T> resolve(Class<T> type, FieldParameterMetadata metadata) {
+        boolean shareable = type.isAnnotationPresent(Shareable.class);
         Iterator<Bean<?>> iterator = beanManager.getBeans(type).iterator();
+        Supplier<T> supplier;
         if (iterator.hasNext()) {
             Bean<T> bean = (Bean<T>) iterator.next();
-            CreationalContext<T> ctx = beanManager.createCreationalContext(bean);
-            return (T) beanManager.getReference(bean, type, ctx);
+            shareable = shareable || beanManager.isNormalScope(bean.getScope());
+            supplier = () -> (T) beanManager.getReference(bean, type, beanManager.createCreationalContext(bean));
         } else {
             LOGGER.log(Level.FINE, "The converter type: " + type + " not found on CDI context, creating by constructor");
-            return (T) metadata.newConverter() .orElseThrow(() -> new NoSuchElementException("There is not converter to the field: "
-                    + metadata.name() + " in the Field: " + metadata.type()));
+            supplier = () -> (T) metadata.newConverter().orElseThrow(() -> new NoSuchElementException(
+                    "There is not converter to the field: " + metadata.name() + " in the Field: " + metadata.type()));
         }
-
+        if (shareable) {
+            T converter = supplier.get();
+            return () -> converter;
+        }
+        return supplier;
     }
 
-
     @Override
     public String toString() {
         return "DefaultConverters{" +
@@ -0,0 +1,157 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.eclipse.jnosql.communication.Configurations;
+import org.eclipse.jnosql.mapping.Cacheable;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * A read-through cache of the entities read by id, keyed by the type and the id. The templates keep one cache each,
+ * so the entities of different databases are never mixed, and the repositories share the cache of their template.
+ *
+ * <p>The templates only keep the entities of the {@link #isCacheable(Class) cacheable} types: the ones annotated with
+ * {@link Cacheable} and the ones listed at the {@link Configurations#ENTITY_CACHE_ENTITIES} setting. The cache keeps
+ * the value read from the database, not the entity instance, thus each read creates a new entity and a change on it
+ * does not change the cache.</p>
+ *
+ * <p>A template can use another implementation by overriding its {@code entityCache()} method.</p>
+ */
+public interface EntityCache {
+
+    /**
+     * The default maximum number of values kept by a cache.
+     */
+    int DEFAULT_SIZE = 10_000;
+
+    /**
+     * The default time a value is kept after it is read.
+     */
+    Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    /**
+     * Checks if the entities of the type are kept in this cache.
+     *
+     * @param type the entity type
+     * @return true when the type is cacheable
+     * @throws NullPointerException when type is null
+     */
+    boolean isCacheable(Class<?> type);
+
+    /**
+     * Returns the value of the id, calling the loader when it is not in the cache and keeping its result. A result
+     * is not kept when the id or its type is evicted while the loader runs, neither when the loader returns empty.
+     * The type is where the id belongs, thus the callers check {@link #isCacheable(Class)} with the entity type
+     * before, e.g., a key-value template keeps all the keys of its bucket under one type.
+     *
+     * @param type   the type of the id
+     * @param id     the id
+     * @param loader reads the value from the database
+     * @param <V>    the value type
+     * @return the value of the id
+     * @throws NullPointerException when there is a null parameter
+     */
+    <V> Optional<V> get(Class<?> type, Object id, Supplier<Optional<V>> loader);
+
+    /**
+     * Removes the value of the id.
+     *
+     * @param type the type of the id
+     * @param id   the id
+     * @throws NullPointerException when there is a null parameter
+     */
+    void evict(Class<?> type, Object id);
+
+    /**
+     * Removes all the values of the type, for instance, after a delete or an update by query.
+     *
+     * @param type the type
+     * @throws NullPointerException when type is null
+     */
+    void evictAll(Class<?> type);
+
+    /**
+     * Removes all the values; the counters are kept.
+     */
+    void clear();
+
+    /**
+     * @return the number of reads that found the value in the cache
+     */
+    long hits();
+
+    /**
+     * @return the number of reads that called the loader
+     */
+    long misses();
+
+    /**
+     * @return the number of values removed because they expired or to respect the maximum size
+     */
+    long evictions();
+
+    /**
+     * @return the current number of values in the cache
+     */
+    int size();
+
+    /**
+     * Creates a lock-striped cache that evicts the least recently read values beyond the maximum size.
+     *
+     * @param maxSize  the maximum size, zero disables the cache
+     * @param ttl      how long a value is kept after it is read, zero keeps the values until they are evicted
+     * @param entities the fully qualified names of the classes that are cacheable without the {@link Cacheable}
+     * @return a new {@link EntityCache} instance
+     * @throws NullPointerException     when there is a null parameter
+     * @throws IllegalArgumentException when maxSize or ttl is negative
+     */
+    static EntityCache of(int maxSize, Duration ttl, Set<String> entities) {
+        Objects.requireNonNull(ttl, "ttl is required");
+        Objects.requireNonNull(entities, "entities is required");
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("The maxSize cannot be negative: " + maxSize);
+        }
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("The ttl cannot be negative: " + ttl);
+        }
+        return new StripedEntityCache(maxSize, ttl, Set.copyOf(entities), System::nanoTime);
+    }
+
+    /**
+     * Creates a cache from the {@link Configurations#ENTITY_CACHE_SIZE}, {@link Configurations#ENTITY_CACHE_TTL}
+     * and {@link Configurations#ENTITY_CACHE_ENTITIES} settings.
+     *
+     * @return a new {@link EntityCache} instance
+     */
+    static EntityCache of() {
+        var settings = MicroProfileSettings.INSTANCE;
+        int maxSize = settings.get(Configurations.ENTITY_CACHE_SIZE, Integer.class).orElse(DEFAULT_SIZE);
+        Duration ttl = settings.get(Configurations.ENTITY_CACHE_TTL, Long.class)
+                .map(Duration::ofSeconds).orElse(DEFAULT_TTL);
+        Set<String> entities = settings.get(Configurations.ENTITY_CACHE_ENTITIES, String.class)
+                .map(names -> Arrays.stream(names.split(",")).map(String::trim).filter(name -> !name.isEmpty())
+                        .collect(Collectors.toUnmodifiableSet()))
+                .orElse(Set.of());
+        return of(Math.max(0, maxSize), ttl.isNegative() ? Duration.ZERO : ttl, entities);
+    }
+}
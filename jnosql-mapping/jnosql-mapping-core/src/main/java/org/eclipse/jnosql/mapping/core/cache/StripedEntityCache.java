@@ -0,0 +1,250 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.eclipse.jnosql.mapping.Cacheable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The default {@link EntityCache}: the keys are spread over up to sixteen stripes, each one a map in access order
+ * guarded by its own lock, so the reads of different keys rarely wait for each other. Each stripe keeps its share
+ * of the maximum size and evicts its least recently read value beyond it; the expired values are removed when
+ * they are read.
+ *
+ * <p>An eviction increments the generation of the stripe, and the value of a loader is kept only when the
+ * generation did not change while it ran, thus a read that races with a write never keeps the old value.</p>
+ */
+final class StripedEntityCache implements EntityCache {
+
+    private static final int STRIPES = 16;
+
+    private final int maxSize;
+
+    private final long ttl;
+
+    private final LongSupplier ticker;
+
+    private final Stripe[] stripes;
+
+    private final ClassValue<Boolean> cacheable;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    StripedEntityCache(int maxSize, Duration ttl, Set<String> entities, LongSupplier ticker) {
+        this.maxSize = maxSize;
+        this.ttl = ttl.toNanos();
+        this.ticker = ticker;
+        int count = Math.max(1, Math.min(STRIPES, maxSize));
+        int capacity = (maxSize + count - 1) / count;
+        this.stripes = new Stripe[count];
+        Arrays.setAll(stripes, index -> new Stripe(capacity, evictions));
+        this.cacheable = new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                return maxSize > 0 && (type.isAnnotationPresent(Cacheable.class) || entities.contains(type.getName()));
+            }
+        };
+    }
+
+    @Override
+    public boolean isCacheable(Class<?> type) {
+        requireNonNull(type, "type is required");
+        return cacheable.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <V> Optional<V> get(Class<?> type, Object id, Supplier<Optional<V>> loader) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        requireNonNull(loader, "loader is required");
+        if (maxSize == 0) {
+            misses.increment();
+            return loader.get();
+        }
+        Key key = new Key(type, id);
+        Stripe stripe = stripe(key);
+        Object cached = null;
+        long generation;
+        stripe.lock.lock();
+        try {
+            Entry entry = stripe.entries.get(key);
+            if (entry != null && isExpired(entry)) {
+                stripe.entries.remove(key);
+                evictions.increment();
+            } else if (entry != null) {
+                cached = entry.value();
+            }
+            generation = stripe.generation;
+        } finally {
+            stripe.lock.unlock();
+        }
+        if (cached != null) {
+            hits.increment();
+            return Optional.of((V) cached);
+        }
+        misses.increment();
+        Optional<V> loaded = loader.get();
+        loaded.ifPresent(value -> put(stripe, key, value, generation));
+        return loaded;
+    }
+
+    @Override
+    public void evict(Class<?> type, Object id) {
+        requireNonNull(type, "type is required");
+        requireNonNull(id, "id is required");
+        Key key = new Key(type, id);
+        Stripe stripe = stripe(key);
+        stripe.lock.lock();
+        try {
+            stripe.entries.remove(key);
+            stripe.generation++;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void evictAll(Class<?> type) {
+        requireNonNull(type, "type is required");
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.entries.keySet().removeIf(key -> key.type().equals(type));
+                stripe.generation++;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.entries.clear();
+                stripe.generation++;
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public long hits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.entries.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "EntityCache{" +
+                "maxSize=" + maxSize +
+                ", size=" + size() +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                '}';
+    }
+
+    private void put(Stripe stripe, Key key, Object value, long generation) {
+        stripe.lock.lock();
+        try {
+            if (stripe.generation == generation) {
+                stripe.entries.put(key, new Entry(value, ticker.getAsLong() + ttl));
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    private boolean isExpired(Entry entry) {
+        return ttl > 0 && ticker.getAsLong() - entry.expiresAt() >= 0;
+    }
+
+    private Stripe stripe(Key key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return stripes[(hash & Integer.MAX_VALUE) % stripes.length];
+    }
+
+    private record Key(Class<?> type, Object id) {
+    }
+
+    private record Entry(Object value, long expiresAt) {
+    }
+
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final Map<Key, Entry> entries;
+
+        private long generation;
+
+        private Stripe(int capacity, LongAdder evictions) {
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                    if (size() > capacity) {
+                        evictions.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+    }
+}
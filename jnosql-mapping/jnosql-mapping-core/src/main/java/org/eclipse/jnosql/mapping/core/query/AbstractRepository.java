@@ -20,18 +20,28 @@ import jakarta.data.page.PageRequest;
 import jakarta.data.repository.CrudRepository;
 import jakarta.nosql.Template;
 import org.eclipse.jnosql.mapping.NoSQLRepository;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
+import static org.eclipse.jnosql.communication.Configurations.BATCH_SIZE;
+import static org.eclipse.jnosql.communication.Configurations.FIND_BY_ID_PARALLELISM;
 import static org.eclipse.jnosql.mapping.IdNotFoundException.KEY_NOT_FOUND_EXCEPTION_SUPPLIER;
 
 /**
@@ -101,6 +111,52 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
         return "The AbstractRepository does not support %s method";
     }
 
+    /**
+     * Finds the entities of the ids in one operation; the ids that are not found are skipped.
+     * The default implementation finds one id at a time, the subclasses override it when the database
+     * can find several ids at once.
+     *
+     * @param ids the ids, at most {@link #batchSize()}
+     * @return the entities found
+     */
+    protected Stream<T> findAllById(List<K> ids) {
+        return ids.stream().flatMap(optionalToStream());
+    }
+
+    /**
+     * Deletes the entities of the ids in one operation.
+     * The default implementation deletes one id at a time, the subclasses override it when the database
+     * can delete several ids at once.
+     *
+     * @param ids the ids, at most {@link #batchSize()}
+     */
+    protected void deleteAllById(List<K> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    /**
+     * The maximum number of entities, or ids, of each database operation of {@link #saveAll(List)},
+     * {@link #deleteAll(List)}, {@link #deleteByIdIn(Iterable)} and {@link #findByIdIn(Iterable)}, to respect
+     * the limits of the database. It reads the {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE}
+     * setting, a value lower than one is ignored.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        return BatchSizeHolder.SIZE;
+    }
+
+    /**
+     * The maximum number of ids found at the same time by {@link #findByIdIn(Iterable)}. It reads the
+     * {@link org.eclipse.jnosql.communication.Configurations#FIND_BY_ID_PARALLELISM} setting, zero, the default,
+     * or one finds the ids in chunks of {@link #batchSize()}.
+     *
+     * @return the parallelism
+     */
+    protected int parallelism() {
+        return SettingsHolder.PARALLELISM;
+    }
+
     @Override
     public <S extends T> S save(S entity) {
         requireNonNull(entity, "Entity is required");
@@ -115,7 +171,11 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
     @Override
     public <S extends T> List<S> saveAll(List<S> entities) {
         requireNonNull(entities, "entities is required");
-        return entities.stream().map(this::save).collect(toList());
+        List<S> saved = new ArrayList<>(entities.size());
+        for (List<S> chunk : chunks(entities)) {
+            saved.addAll(saveChunk(chunk));
+        }
+        return saved;
     }
 
 
@@ -128,7 +188,7 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
     @Override
     public void deleteByIdIn(Iterable<K> ids) {
         requireNonNull(ids, "ids is required");
-        ids.forEach(this::deleteById);
+        chunks(requireIds(ids)).forEach(this::deleteAllById);
     }
 
     @Override
@@ -138,11 +198,22 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
     }
 
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>When the {@link #parallelism()} is greater than one, each id is found with {@link #findById(Object)};
+     * otherwise, the ids are found with {@link #findAllById(List)} in chunks of {@link #batchSize()}. Either way,
+     * the entities keep the order of the ids.</p>
+     */
     @Override
     public Stream<T> findByIdIn(Iterable<K> ids) {
         requireNonNull(ids, "ids is required");
-        return stream(ids.spliterator(), false)
-                .flatMap(optionalToStream());
+        List<K> values = requireIds(ids);
+        int parallelism = parallelism();
+        if (parallelism > 1) {
+            return findByIdIn(values, parallelism);
+        }
+        return chunks(values).stream().flatMap(this::findAllByIdInOrder);
     }
 
     @Override
@@ -161,7 +232,12 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
     @Override
     public void deleteAll(List<? extends T>  entities) {
         requireNonNull(entities, "entities is required");
-        entities.forEach(this::delete);
+        FieldMetadata id = getIdField();
+        List<K> ids = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            ids.add((K) requireNonNull(id.read(requireNonNull(entity, "entity is required")), "id is required"));
+        }
+        deleteByIdIn(ids);
     }
 
     @Override
@@ -210,5 +286,94 @@ public abstract class AbstractRepository<T, K> implements NoSQLRepository<T, K>
         throw new UnsupportedOperationException(String.format(getErrorMessage(), "findAll"));
     }
 
+    /**
+     * Saves the entities of one chunk: the ids that already exist are found with one {@link #findAllById(List)},
+     * then the new entities are inserted and the existing ones updated, each group in one template call. When
+     * a new id repeats in the chunk, only its first entity is inserted and the next ones update it, as if they
+     * were saved one by one; but the default value of a primitive id, zero or false, means the entity has no id
+     * yet, so each of those entities is inserted.
+     */
+    private <S extends T> List<S> saveChunk(List<S> entities) {
+        FieldMetadata idField = getIdField();
+        Set<K> ids = new LinkedHashSet<>();
+        for (S entity : entities) {
+            Object id = idField.read(requireNonNull(entity, "entity is required"));
+            if (nonNull(id)) {
+                ids.add((K) id);
+            }
+        }
+        Set<Object> existing = ids.isEmpty() ? Set.of()
+                : findAllById(new ArrayList<>(ids)).map(idField::read).collect(Collectors.toSet());
+        Set<Object> inserted = new HashSet<>();
+        List<S> updates = new ArrayList<>();
+        List<S> inserts = new ArrayList<>();
+        boolean[] updated = new boolean[entities.size()];
+        for (int index = 0; index < entities.size(); index++) {
+            S entity = entities.get(index);
+            Object id = idField.read(entity);
+            updated[index] = nonNull(id) && (existing.contains(id) || !isDefault(id) && !inserted.add(id));
+            (updated[index] ? updates : inserts).add(entity);
+        }
+        Iterator<S> insertResults = inserts.isEmpty() ? inserts.iterator() : template().insert(inserts).iterator();
+        Iterator<S> updateResults = updates.isEmpty() ? updates.iterator() : template().update(updates).iterator();
+        List<S> saved = new ArrayList<>(entities.size());
+        for (int index = 0; index < entities.size(); index++) {
+            Iterator<S> result = updated[index] ? updateResults : insertResults;
+            saved.add(result.hasNext() ? result.next() : entities.get(index));
+        }
+        return saved;
+    }
+
+    /**
+     * Finds the entities of one chunk with {@link #findAllById(List)} and sorts them in the order of the ids.
+     * An entity whose id does not match any of the ids, e.g., an id of another type, goes at the end.
+     */
+    private Stream<T> findAllByIdInOrder(List<K> ids) {
+        FieldMetadata idField = getIdField();
+        Map<Object, T> found = new LinkedHashMap<>();
+        findAllById(ids).forEach(entity -> found.putIfAbsent(idField.read(entity), entity));
+        List<T> entities = new ArrayList<>(found.size());
+        for (K id : ids) {
+            T entity = found.remove(id);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        entities.addAll(found.values());
+        return entities.stream();
+    }
 
+    private static boolean isDefault(Object id) {
+        return id instanceof Number number && number.doubleValue() == 0
+                || Boolean.FALSE.equals(id)
+                || Character.valueOf('\0').equals(id);
+    }
+
+    private List<K> requireIds(Iterable<K> ids) {
+        List<K> values = new ArrayList<>();
+        ids.forEach(id -> values.add(requireNonNull(id, "id is required")));
+        return values;
+    }
+
+    private <E> List<List<E>> chunks(Iterable<E> elements) {
+        List<E> values = new ArrayList<>();
+        elements.forEach(values::add);
+        int batchSize = Math.max(1, batchSize());
+        List<List<E>> chunks = new ArrayList<>();
+        for (int start = 0; start < values.size(); start += batchSize) {
+            chunks.add(values.subList(start, Math.min(start + batchSize, values.size())));
+        }
+        return chunks;
+    }
+
+    private static final class BatchSizeHolder {
+
+        private static final int SIZE = MicroProfileSettings.INSTANCE.get(BATCH_SIZE, Integer.class).orElse(100);
+    }
+
+    private static final class SettingsHolder {
+
+        private static final int PARALLELISM = Math.max(0, MicroProfileSettings.INSTANCE
+                .get(FIND_BY_ID_PARALLELISM, Integer.class).orElse(0));
+    }
 }
@@ -16,12 +16,22 @@ package org.eclipse.jnosql.mapping.core.query;
 
 import jakarta.data.exceptions.MappingException;
 import jakarta.enterprise.inject.spi.CDI;
+import org.eclipse.jnosql.mapping.core.AsyncExecutor;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
 import org.eclipse.jnosql.mapping.core.repository.ThrowingSupplier;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.DELETE;
 import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.INSERT;
@@ -37,6 +47,15 @@ import static org.eclipse.jnosql.mapping.core.query.AnnotationOperation.UPDATE;
  */
 public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler {
 
+    /**
+     * The methods that may return a {@link CompletionStage}, the other ones are executed as they are declared.
+     */
+    private static final Set<RepositoryType> ASYNC_TYPES = EnumSet.complementOf(EnumSet.of(RepositoryType.DEFAULT,
+            RepositoryType.OBJECT_METHOD, RepositoryType.DEFAULT_METHOD, RepositoryType.CUSTOM_REPOSITORY,
+            RepositoryType.ORDER_BY));
+
+    private final Map<Method, RepositoryType> types = new ConcurrentHashMap<>();
+
     /**
      * Retrieves the underlying repository associated with this proxy.
      *
@@ -139,11 +158,27 @@ public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler
      */
     protected abstract Object executeParameterBased(Object instance, Method method, Object[] params);
 
+    /**
+     * The executor of the methods that return a {@link CompletionStage} or a {@link CompletableFuture}.
+     *
+     * @return the executor of the asynchronous methods
+     */
+    protected Executor executor() {
+        return AsyncExecutor.INSTANCE;
+    }
+
     @Override
     public Object invoke(Object instance, Method method, Object[] params) throws Throwable {
 
-        RepositoryType type = RepositoryType.of(method, repositoryType());
+        RepositoryType type = types.computeIfAbsent(method, m -> RepositoryType.of(m, repositoryType()));
 
+        if (ASYNC_TYPES.contains(type) && RepositoryReflectionUtils.INSTANCE.isAsync(method)) {
+            return executeAsync(type, instance, method, params);
+        }
+        return execute(type, instance, method, params);
+    }
+
+    private Object execute(RepositoryType type, Object instance, Method method, Object[] params) throws Throwable {
         switch (type) {
             case DEFAULT -> {
                 return unwrapInvocationTargetException(() -> method.invoke(repository(), params));
@@ -202,6 +237,25 @@ public abstract class AbstractRepositoryProxy<T, K> implements InvocationHandler
         }
     }
 
+    /**
+     * Executes the query of the method on the {@link #executor()}, the future completes with the result converted
+     * to the type of the {@link CompletionStage}, or with {@code null} when it is {@link Void}.
+     */
+    private CompletableFuture<Object> executeAsync(RepositoryType type, Object instance, Method method,
+                                                   Object[] params) {
+        boolean isVoid = Void.class.equals(RepositoryReflectionUtils.INSTANCE.getReturnType(method));
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Object result = execute(type, instance, method, params);
+                return isVoid ? null : result;
+            } catch (RuntimeException exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new CompletionException(throwable);
+            }
+        }, executor());
+    }
+
     /**
      * Unwraps the InvocationTargetException and throws the original cause.
      *
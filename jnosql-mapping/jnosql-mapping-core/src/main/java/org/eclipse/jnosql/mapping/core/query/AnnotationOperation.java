@@ -14,6 +14,8 @@
  */
 package org.eclipse.jnosql.mapping.core.query;
 
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
+
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -248,25 +250,29 @@ public enum AnnotationOperation {
     }
 
 
-    private record ReturnType(Method method) {
+    private record ReturnType(Class<?> type) {
+
+        ReturnType(Method method) {
+            this(RepositoryReflectionUtils.INSTANCE.getReturnType(method));
+        }
 
         boolean isVoid() {
-            return method.getReturnType().equals(Void.TYPE);
+            return type.equals(Void.TYPE) || type.equals(Void.class);
         }
 
         boolean isBoolean() {
-            return method.getReturnType().equals(Boolean.class)
-                    || method.getReturnType().equals(Boolean.TYPE);
+            return type.equals(Boolean.class)
+                    || type.equals(Boolean.TYPE);
         }
 
         boolean isInt() {
-            return method.getReturnType().equals(Integer.class)
-                    || method.getReturnType().equals(Integer.TYPE);
+            return type.equals(Integer.class)
+                    || type.equals(Integer.TYPE);
         }
 
         public boolean isLong() {
-            return method.getReturnType().equals(Long.class)
-                    || method.getReturnType().equals(Long.TYPE);
+            return type.equals(Long.class)
+                    || type.equals(Long.TYPE);
         }
     }
 }
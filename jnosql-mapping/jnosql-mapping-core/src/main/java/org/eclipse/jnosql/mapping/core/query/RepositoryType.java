@@ -26,6 +26,7 @@ import jakarta.data.repository.Save;
 import jakarta.data.repository.Update;
 import jakarta.enterprise.inject.spi.CDI;
 import org.eclipse.jnosql.mapping.NoSQLRepository;
+import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
@@ -40,7 +41,8 @@ import java.util.function.Predicate;
 public enum RepositoryType {
 
     /**
-     * Methods from either {@link CrudRepository}, {@link  BasicRepository} and {@link  org.eclipse.jnosql.mapping.NoSQLRepository}
+     * Methods from either {@link CrudRepository}, {@link  BasicRepository} and {@link  org.eclipse.jnosql.mapping.NoSQLRepository},
+     * including their default methods, which the repository implementation may override
      */
     DEFAULT(""),
     /**
@@ -145,11 +147,11 @@ public enum RepositoryType {
     public static RepositoryType of(Method method, Class<?> repositoryType) {
         Objects.requireNonNull(method, "method is required");
 
-        if (method.isDefault()) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (method.isDefault() && !IS_REPOSITORY_METHOD.test(declaringClass)) {
             return DEFAULT_METHOD;
         }
 
-        Class<?> declaringClass = method.getDeclaringClass();
         if (Object.class.equals(declaringClass)) {
             return OBJECT_METHOD;
         }
@@ -159,7 +161,7 @@ public enum RepositoryType {
         if (!repositoryType.equals(declaringClass) && isCustomRepository(declaringClass)) {
             return CUSTOM_REPOSITORY;
         }
-        if (method.getReturnType().equals(CursoredPage.class)) {
+        if (RepositoryReflectionUtils.INSTANCE.getReturnType(method).equals(CursoredPage.class)) {
             return CURSOR_PAGINATION;
         }
         String methodName = method.getName();
@@ -19,8 +19,10 @@ import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -33,6 +35,15 @@ enum DynamicReturnConverter {
 
     private final RepositoryReturn defaultReturn = new DefaultRepositoryReturn();
 
+    private final List<RepositoryReturn> repositoryReturns = ServiceLoader.load(RepositoryReturn.class)
+            .stream()
+            .map(ServiceLoader.Provider::get)
+            .filter(RepositoryReturn.class::isInstance)
+            .map(RepositoryReturn.class::cast)
+            .toList();
+
+    private final Map<ReturnKey, RepositoryReturn> returns = new ConcurrentHashMap<>();
+
     /**
      * Converts the entity from the Method return type.
      *
@@ -44,15 +55,12 @@ enum DynamicReturnConverter {
 
         Method method = dynamic.getMethod();
         Class<?> typeClass = dynamic.typeClass();
-        Class<?> returnType = method.getReturnType();
+        Class<?> returnType = RepositoryReflectionUtils.INSTANCE.getReturnType(method);
 
-        RepositoryReturn repositoryReturn = ServiceLoader.load(RepositoryReturn.class)
-                .stream()
-                .map(ServiceLoader.Provider::get)
-                .filter(RepositoryReturn.class::isInstance)
-                .map(RepositoryReturn.class::cast)
-                .filter(r -> r.isCompatible(typeClass, returnType))
-                .findFirst().orElse(defaultReturn);
+        RepositoryReturn repositoryReturn = returns.computeIfAbsent(new ReturnKey(typeClass, returnType),
+                k -> repositoryReturns.stream()
+                        .filter(r -> r.isCompatible(k.typeClass(), k.returnType()))
+                        .findFirst().orElse(defaultReturn));
 
         if (dynamic.hasPagination()) {
             return repositoryReturn.convertPageRequest(dynamic);
@@ -100,4 +108,7 @@ enum DynamicReturnConverter {
 
         return convert(dynamicReturn);
     }
+
+    private record ReturnKey(Class<?> typeClass, Class<?> returnType) {
+    }
 }
@@ -22,9 +22,13 @@ import jakarta.data.repository.Query;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Utilitarian class to {@link Param anotation}
@@ -96,6 +100,42 @@ public enum RepositoryReflectionUtils {
         return method.getAnnotation(Query.class).value();
     }
 
+    /**
+     * Checks if the method returns a {@link CompletionStage} or a {@link CompletableFuture}, thus it is
+     * executed asynchronously.
+     *
+     * @param method the method
+     * @return true when the method is asynchronous
+     */
+    public boolean isAsync(Method method) {
+        Class<?> returnType = method.getReturnType();
+        return CompletionStage.class.equals(returnType) || CompletableFuture.class.equals(returnType);
+    }
+
+    /**
+     * Returns the type of the result of the method: the return type or, when the method {@link #isAsync(Method)},
+     * the type the {@link CompletionStage} completes with, such as {@link java.util.List} for a
+     * {@code CompletionStage<List<T>>}.
+     *
+     * @param method the method
+     * @return the type of the result
+     */
+    public Class<?> getReturnType(Method method) {
+        if (!isAsync(method)) {
+            return method.getReturnType();
+        }
+        if (method.getGenericReturnType() instanceof ParameterizedType parameterized) {
+            Type result = parameterized.getActualTypeArguments()[0];
+            if (result instanceof Class<?> type) {
+                return type;
+            }
+            if (result instanceof ParameterizedType type) {
+                return (Class<?>) type.getRawType();
+            }
+        }
+        return Object.class;
+    }
+
 
 
 
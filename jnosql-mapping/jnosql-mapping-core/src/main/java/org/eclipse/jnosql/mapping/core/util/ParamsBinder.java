@@ -23,8 +23,10 @@ import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Binder class, that will apply values in the {@link Params} instance to a dynamic query.
@@ -35,6 +37,8 @@ public class ParamsBinder {
 
     private final Converters converters;
 
+    private final Map<String, Optional<FieldMetadata>> fields = new ConcurrentHashMap<>();
+
     /**
      * Creates a ParamsBinder instance
      *
@@ -68,16 +72,20 @@ public class ParamsBinder {
         }
         for (int index = 0; index < names.size(); index++) {
             String name = names.get(index);
-            int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
-            String fieldName = name.substring(0, lastIndex);
-            Optional<FieldMetadata> field = this.mapping.fields().stream()
-                    .filter(f -> f.name().equals(fieldName)).findFirst();
+            Optional<FieldMetadata> field = fields.computeIfAbsent(name, this::field);
 
             Object value = getValue(args, index, field.orElse(null));
             params.bind(name, value);
         }
     }
 
+    private Optional<FieldMetadata> field(String name) {
+        int lastIndex = name.lastIndexOf('_') == -1 ? name.length() : name.lastIndexOf('_');
+        String fieldName = name.substring(0, lastIndex);
+        return this.mapping.fields().stream()
+                .filter(f -> f.name().equals(fieldName)).findFirst();
+    }
+
     private Object getValue(Object[] args, int index, FieldMetadata field) {
         Object value = args[index];
         if (field != null) {
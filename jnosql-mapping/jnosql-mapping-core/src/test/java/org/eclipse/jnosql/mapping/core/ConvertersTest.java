@@ -14,9 +14,11 @@
  */
 package org.eclipse.jnosql.mapping.core;
 
+import jakarta.enterprise.inject.Vetoed;
 import jakarta.inject.Inject;
 import jakarta.nosql.AttributeConverter;
 import jakarta.nosql.Convert;
+import org.eclipse.jnosql.mapping.Shareable;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
 import org.jboss.weld.junit5.auto.AddExtensions;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -78,9 +81,66 @@ class ConvertersTest {
         Assertions.assertEquals("Text", text);
     }
 
+    @Test
+    void shouldShareNormalScopedConverter() {
+        FieldMetadata fieldMetadata = field(MyConverter.class, MyConverter::new);
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        AttributeConverter<String, String> second = converters.get(fieldMetadata);
+
+        Assertions.assertSame(first, second);
+        Mockito.verify(fieldMetadata, Mockito.never()).newConverter();
+    }
+
+    @Test
+    void shouldCreateConverterOnEachCall() {
+        FieldMetadata fieldMetadata = field(VetedConverter.class, VetedConverter::new);
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        AttributeConverter<String, String> second = converters.get(fieldMetadata);
+
+        Assertions.assertNotSame(first, second);
+    }
+
+    @Test
+    void shouldShareConverterAnnotatedWithShareable() {
+        FieldMetadata fieldMetadata = field(ShareableConverter.class, ShareableConverter::new);
+
+        AttributeConverter<String, String> first = converters.get(fieldMetadata);
+        AttributeConverter<String, String> second = converters.get(fieldMetadata);
+
+        Assertions.assertSame(first, second);
+        Mockito.verify(fieldMetadata).newConverter();
+    }
+
     @Test
     void shouldGetToString(){
         assertThat(this.converters.toString()).isNotNull().isNotBlank().isNotEmpty();
     }
 
-}
\ No newline at end of file
+    @SuppressWarnings("unchecked")
+    private static FieldMetadata field(Class<?> type, Supplier<AttributeConverter<String, String>> instance) {
+        FieldMetadata fieldMetadata = Mockito.mock(FieldMetadata.class);
+        Optional<?> converter = Optional.of(type);
+        Mockito.when(fieldMetadata.converter())
+                .thenReturn((Optional<Class<AttributeConverter<Object, Object>>>) converter);
+        Mockito.when(fieldMetadata.newConverter())
+                .thenAnswer(invocation -> Optional.of(instance.get()));
+        return fieldMetadata;
+    }
+
+    @Shareable
+    @Vetoed
+    public static class ShareableConverter implements AttributeConverter<String, String> {
+
+        @Override
+        public String convertToDatabaseColumn(String attribute) {
+            return attribute;
+        }
+
+        @Override
+        public String convertToEntityAttribute(String dbData) {
+            return dbData;
+        }
+    }
+}
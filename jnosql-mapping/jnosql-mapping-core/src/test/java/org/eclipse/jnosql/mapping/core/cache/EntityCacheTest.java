@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.core.cache;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.Cacheable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EntityCacheTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private EntityCache cache;
+
+    @BeforeEach
+    void setUp() {
+        this.cache = new StripedEntityCache(100, Duration.ofSeconds(10), Set.of(Plain.class.getName()), ticker::get);
+    }
+
+    @Test
+    void shouldLoadOnMissAndReturnOnHit() {
+        assertThat(cache.get(Country.class, 1L, () -> load("Brazil"))).contains("Brazil");
+        assertThat(cache.get(Country.class, 1L, () -> load("Portugal"))).contains("Brazil");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(loads).hasValue(1);
+            soft.assertThat(cache.hits()).isEqualTo(1);
+            soft.assertThat(cache.misses()).isEqualTo(1);
+            soft.assertThat(cache.size()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldEnableByAnnotationOrClassName() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(cache.isCacheable(Country.class)).isTrue();
+            soft.assertThat(cache.isCacheable(Plain.class)).isTrue();
+            soft.assertThat(cache.isCacheable(String.class)).isFalse();
+        });
+    }
+
+    @Test
+    void shouldNotKeepEmptyResult() {
+        assertThat(cache.get(Country.class, 1L, Optional::empty)).isEmpty();
+        assertThat(cache.get(Country.class, 1L, () -> load("Brazil"))).contains("Brazil");
+        assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldExpireAfterTtl() {
+        cache.get(Country.class, 1L, () -> load("Brazil"));
+        ticker.addAndGet(Duration.ofSeconds(9).toNanos());
+        cache.get(Country.class, 1L, () -> load("Brazil"));
+        ticker.addAndGet(Duration.ofSeconds(2).toNanos());
+        cache.get(Country.class, 1L, () -> load("Brazil"));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.evictions()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepValuesWhenTtlIsZero() {
+        EntityCache eternal = new StripedEntityCache(10, Duration.ZERO, Set.of(), ticker::get);
+        eternal.get(Country.class, 1L, () -> load("Brazil"));
+        ticker.addAndGet(Duration.ofDays(365).toNanos());
+        eternal.get(Country.class, 1L, () -> load("Brazil"));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyReadBeyondMaxSize() {
+        EntityCache small = new StripedEntityCache(1, Duration.ZERO, Set.of(), ticker::get);
+        small.get(Country.class, 1L, () -> load("Brazil"));
+        small.get(Country.class, 2L, () -> load("Portugal"));
+        small.get(Country.class, 1L, () -> load("Brazil"));
+
+        assertThat(loads).hasValue(3);
+        assertThat(small.size()).isEqualTo(1);
+        assertThat(small.evictions()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvict() {
+        cache.get(Country.class, 1L, () -> load("Brazil"));
+        cache.get(Country.class, 2L, () -> load("Portugal"));
+        cache.evict(Country.class, 1L);
+
+        assertThat(cache.get(Country.class, 1L, () -> load("Angola"))).contains("Angola");
+        assertThat(cache.get(Country.class, 2L, () -> load("Angola"))).contains("Portugal");
+    }
+
+    @Test
+    void shouldEvictAllOfType() {
+        cache.get(Country.class, 1L, () -> load("Brazil"));
+        cache.get(Plain.class, 1L, () -> load("Plain"));
+        cache.evictAll(Country.class);
+
+        assertThat(cache.get(Country.class, 1L, () -> load("Angola"))).contains("Angola");
+        assertThat(cache.get(Plain.class, 1L, () -> load("Other"))).contains("Plain");
+    }
+
+    @Test
+    void shouldClear() {
+        cache.get(Country.class, 1L, () -> load("Brazil"));
+        cache.get(Plain.class, 1L, () -> load("Plain"));
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.hits()).isZero();
+        assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotKeepValueLoadedWhileEvicted() {
+        Optional<String> loaded = cache.get(Country.class, 1L, () -> {
+            cache.evict(Country.class, 1L);
+            return load("Stale");
+        });
+
+        assertThat(loaded).contains("Stale");
+        assertThat(cache.get(Country.class, 1L, () -> load("Brazil"))).contains("Brazil");
+    }
+
+    @Test
+    void shouldDisableWhenMaxSizeIsZero() {
+        EntityCache disabled = EntityCache.of(0, Duration.ZERO, Set.of());
+        disabled.get(Country.class, 1L, () -> load("Brazil"));
+        disabled.get(Country.class, 1L, () -> load("Brazil"));
+
+        assertThat(disabled.isCacheable(Country.class)).isFalse();
+        assertThat(loads).hasValue(2);
+        assertThat(disabled.misses()).isEqualTo(2);
+        assertThat(disabled.size()).isZero();
+    }
+
+    @Test
+    void shouldCreateFromSettings() {
+        EntityCache settings = EntityCache.of();
+        assertThat(settings.isCacheable(Country.class)).isTrue();
+        assertThat(settings.isCacheable(Plain.class)).isFalse();
+        assertThat(settings.toString()).contains("maxSize=" + EntityCache.DEFAULT_SIZE);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParameterIsInvalid() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThatThrownBy(() -> EntityCache.of(-1, Duration.ZERO, Set.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> EntityCache.of(1, Duration.ofSeconds(-1), Set.of()))
+                    .isInstanceOf(IllegalArgumentException.class);
+            soft.assertThatThrownBy(() -> cache.get(null, 1L, Optional::empty))
+                    .isInstanceOf(NullPointerException.class);
+        });
+        assertThatThrownBy(() -> cache.evict(Country.class, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    private Optional<String> load(String value) {
+        loads.incrementAndGet();
+        return Optional.of(value);
+    }
+
+    @Cacheable
+    static class Country {
+    }
+
+    static class Plain {
+    }
+}
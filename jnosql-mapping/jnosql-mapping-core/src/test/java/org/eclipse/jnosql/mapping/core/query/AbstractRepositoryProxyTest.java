@@ -92,6 +92,17 @@ class AbstractRepositoryProxyTest {
         assertEquals("executeParameterBased", result);
     }
 
+    @Test
+    void shouldResolveRepositoryTypeOnce() throws Throwable {
+        var spy = Mockito.spy(new TestRepositoryProxy());
+        Method method = TestRepository.class.getMethod("findEntityById", UUID.class);
+        spy.invoke(spy, method, new Object[]{UUID.randomUUID()});
+        Object result = spy.invoke(spy, method, new Object[]{UUID.randomUUID()});
+
+        assertEquals("executeFindByQuery", result);
+        verify(spy, times(1)).repositoryType();
+    }
+
     @Test
     void shouldInvokeThrowsMappingException() throws Throwable {
         Method method = TestRepository.class.getMethod("customMethod");
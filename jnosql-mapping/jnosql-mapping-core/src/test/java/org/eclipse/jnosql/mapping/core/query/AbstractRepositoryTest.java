@@ -31,8 +31,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @EnableAutoWeld
 @AddPackages(value = Convert.class)
@@ -110,6 +112,30 @@ class AbstractRepositoryTest {
         Mockito.verify(template).find(Person.class, 10L);
     }
 
+    @Test
+    void shouldFindByIDInWithParallelism() {
+        var ada = Person.builder().withId(10L).withAge(10).withName("Ada").build();
+        var otavio = Person.builder().withId(30L).withAge(30).withName("Otavio").build();
+        Mockito.when(template.find(Person.class, 10L)).thenReturn(Optional.of(ada));
+        Mockito.when(template.find(Person.class, 20L)).thenReturn(Optional.empty());
+        Mockito.when(template.find(Person.class, 30L)).thenReturn(Optional.of(otavio));
+
+        List<Person> people = this.repository.findByIdIn(List.of(30L, 20L, 10L), 2).toList();
+
+        Assertions.assertEquals(List.of(otavio, ada), people);
+    }
+
+    @Test
+    void shouldFindByIDInSequentiallyWhenParallelismIsOne() {
+        this.repository.findByIdIn(List.of(10L), 1).toList();
+        Mockito.verify(template).find(Person.class, 10L);
+    }
+
+    @Test
+    void shouldReturnErrorWhenParallelismIsNegative() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> this.repository.findByIdIn(List.of(10L), -1));
+    }
+
     @Test
     void shouldExistsById() {
         this.repository.existsById(10L);
@@ -146,6 +172,98 @@ class AbstractRepositoryTest {
         Mockito.verify(template).update(person);
     }
 
+    @Test
+    void shouldSaveAllSplittingInsertsAndUpdates() {
+        var ada = Person.builder().withId(10L).withAge(10).withName("Ada").build();
+        var poliana = Person.builder().withId(20L).withAge(20).withName("Poliana").build();
+        var otavio = Person.builder().withAge(30).withName("Otavio").build();
+        Mockito.when(template.find(Person.class, 10L)).thenReturn(Optional.of(ada));
+        Mockito.when(template.find(Person.class, 20L)).thenReturn(Optional.empty());
+        Mockito.when(template.update(List.of(ada))).thenReturn(List.of(ada));
+        Mockito.when(template.insert(List.of(poliana, otavio))).thenReturn(List.of(poliana, otavio));
+
+        List<Person> saved = this.repository.saveAll(List.of(ada, poliana, otavio));
+
+        Assertions.assertEquals(List.of(ada, poliana, otavio), saved);
+        Mockito.verify(template).update(List.of(ada));
+        Mockito.verify(template).insert(List.of(poliana, otavio));
+        Mockito.verify(template, Mockito.never()).insert(Mockito.any(Person.class));
+    }
+
+    @Test
+    void shouldInsertTheRepeatedNewIdOnce() {
+        var ada = Person.builder().withId(10L).withAge(10).withName("Ada").build();
+        var lovelace = Person.builder().withId(10L).withAge(36).withName("Lovelace").build();
+        Mockito.when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
+        Mockito.when(template.insert(List.of(ada))).thenReturn(List.of(ada));
+        Mockito.when(template.update(List.of(lovelace))).thenReturn(List.of(lovelace));
+
+        List<Person> saved = this.repository.saveAll(List.of(ada, lovelace));
+
+        Assertions.assertEquals(List.of(ada, lovelace), saved);
+        Mockito.verify(template, Mockito.times(1)).find(Person.class, 10L);
+        Mockito.verify(template).insert(List.of(ada));
+        Mockito.verify(template).update(List.of(lovelace));
+    }
+
+    @Test
+    void shouldInsertEachEntityWithoutId() {
+        var ada = Person.builder().withAge(10).withName("Ada").build();
+        var poliana = Person.builder().withAge(20).withName("Poliana").build();
+        Mockito.when(template.insert(List.of(ada, poliana))).thenReturn(List.of(ada, poliana));
+
+        List<Person> saved = this.repository.saveAll(List.of(ada, poliana));
+
+        Assertions.assertEquals(List.of(ada, poliana), saved);
+        Mockito.verify(template).insert(List.of(ada, poliana));
+        Mockito.verify(template, Mockito.never()).update(Mockito.anyList());
+    }
+
+    @Test
+    void shouldReturnErrorWhenIdIsNull() {
+        var ids = Arrays.asList(10L, null);
+
+        Assertions.assertThrows(NullPointerException.class, () -> this.repository.deleteByIdIn(ids));
+        Assertions.assertThrows(NullPointerException.class, () -> this.repository.findByIdIn(ids));
+        Mockito.verifyNoInteractions(template);
+    }
+
+    @Test
+    void shouldFindByIDInTheOrderOfTheIds() {
+        var ada = Person.builder().withId(10L).withAge(10).withName("Ada").build();
+        var poliana = Person.builder().withId(20L).withAge(20).withName("Poliana").build();
+        var otavio = Person.builder().withId(30L).withAge(30).withName("Otavio").build();
+        var unorderedRepository = new PeopleRepository() {
+            @Override
+            protected Stream<Person> findAllById(List<Long> ids) {
+                return Stream.of(ada, otavio, poliana);
+            }
+        };
+
+        List<Person> people = unorderedRepository.findByIdIn(List.of(30L, 20L, 10L)).toList();
+
+        Assertions.assertEquals(List.of(otavio, poliana, ada), people);
+    }
+
+    @Test
+    void shouldUseBatchSize() {
+        var batchRepository = new PeopleRepository() {
+            @Override
+            protected int batchSize() {
+                return 2;
+            }
+        };
+        var people = List.of(Person.builder().withName("Ada").build(), Person.builder().withName("Poliana").build(),
+                Person.builder().withName("Otavio").build());
+
+        batchRepository.saveAll(people);
+        batchRepository.deleteByIdIn(List.of(1L, 2L, 3L));
+
+        Mockito.verify(template).insert(people.subList(0, 2));
+        Mockito.verify(template).insert(people.subList(2, 3));
+        Mockito.verify(template).delete(Person.class, 3L);
+    }
+
     @Test
     void shouldReturnException(){
         Assertions.assertThrows(UnsupportedOperationException.class, () -> this.repository.findAll());
@@ -25,9 +25,12 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.junit.jupiter.api.Assertions.*;
 
 import jakarta.data.Sort;
@@ -126,8 +129,34 @@ class RepositoryReflectionUtilsTest {
                 .containsEntry("name", "Ada");
     }
 
+    @Test
+    void shouldReturnTypeOfAsyncMethods() throws NoSuchMethodException {
+        Method list = PersonRepository.class.getDeclaredMethod("findAsync", int.class);
+        Method single = PersonRepository.class.getDeclaredMethod("findName", String.class);
+        Method count = PersonRepository.class.getDeclaredMethod("countAsync");
+        Method sync = PersonRepository.class.getDeclaredMethod("findAge", int.class);
+        assertSoftly(soft -> {
+            soft.assertThat(RepositoryReflectionUtils.INSTANCE.isAsync(list)).isTrue();
+            soft.assertThat(RepositoryReflectionUtils.INSTANCE.isAsync(single)).isTrue();
+            soft.assertThat(RepositoryReflectionUtils.INSTANCE.isAsync(sync)).isFalse();
+            soft.assertThat(RepositoryReflectionUtils.INSTANCE.getReturnType(list)).isEqualTo(List.class);
+            soft.assertThat(RepositoryReflectionUtils.INSTANCE.getReturnType(single)).isEqualTo(Person.class);
+            soft.assertThat(RepositoryReflectionUtils.INSTANCE.getReturnType(count)).isEqualTo(Long.class);
+            soft.assertThat(RepositoryReflectionUtils.INSTANCE.getReturnType(sync)).isEqualTo(List.class);
+        });
+    }
+
     interface PersonRepository extends BasicRepository<Person, String> {
 
+        @Query("FROM Person WHERE age = ?1")
+        CompletionStage<List<Person>> findAsync(int age);
+
+        @Query("FROM Person WHERE name = ?1")
+        CompletableFuture<Person> findName(String name);
+
+        @Query("SELECT count(this) FROM Person")
+        CompletionStage<Long> countAsync();
+
         @Query("FROM Person WHERE name = :name")
         List<Person> query(@Param("name") @By("name")  String name, Sort sort);
 
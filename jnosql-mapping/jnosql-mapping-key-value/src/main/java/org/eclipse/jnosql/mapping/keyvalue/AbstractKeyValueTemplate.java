@@ -16,18 +16,23 @@ package org.eclipse.jnosql.mapping.keyvalue;
 
 
 import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketCapability;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
+import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.util.FanOut;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
 
@@ -37,6 +42,8 @@ import static java.util.Objects.requireNonNull;
  */
 public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
+    private final EntityCache entityCache = EntityCache.of();
+
     protected abstract KeyValueEntityConverter getConverter();
 
     protected abstract BucketManager getManager();
@@ -56,6 +63,22 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         return persist(entity, (keyValueEntity) -> getManager().put(keyValueEntity, ttl));
     }
 
+    @Override
+    public <T> Iterable<T> put(Iterable<T> entities) {
+        List<T> values = new ArrayList<>();
+        KeyValueTemplate.super.put(entities).forEach(values::add);
+        getEventManager().firePostEntities(values);
+        return values;
+    }
+
+    @Override
+    public <T> Iterable<T> put(Iterable<T> entities, Duration ttl) {
+        List<T> values = new ArrayList<>();
+        KeyValueTemplate.super.put(entities, ttl).forEach(values::add);
+        getEventManager().firePostEntities(values);
+        return values;
+    }
+
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         return put(entities);
@@ -91,7 +114,9 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
         requireNonNull(key, "key is required");
         requireNonNull(type, "entity class is required");
 
-        Optional<Value> value = getManager().get(key);
+        Optional<Value> value = entityCache().isCacheable(type)
+                ? entityCache().get(KeyValueEntity.class, key, () -> getManager().get(key))
+                : getManager().get(key);
         return value.map(v -> getConverter().toEntity(type, KeyValueEntity.of(key, v)))
                 .filter(Objects::nonNull).map(e -> {
                     getEventManager().firePostEntity(e);
@@ -101,27 +126,99 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
 
     @Override
     public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> type) {
+        return get(keys, type, Math.max(0, parallelism()));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>When the parallelism is zero and the manager declares {@link BucketCapability#GET_ALL}, the keys are
+     * read with {@link BucketManager#getAll(Iterable)} in chunks of {@link #batchSize()}; without it, they are read
+     * one by one.</p>
+     */
+    @Override
+    public <K, T> Iterable<T> get(Iterable<K> keys, Class<T> type, int parallelism) {
         requireNonNull(keys, "keys is required");
         requireNonNull(type, "type class is required");
-        return StreamSupport.stream(keys.spliterator(), false)
-                .map(k -> getManager().get(k)
-                        .map(v -> KeyValueEntity.of(k, v)))
-                .filter(Optional::isPresent)
-                .map(e -> getConverter().toEntity(type, e.get()))
-                .collect(Collectors.toList());
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("The parallelism must not be negative: " + parallelism);
+        }
+        List<K> values = new ArrayList<>();
+        keys.forEach(values::add);
+        List<T> entities = new ArrayList<>(values.size());
+        if (parallelism > 0) {
+            BucketManager manager = getManager();
+            FanOut.lookup(values, parallelism, key -> manager.get(key).map(value -> KeyValueEntity.of(key, value)))
+                    .forEach(e -> entities.add(getConverter().toEntity(type, e)));
+            return entities;
+        }
+        BucketManager manager = getManager();
+        if (!manager.supports(BucketCapability.GET_ALL)) {
+            for (K key : values) {
+                manager.get(key).ifPresent(value -> entities.add(getConverter().toEntity(type,
+                        KeyValueEntity.of(key, value))));
+            }
+            return entities;
+        }
+        int batchSize = Math.max(1, batchSize());
+        for (int start = 0; start < values.size(); start += batchSize) {
+            List<K> chunk = values.subList(start, Math.min(start + batchSize, values.size()));
+            manager.getAll(chunk).forEach(e -> entities.add(getConverter().toEntity(type, e)));
+        }
+        return entities;
     }
 
+    /**
+     * The maximum number of keys sent to the {@link BucketManager} in one call when several keys are read.
+     * It reads the {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE} setting, a value lower
+     * than one is ignored.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        return SettingsHolder.BATCH_SIZE;
+    }
+
+    /**
+     * The maximum number of keys read at the same time, one key per call, when several keys are read. Zero,
+     * the default, reads the keys with {@link BucketManager#getAll(Iterable)} instead, when the manager declares
+     * {@link BucketCapability#GET_ALL}. It reads the
+     * {@link org.eclipse.jnosql.communication.Configurations#KEY_VALUE_PARALLELISM} setting.
+     *
+     * @return the parallelism
+     */
+    protected int parallelism() {
+        return SettingsHolder.PARALLELISM;
+    }
+
+    /**
+     * Returns the cache of the values read by key with {@link #get(Object, Class)}, enabled for the entities
+     * annotated with {@link org.eclipse.jnosql.mapping.Cacheable} or listed at the
+     * {@link org.eclipse.jnosql.communication.Configurations#ENTITY_CACHE_ENTITIES} property. The values are
+     * cached by key, whatever the entity type, and the puts and deletes through this template evict their keys.
+     * A value put with a time to live may be read from the cache until the
+     * {@link org.eclipse.jnosql.communication.Configurations#ENTITY_CACHE_TTL} expires.
+     * A template overrides it to use another {@link EntityCache}.
+     *
+     * @return the {@link EntityCache} of this template, it allows to check the hits, misses and evictions
+     */
+    public EntityCache entityCache() {
+        return entityCache;
+    }
 
     @Override
     public <K> void delete(K key) {
         requireNonNull(key, "key is required");
         getManager().delete(key);
+        entityCache().evict(KeyValueEntity.class, key);
     }
 
     @Override
     public <K> void delete(Iterable<K> keys) {
         requireNonNull(keys, "keys is required");
         getManager().delete(keys);
+        EntityCache cache = entityCache();
+        keys.forEach(key -> cache.evict(KeyValueEntity.class, key));
     }
 
     @Override
@@ -149,6 +246,7 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
                 .map(toUnary(getEventManager()::firePreEntity))
                 .map(getConverter()::toKeyValue)
                 .map(toUnary(persistAction))
+                .map(toUnary(it -> entityCache().evict(KeyValueEntity.class, it.key())))
                 .map(it -> getConverter().toEntity((Class<T>) entity.getClass(), it))
                 .map(toUnary(getEventManager()::firePostEntity))
                 .findFirst()
@@ -161,4 +259,13 @@ public abstract class AbstractKeyValueTemplate implements KeyValueTemplate {
             return t;
         };
     }
+
+    private static final class SettingsHolder {
+
+        private static final int BATCH_SIZE = MicroProfileSettings.INSTANCE
+                .get(Configurations.BATCH_SIZE, Integer.class).orElse(100);
+
+        private static final int PARALLELISM = MicroProfileSettings.INSTANCE
+                .get(Configurations.KEY_VALUE_PARALLELISM, Integer.class).orElse(0);
+    }
 }
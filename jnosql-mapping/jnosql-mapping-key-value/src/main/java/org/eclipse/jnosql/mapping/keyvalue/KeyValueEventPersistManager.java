@@ -17,12 +17,17 @@ package org.eclipse.jnosql.mapping.keyvalue;
 
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
 
+import java.util.List;
+
 @ApplicationScoped
 public class KeyValueEventPersistManager {
 
@@ -32,6 +37,28 @@ public class KeyValueEventPersistManager {
     @Inject
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Inject
+    private Event<EntitiesPostPersist> entitiesPostPersistEvent;
+
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean prePersistObserved = true;
+
+    private boolean postPersistObserved = true;
+
+    private boolean entitiesPostPersistObserved = true;
+
+    /**
+     * Checks once which events are observed
+     */
+    @PostConstruct
+    void init() {
+        this.prePersistObserved = isObserved(EntityPrePersist.of(this));
+        this.postPersistObserved = isObserved(EntityPostPersist.of(this));
+        this.entitiesPostPersistObserved = isObserved(EntitiesPostPersist.of(List.of()));
+    }
+
     /**
      * Fire an event once the method is called
      *
@@ -39,7 +66,9 @@ public class KeyValueEventPersistManager {
      * @param <T>    the entity type
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (prePersistObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -50,6 +79,24 @@ public class KeyValueEventPersistManager {
      * @param <T>    the entity kind
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        if (postPersistObserved) {
+            entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        }
+    }
+
+    /**
+     * Fire an event with all the entities of a put of several entities
+     *
+     * @param entities the entities
+     * @param <T>      the entity kind
+     */
+    public <T> void firePostEntities(List<T> entities) {
+        if (entitiesPostPersistObserved && !entities.isEmpty()) {
+            entitiesPostPersistEvent.fire(EntitiesPostPersist.of(entities));
+        }
+    }
+
+    private boolean isObserved(Object event) {
+        return !beanManager.resolveObserverMethods(event).isEmpty();
     }
 }
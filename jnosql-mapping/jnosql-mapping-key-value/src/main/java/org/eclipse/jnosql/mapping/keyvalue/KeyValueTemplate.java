@@ -15,10 +15,16 @@
 package org.eclipse.jnosql.mapping.keyvalue;
 
 import jakarta.nosql.Template;
+import org.eclipse.jnosql.mapping.core.AsyncExecutor;
+import org.eclipse.jnosql.mapping.util.FanOut;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.StreamSupport;
 
 /**
@@ -111,6 +117,34 @@ public interface KeyValueTemplate extends Template {
      */
     <K, T> Iterable<T> get(Iterable<K> keys, Class<T> type);
 
+    /**
+     * Finds a list of values associated with the specified keys, reading at most {@code parallelism} keys at the
+     * same time. It is meant for the databases without a native multi-get, where each key is a round trip. The
+     * values keep the order of the keys, and a zero parallelism is the same as {@link #get(Iterable, Class)}.
+     *
+     * @param type        the entity class
+     * @param keys        the keys to be used in this query
+     * @param parallelism the maximum number of keys read at the same time, or zero to read them sequentially
+     * @param <K>         the key type
+     * @param <T>         the entity type
+     * @return a list of results, in the order of the keys
+     * @throws NullPointerException     when either the keys or the entity values are null
+     * @throws IllegalArgumentException when the parallelism is negative
+     */
+    default <K, T> Iterable<T> get(Iterable<K> keys, Class<T> type, int parallelism) {
+        Objects.requireNonNull(keys, "keys is required");
+        Objects.requireNonNull(type, "type is required");
+        if (parallelism < 0) {
+            throw new IllegalArgumentException("The parallelism must not be negative: " + parallelism);
+        }
+        if (parallelism == 0) {
+            return get(keys, type);
+        }
+        List<K> values = new ArrayList<>();
+        keys.forEach(values::add);
+        return FanOut.lookup(values, parallelism, key -> get(key, type));
+    }
+
     /**
      * Removes an entity associated with the specified key.
      *
@@ -129,4 +163,67 @@ public interface KeyValueTemplate extends Template {
      */
     <K> void delete(Iterable<K> keys);
 
+    /**
+     * Saves an entity asynchronously, on the {@link AsyncExecutor}.
+     *
+     * @param entity the entity to be saved
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} of the saved entity
+     * @throws NullPointerException when the entity is null
+     * @see #put(Object)
+     */
+    default <T> CompletionStage<T> putAsync(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> put(entity), AsyncExecutor.INSTANCE);
+    }
+
+    /**
+     * Finds the value associated with a key asynchronously, on the {@link AsyncExecutor}, thus several
+     * independent lookups run concurrently.
+     *
+     * @param key  the key
+     * @param type the entity class to convert the result
+     * @param <K>  the key type
+     * @param <T>  the entity type
+     * @return a {@link CompletionStage} of the value, or of {@link Optional#empty()} if not found
+     * @throws NullPointerException when either the key or the type is null
+     * @see #get(Object, Class)
+     */
+    default <K, T> CompletionStage<Optional<T>> getAsync(K key, Class<T> type) {
+        Objects.requireNonNull(key, "key is required");
+        Objects.requireNonNull(type, "type is required");
+        return CompletableFuture.supplyAsync(() -> get(key, type), AsyncExecutor.INSTANCE);
+    }
+
+    /**
+     * Finds the values associated with the keys asynchronously, on the {@link AsyncExecutor}.
+     *
+     * @param keys the keys
+     * @param type the entity class
+     * @param <K>  the key type
+     * @param <T>  the entity type
+     * @return a {@link CompletionStage} of the values found
+     * @throws NullPointerException when either the keys or the type is null
+     * @see #get(Iterable, Class)
+     */
+    default <K, T> CompletionStage<Iterable<T>> getAsync(Iterable<K> keys, Class<T> type) {
+        Objects.requireNonNull(keys, "keys is required");
+        Objects.requireNonNull(type, "type is required");
+        return CompletableFuture.supplyAsync(() -> get(keys, type), AsyncExecutor.INSTANCE);
+    }
+
+    /**
+     * Removes the entity associated with the key asynchronously, on the {@link AsyncExecutor}.
+     *
+     * @param key the key
+     * @param <K> the key type
+     * @return a {@link CompletionStage} that completes when the entity is removed
+     * @throws NullPointerException when the key is null
+     * @see #delete(Object)
+     */
+    default <K> CompletionStage<Void> deleteAsync(K key) {
+        Objects.requireNonNull(key, "key is required");
+        return CompletableFuture.runAsync(() -> delete(key), AsyncExecutor.INSTANCE);
+    }
+
 }
\ No newline at end of file
@@ -18,6 +18,10 @@ package org.eclipse.jnosql.mapping.keyvalue.query;
 import org.eclipse.jnosql.mapping.keyvalue.KeyValueTemplate;
 import org.eclipse.jnosql.mapping.core.query.AbstractRepository;
 
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 /**
  * The template method to key-value repository
  */
@@ -26,6 +30,16 @@ public abstract class AbstractKeyValueRepository<T, K> extends AbstractRepositor
     @Override
     protected abstract KeyValueTemplate template();
 
+    @Override
+    protected Stream<T> findAllById(List<K> ids) {
+        return StreamSupport.stream(template().get(ids, type()).spliterator(), false);
+    }
+
+    @Override
+    protected void deleteAllById(List<K> ids) {
+        template().delete(ids);
+    }
+
     @Override
     protected String getErrorMessage() {
         return "The key-value type does not support %s method";
@@ -17,9 +17,11 @@ package org.eclipse.jnosql.mapping.keyvalue;
 import jakarta.enterprise.inject.Instance;
 import jakarta.inject.Inject;
 import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.communication.keyvalue.BucketCapability;
 import org.eclipse.jnosql.communication.keyvalue.BucketManager;
 import org.eclipse.jnosql.communication.keyvalue.KeyValueEntity;
 import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
 import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.keyvalue.entities.Person;
 import org.eclipse.jnosql.mapping.keyvalue.entities.User;
@@ -42,6 +44,7 @@ import org.mockito.quality.Strictness;
 import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static java.util.Collections.singletonList;
 import static java.util.stream.StreamSupport.stream;
@@ -76,7 +79,6 @@ class DefaultKeyValueTemplateTest {
 
     private KeyValueTemplate template;
 
-
     @BeforeEach
     void setUp() {
         Instance<BucketManager> instance = Mockito.mock(Instance.class);
@@ -215,6 +217,31 @@ class DefaultKeyValueTemplateTest {
         assertEquals(user, userOptional.get());
     }
 
+    @Test
+    void shouldGetAsync() {
+        User user = new User(KEY, "otavio", 27);
+        User other = new User("other", "ada", 30);
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+        when(manager.get("other")).thenReturn(Optional.of(Value.of(other)));
+
+        var first = template.getAsync(KEY, User.class).toCompletableFuture();
+        var second = template.getAsync("other", User.class).toCompletableFuture();
+
+        assertEquals(Optional.of(user), first.join());
+        assertEquals(Optional.of(other), second.join());
+    }
+
+    @Test
+    void shouldPutAndDeleteAsync() {
+        User user = new User(KEY, "otavio", 27);
+
+        assertSame(user, template.putAsync(user).toCompletableFuture().join());
+        Mockito.verify(manager).put(captor.capture());
+        template.deleteAsync(KEY).toCompletableFuture().join();
+        Mockito.verify(manager).delete(KEY);
+        assertThrows(NullPointerException.class, () -> template.getAsync(null, User.class));
+    }
+
     @Test
     void shouldFindById() {
         User user = new User(KEY, "otavio", 27);
@@ -235,12 +262,11 @@ class DefaultKeyValueTemplateTest {
 
         assertFalse(userOptional.isEmpty());
         assertEquals(user, userOptional.get(0));
+        Mockito.verify(manager, Mockito.never()).getAll(Mockito.any());
     }
 
     @Test
     void shouldReturnEmptyIterable() {
-        User user = new User(KEY, "otavio", 27);
-
         when(manager.get(KEY)).thenReturn(Optional.empty());
         List<User> userOptional = stream(template.get(singletonList(KEY), User.class).spliterator(), false)
                 .toList();
@@ -248,6 +274,71 @@ class DefaultKeyValueTemplateTest {
         assertTrue(userOptional.isEmpty());
     }
 
+    @Test
+    void shouldGetIterableInBatches() {
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        var batchTemplate = new DefaultKeyValueTemplate(converter, instance, eventManager) {
+            @Override
+            protected int batchSize() {
+                return 2;
+            }
+        };
+        when(manager.supports(BucketCapability.GET_ALL)).thenReturn(true);
+        when(manager.getAll(Mockito.any())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            return keys.stream().map(k -> KeyValueEntity.of(k, new User(k, "name", 20))).toList();
+        });
+
+        List<User> users = stream(batchTemplate.get(List.of("a", "b", "c"), User.class).spliterator(), false)
+                .toList();
+
+        assertEquals(List.of("a", "b", "c"), users.stream().map(User::getNickname).toList());
+        Mockito.verify(manager).getAll(List.of("a", "b"));
+        Mockito.verify(manager).getAll(List.of("c"));
+    }
+
+    @Test
+    void shouldGetIterableInParallel() {
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        var parallelTemplate = new DefaultKeyValueTemplate(converter, instance, eventManager) {
+            @Override
+            protected int parallelism() {
+                return 3;
+            }
+        };
+        List<String> keys = List.of("a", "b", "c", "d", "e", "f", "g");
+        for (String key : keys) {
+            when(manager.get(key)).thenReturn("d".equals(key) ? Optional.empty()
+                    : Optional.of(Value.of(new User(key, "name", 20))));
+        }
+
+        List<User> users = stream(parallelTemplate.get(keys, User.class).spliterator(), false).toList();
+
+        assertEquals(List.of("a", "b", "c", "e", "f", "g"), users.stream().map(User::getNickname).toList());
+        Mockito.verify(manager, Mockito.never()).getAll(Mockito.any());
+    }
+
+    @Test
+    void shouldGetIterableWithParallelism() {
+        List<String> keys = List.of("a", "b", "c", "d");
+        for (String key : keys) {
+            when(manager.get(key)).thenReturn("b".equals(key) ? Optional.empty()
+                    : Optional.of(Value.of(new User(key, "name", 20))));
+        }
+
+        List<User> users = stream(template.get(keys, User.class, 2).spliterator(), false).toList();
+
+        assertEquals(List.of("a", "c", "d"), users.stream().map(User::getNickname).toList());
+        Mockito.verify(manager, Mockito.never()).getAll(Mockito.any());
+    }
+
+    @Test
+    void shouldReturnErrorWhenParallelismIsNegative() {
+        assertThrows(IllegalArgumentException.class, () -> template.get(List.of(KEY), User.class, -1));
+    }
+
     @Test
     void shouldRemove() {
         template.delete(KEY);
@@ -267,6 +358,65 @@ class DefaultKeyValueTemplateTest {
         Mockito.verify(manager).delete(singletonList(KEY));
     }
 
+    @Test
+    void shouldReadGetFromEntityCache() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(User.class.getName()));
+        var cached = cachedTemplate(cache);
+        User user = new User(KEY, "otavio", 27);
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+
+        Optional<User> first = cached.get(KEY, User.class);
+        Optional<User> second = cached.find(User.class, KEY);
+
+        assertEquals(Optional.of(user), first);
+        assertEquals(Optional.of(user), second);
+        assertEquals(1L, cache.hits());
+        Mockito.verify(manager).get(KEY);
+    }
+
+    @Test
+    void shouldNotUseEntityCacheWhenEntityIsNotCacheable() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of());
+        var cached = cachedTemplate(cache);
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(new User(KEY, "otavio", 27))));
+
+        cached.get(KEY, User.class);
+        cached.get(KEY, User.class);
+
+        Mockito.verify(manager, Mockito.times(2)).get(KEY);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldEvictEntityCacheOnPut() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(User.class.getName()));
+        var cached = cachedTemplate(cache);
+        User user = new User(KEY, "otavio", 27);
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(user)));
+
+        cached.get(KEY, User.class);
+        cached.put(user, Duration.ofSeconds(10));
+        cached.get(KEY, User.class);
+
+        Mockito.verify(manager, Mockito.times(2)).get(KEY);
+    }
+
+    @Test
+    void shouldEvictEntityCacheOnDelete() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(User.class.getName()));
+        var cached = cachedTemplate(cache);
+        when(manager.get(KEY)).thenReturn(Optional.of(Value.of(new User(KEY, "otavio", 27))));
+
+        cached.get(KEY, User.class);
+        cached.delete(KEY);
+        int afterDelete = cache.size();
+        cached.get(KEY, User.class);
+        cached.delete(singletonList(KEY));
+
+        assertEquals(0, afterDelete);
+        assertEquals(0, cache.size());
+    }
+
     @Test
     void shouldUnsupportedExceptionOnSelect() {
         assertThrows(UnsupportedOperationException.class, ()-> template.select(Person.class));
@@ -276,4 +426,15 @@ class DefaultKeyValueTemplateTest {
     void shouldUnsupportedExceptionOnDelete() {
         assertThrows(UnsupportedOperationException.class, ()-> template.delete(Person.class));
     }
+
+    private KeyValueTemplate cachedTemplate(EntityCache cache) {
+        Instance<BucketManager> instance = Mockito.mock(Instance.class);
+        when(instance.get()).thenReturn(manager);
+        return new DefaultKeyValueTemplate(converter, instance, eventManager) {
+            @Override
+            public EntityCache entityCache() {
+                return cache;
+            }
+        };
+    }
 }
@@ -98,13 +98,15 @@ class KeyValueRepositoryProxyTest {
 
     @Test
     void shouldSaveIterable() {
-        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
-
         User user = new User("ada", "Ada", 10);
-        userRepository.saveAll(Collections.singletonList(user));
-        Mockito.verify(template).insert(captor.capture());
-        User value = captor.getValue();
-        assertEquals(user, value);
+        User poliana = new User("poliana", "Poliana", 20);
+        when(template.get(List.of("ada", "poliana"), User.class)).thenReturn(List.of(poliana));
+
+        userRepository.saveAll(List.of(user, poliana));
+
+        Mockito.verify(template).insert(List.of(user));
+        Mockito.verify(template).update(List.of(poliana));
+        Mockito.verify(template, Mockito.never()).find(Mockito.eq(User.class), Mockito.any());
     }
 
     @Test
@@ -164,10 +166,9 @@ class KeyValueRepositoryProxyTest {
 
     @Test
     void shouldDeleteIterable() {
-        userRepository.deleteByIdIn(Collections.singletonList("key"));
-        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        Mockito.verify(template).delete(Mockito.eq(User.class), captor.capture());
-        assertEquals("key", captor.getValue());
+        userRepository.deleteByIdIn(List.of("key", "key2"));
+        Mockito.verify(template).delete(List.of("key", "key2"));
+        Mockito.verify(template, Mockito.never()).delete(Mockito.eq(User.class), Mockito.any());
     }
 
     @Test
@@ -183,9 +184,7 @@ class KeyValueRepositoryProxyTest {
     void shouldDeleteEntities() {
         User user = new User("ada", "Ada", 10);
         userRepository.deleteAll(Collections.singletonList(user));
-        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
-        Mockito.verify(template).delete(Mockito.eq(User.class), captor.capture());
-        assertEquals("ada", captor.getValue());
+        Mockito.verify(template).delete(List.of("ada"));
     }
 
     @Test
@@ -211,10 +210,10 @@ class KeyValueRepositoryProxyTest {
         User user = new User("ada", "Ada", 10);
         User user2 = new User("ada", "Ada", 10);
         List<String> keys = Arrays.asList("key", "key2");
-        when(template.find(User.class, "key")).thenReturn(Optional.of(user));
-        when(template.find(User.class, "key2")).thenReturn(Optional.of(user2));
+        when(template.get(keys, User.class)).thenReturn(List.of(user, user2));
 
         assertThat(userRepository.findByIdIn(keys)).contains(user, user2);
+        Mockito.verify(template, Mockito.never()).find(Mockito.eq(User.class), Mockito.any());
     }
 
     @Test
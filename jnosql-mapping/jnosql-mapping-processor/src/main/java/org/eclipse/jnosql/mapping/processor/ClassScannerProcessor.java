@@ -0,0 +1,197 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The annotation processor that generates, at compile time, an
+ * {@code org.eclipse.jnosql.mapping.reflection.IndexedClassScanner} with the classes annotated with
+ * {@code jakarta.nosql.Entity}, {@code jakarta.nosql.Embeddable} and {@code jakarta.data.repository.Repository}
+ * of the compilation, so the module is not scanned at the application startup.
+ * The generated scanner is registered at {@code META-INF/services} and merged by the reflection scanner with the
+ * other generated scanners and with the scan of the rest of the classpath, e.g., the entities of a module compiled
+ * without the processor; the {@code org.eclipse.jnosql.mapping.scan.index.only} setting skips that scan.
+ *
+ * <p>The generated class is in the {@value #DEFAULT_PACKAGE} package by default, it can be changed with the
+ * {@value #PACKAGE_OPTION} option. Its name is {@value #CLASS_NAME} followed by a hash of the indexed classes,
+ * so the scanners of two modules do not shadow each other.</p>
+ *
+ * <p>Only the scanner is generated. It does not generate a
+ * {@code org.eclipse.jnosql.mapping.metadata.ClassConverter}: {@code ClassConverter.load()} still finds the
+ * {@code ReflectionClassConverter}, which builds the entity metadata by reflection at the startup.</p>
+ */
+@SupportedAnnotationTypes({ClassScannerProcessor.ENTITY, ClassScannerProcessor.EMBEDDABLE,
+        ClassScannerProcessor.REPOSITORY})
+@SupportedOptions(ClassScannerProcessor.PACKAGE_OPTION)
+public final class ClassScannerProcessor extends AbstractProcessor {
+
+    static final String ENTITY = "jakarta.nosql.Entity";
+    static final String EMBEDDABLE = "jakarta.nosql.Embeddable";
+    static final String REPOSITORY = "jakarta.data.repository.Repository";
+
+    static final String PACKAGE_OPTION = "jnosql.scanner.package";
+    static final String DEFAULT_PACKAGE = "org.eclipse.jnosql.mapping.generated";
+    static final String CLASS_NAME = "GeneratedClassScanner";
+
+    private static final String SERVICE = "META-INF/services/org.eclipse.jnosql.mapping.reflection.IndexedClassScanner";
+
+    private final Map<String, String> entities = new TreeMap<>();
+    private final Map<String, String> embeddables = new TreeMap<>();
+    private final Map<String, String> repositories = new TreeMap<>();
+    private final List<Element> originatingElements = new ArrayList<>();
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            var name = annotation.getQualifiedName().toString();
+            var types = switch (name) {
+                case ENTITY -> entities;
+                case EMBEDDABLE -> embeddables;
+                case REPOSITORY -> repositories;
+                default -> null;
+            };
+            if (types == null) {
+                continue;
+            }
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element instanceof TypeElement type && isIndexable(type, name)) {
+                    types.put(type.getQualifiedName().toString(), expression(type));
+                    originatingElements.add(type);
+                }
+            }
+        }
+        if (!generated && !originatingElements.isEmpty()) {
+            generate();
+            generated = true;
+        }
+        return false;
+    }
+
+    private boolean isIndexable(TypeElement type, String annotation) {
+        if (generated) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "The class generated by another processor is not indexed by the JNoSQL scanner", type);
+            return false;
+        }
+        if (type.getNestingKind().isNested() && !type.getModifiers().contains(Modifier.STATIC)
+                && type.getKind() == ElementKind.CLASS) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "The inner class is not indexed by the JNoSQL scanner, it should be static", type);
+            return false;
+        }
+        return !REPOSITORY.equals(annotation) || type.getKind() == ElementKind.INTERFACE;
+    }
+
+    private String expression(TypeElement type) {
+        if (isAccessible(type)) {
+            return type.getQualifiedName() + ".class";
+        }
+        var binaryName = processingEnv.getElementUtils().getBinaryName(type);
+        return "type(%1$s.class, \"" + binaryName + "\")";
+    }
+
+    private static boolean isAccessible(TypeElement type) {
+        Element element = type;
+        while (element instanceof TypeElement) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private void generate() {
+        var packageName = processingEnv.getOptions().getOrDefault(PACKAGE_OPTION, DEFAULT_PACKAGE);
+        var simpleName = simpleName();
+        var className = packageName.isBlank() ? simpleName : packageName + '.' + simpleName;
+        var filer = processingEnv.getFiler();
+        var elements = originatingElements.toArray(Element[]::new);
+        try {
+            try (Writer writer = filer.createSourceFile(className, elements).openWriter()) {
+                writer.write(source(packageName, simpleName));
+            }
+            try (var writer = new PrintWriter(filer.createResource(StandardLocation.CLASS_OUTPUT, "",
+                    SERVICE, elements).openWriter())) {
+                writer.println(className);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("There is an issue to generate the " + className, exception);
+        }
+    }
+
+    /**
+     * The name of the generated class, unique to the indexed classes of this module.
+     */
+    private String simpleName() {
+        var types = new TreeMap<String, String>();
+        types.putAll(entities);
+        types.putAll(embeddables);
+        types.putAll(repositories);
+        return CLASS_NAME + '_' + Integer.toHexString(String.join(",", types.keySet()).hashCode());
+    }
+
+    private String source(String packageName, String simpleName) {
+        var packageDeclaration = packageName.isBlank() ? "" : "package " + packageName + ";\n\n";
+        return packageDeclaration + """
+                @jakarta.annotation.Generated("%s")
+                public final class %s extends org.eclipse.jnosql.mapping.reflection.IndexedClassScanner {
+
+                    public %s() {
+                        super(%s,
+                                %s,
+                                %s);
+                    }
+                }
+                """.formatted(ClassScannerProcessor.class.getName(), simpleName, simpleName,
+                set(entities, simpleName), set(embeddables, simpleName), set(repositories, simpleName));
+    }
+
+    /**
+     * The expressions of the classes, the ones loaded by name reference the generated class as {@code %1$s}.
+     */
+    private static String set(Map<String, String> types, String simpleName) {
+        return types.values().stream()
+                .map(expression -> expression.formatted(simpleName))
+                .collect(Collectors.joining(",\n                        ", "java.util.Set.of(", ")"));
+    }
+}
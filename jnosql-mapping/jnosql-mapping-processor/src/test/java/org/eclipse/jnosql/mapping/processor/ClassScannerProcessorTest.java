@@ -0,0 +1,175 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.processor;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClassScannerProcessorTest {
+
+    private static final Map<String, String> SOURCES = Map.of(
+            "sample.Person", """
+                    package sample;
+                    @jakarta.nosql.Entity
+                    public class Person {
+                        @jakarta.nosql.Id
+                        private String id;
+                    }
+                    """,
+            "sample.Secret", """
+                    package sample;
+                    @jakarta.nosql.Entity
+                    class Secret {
+                        @jakarta.nosql.Id
+                        private String id;
+                    }
+                    """,
+            "sample.Address", """
+                    package sample;
+                    @jakarta.nosql.Embeddable
+                    public class Address {
+                        @jakarta.nosql.Column
+                        private String city;
+                    }
+                    """,
+            "sample.PersonRepository", """
+                    package sample;
+                    @jakarta.data.repository.Repository
+                    public interface PersonRepository extends jakarta.data.repository.CrudRepository<Person, String> {
+                    }
+                    """,
+            "sample.Garage", """
+                    package sample;
+                    @jakarta.data.repository.Repository
+                    public interface Garage {
+                        @jakarta.data.repository.Save
+                        Person save(Person person);
+                    }
+                    """);
+
+    @TempDir
+    Path output;
+
+    @Test
+    void shouldGenerateClassScanner() throws Exception {
+        var diagnostics = compile(SOURCES, List.of());
+        assertThat(diagnostics).isEmpty();
+
+        var className = generated();
+        assertThat(className).startsWith("org.eclipse.jnosql.mapping.generated.GeneratedClassScanner_");
+
+        try (var loader = new URLClassLoader(new java.net.URL[]{output.toUri().toURL()}, getClass().getClassLoader())) {
+            var scanner = (ClassScanner) loader.loadClass(className).getConstructor().newInstance();
+            SoftAssertions.assertSoftly(soft -> {
+                soft.assertThat(scanner.entities()).extracting(Class::getName)
+                        .containsExactlyInAnyOrder("sample.Person", "sample.Secret");
+                soft.assertThat(scanner.embeddables()).extracting(Class::getName)
+                        .containsExactly("sample.Address");
+                soft.assertThat(scanner.repositories()).extracting(Class::getName)
+                        .containsExactly("sample.PersonRepository");
+                soft.assertThat(scanner.repositoriesStandard()).extracting(Class::getName)
+                        .containsExactly("sample.PersonRepository");
+                soft.assertThat(scanner.customRepositories()).extracting(Class::getName)
+                        .containsExactly("sample.Garage");
+            });
+        }
+    }
+
+    @Test
+    void shouldGenerateAtPackageOption() throws IOException {
+        var diagnostics = compile(Map.of("sample.Person", SOURCES.get("sample.Person")),
+                List.of("-Ajnosql.scanner.package=sample.scanner"));
+        assertThat(diagnostics).isEmpty();
+        var className = generated();
+        assertThat(className).startsWith("sample.scanner.GeneratedClassScanner_");
+        assertThat(output.resolve(className.replace('.', '/') + ".class")).exists();
+    }
+
+    @Test
+    void shouldGenerateUniqueNamePerIndexedClasses() throws IOException {
+        compile(Map.of("sample.Person", SOURCES.get("sample.Person")), List.of());
+        var person = generated();
+        compile(Map.of("sample.Address", SOURCES.get("sample.Address")), List.of());
+        var address = generated();
+        compile(Map.of("sample.Person", SOURCES.get("sample.Person")), List.of());
+
+        assertThat(person).isNotEqualTo(address);
+        assertThat(generated()).isEqualTo(person);
+    }
+
+    @Test
+    void shouldNotGenerateWithoutAnnotatedClasses() throws IOException {
+        var diagnostics = compile(Map.of("sample.Plain", "package sample; public class Plain {}"), List.of());
+        assertThat(diagnostics).isEmpty();
+        assertThat(output.resolve("META-INF")).doesNotExist();
+        assertThat(output.resolve("org")).doesNotExist();
+    }
+
+    private String generated() throws IOException {
+        var service = output.resolve("META-INF/services/org.eclipse.jnosql.mapping.reflection.IndexedClassScanner");
+        return Files.readString(service).trim();
+    }
+
+    private List<Diagnostic<? extends JavaFileObject>> compile(Map<String, String> sources, List<String> options)
+            throws IOException {
+        var compiler = ToolProvider.getSystemJavaCompiler();
+        var diagnostics = new DiagnosticCollector<JavaFileObject>();
+        List<String> arguments = new ArrayList<>(options);
+        arguments.addAll(List.of("-classpath", System.getProperty("java.class.path"),
+                "-d", output.toString(), "-s", output.toString()));
+        List<JavaFileObject> units = sources.entrySet().stream()
+                .map(entry -> (JavaFileObject) new Source(entry.getKey(), entry.getValue()))
+                .toList();
+        try (var fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            var task = compiler.getTask(null, fileManager, diagnostics, arguments, null, units);
+            task.setProcessors(List.of(new ClassScannerProcessor()));
+            assertThat(task.call()).as(diagnostics.getDiagnostics().toString()).isTrue();
+        }
+        return diagnostics.getDiagnostics();
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String code;
+
+        private Source(String name, String code) {
+            super(URI.create("string:///" + name.replace('.', '/') + Kind.SOURCE.extension), Kind.SOURCE);
+            this.code = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return code;
+        }
+    }
+}
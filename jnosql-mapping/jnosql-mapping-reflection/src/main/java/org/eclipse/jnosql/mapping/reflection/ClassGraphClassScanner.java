@@ -22,13 +22,18 @@ import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.Repository;
 import jakarta.nosql.Entity;
 import jakarta.nosql.Embeddable;
+import org.eclipse.jnosql.communication.Configurations;
 import org.eclipse.jnosql.mapping.NoSQLRepository;
 import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.microprofile.config.ConfigProvider;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -40,6 +45,9 @@ import static java.util.stream.Collectors.toUnmodifiableSet;
  * Scanner classes that will load entities with both Entity and Embeddable
  * annotations and repositories: interfaces that extend DataRepository
  * and has the Repository annotation.
+ * When there are {@link IndexedClassScanner} generated at compile time, their classes are merged with the scan of
+ * the classpath elements they do not come from; with the {@link Configurations#SCAN_INDEX_ONLY} setting, the
+ * classes are taken only from them and the classpath is not scanned.
  */
 enum ClassGraphClassScanner implements ClassScanner {
 
@@ -59,14 +67,15 @@ enum ClassGraphClassScanner implements ClassScanner {
 
         Logger logger = Logger.getLogger(ClassGraphClassScanner.class.getName());
         logger.fine("Starting scan class to find entities, embeddable and repositories.");
-        try (ScanResult result = new ClassGraph().enableAllInfo().scan()) {
-            var notSupportedRepositories = loadNotSupportedRepositories(result);
-            logger.info("The following repositories are not supported: " + notSupportedRepositories);
-            this.entities.addAll(loadEntities(result));
-            this.embeddables.addAll(loadEmbeddable(result));
-            this.repositories.addAll(loadRepositories(result));
-            this.customRepositories.addAll(loadCustomRepositories(result));
-            notSupportedRepositories.forEach(this.repositories::remove);
+        List<IndexedClassScanner> indexes = IndexedClassScanner.loadAll();
+        if (indexes.isEmpty() || !isIndexOnly()) {
+            scan(indexes, logger);
+        }
+        for (IndexedClassScanner index : indexes) {
+            this.entities.addAll(index.entities());
+            this.embeddables.addAll(index.embeddables());
+            this.repositories.addAll(index.repositories());
+            this.customRepositories.addAll(index.customRepositories());
         }
         logger.fine(String.format("Finished the class scan with entities %d, embeddables %d and repositories: %d"
                 , entities.size(), embeddables.size(), repositories.size()));
@@ -117,6 +126,46 @@ enum ClassGraphClassScanner implements ClassScanner {
     }
 
 
+    private void scan(List<IndexedClassScanner> indexes, Logger logger) {
+        Set<Path> indexed = indexes.stream()
+                .map(IndexedClassScanner::location)
+                .flatMap(Optional::stream)
+                .collect(toUnmodifiableSet());
+        try (ScanResult result = new ClassGraph().enableAllInfo()
+                .filterClasspathElements(path -> !isIndexed(path, indexed)).scan()) {
+            var notSupportedRepositories = loadNotSupportedRepositories(result);
+            if (!notSupportedRepositories.isEmpty()) {
+                logger.info("The following repositories are not supported: " + notSupportedRepositories);
+            }
+            this.entities.addAll(loadEntities(result));
+            this.embeddables.addAll(loadEmbeddable(result));
+            this.repositories.addAll(loadRepositories(result));
+            this.customRepositories.addAll(loadCustomRepositories(result));
+            notSupportedRepositories.forEach(this.repositories::remove);
+        }
+    }
+
+    private static boolean isIndexOnly() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue(Configurations.SCAN_INDEX_ONLY.get(), Boolean.class)
+                .orElse(false);
+    }
+
+    /**
+     * Checks if the classpath element is the location of an {@link IndexedClassScanner}, thus its classes are
+     * already known. A path that cannot be resolved, e.g., a nested jar, is scanned.
+     */
+    static boolean isIndexed(String path, Set<Path> indexed) {
+        if (indexed.isEmpty()) {
+            return false;
+        }
+        try {
+            return indexed.contains(Path.of(path).toAbsolutePath().normalize());
+        } catch (InvalidPathException exception) {
+            return false;
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     private static List<Class<DataRepository>> loadRepositories(ScanResult scan) {
         return scan.getClassesWithAnnotation(Repository.class)
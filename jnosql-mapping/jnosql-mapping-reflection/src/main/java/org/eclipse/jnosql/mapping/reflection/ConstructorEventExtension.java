@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.enterprise.event.Observes;
+import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.BeforeShutdown;
+import jakarta.enterprise.inject.spi.Extension;
+import jakarta.enterprise.inject.spi.ProcessObserverMethod;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A CDI extension that tracks if the running containers have an observer of {@link ConstructorEvent}, thus
+ * the {@link MethodHandleConstructorBuilderSupplier} does not look up the container on each entity when there
+ * is none. When no container has loaded this extension, the container is looked up as before.
+ */
+public class ConstructorEventExtension implements Extension {
+
+    private static final AtomicInteger CONTAINERS = new AtomicInteger();
+
+    private static final AtomicInteger OBSERVING = new AtomicInteger();
+
+    private boolean observed;
+
+    void beforeBeanDiscovery(@Observes BeforeBeanDiscovery event) {
+        CONTAINERS.incrementAndGet();
+    }
+
+    void observer(@Observes ProcessObserverMethod<?, ?> event) {
+        if (!observed && observes(event.getObserverMethod().getObservedType())) {
+            observed = true;
+            OBSERVING.incrementAndGet();
+        }
+    }
+
+    void beforeShutdown(@Observes BeforeShutdown event) {
+        if (observed) {
+            observed = false;
+            OBSERVING.decrementAndGet();
+        }
+        CONTAINERS.decrementAndGet();
+    }
+
+    /**
+     * An observer of a supertype such as {@link Object} also receives the {@link ConstructorEvent}; a type that is
+     * not a class, such as a type variable, is taken as an observer.
+     */
+    private static boolean observes(Type observedType) {
+        if (observedType instanceof Class<?> type) {
+            return type.isAssignableFrom(ConstructorEvent.class);
+        }
+        if (observedType instanceof ParameterizedType type && type.getRawType() instanceof Class<?> raw) {
+            return raw.isAssignableFrom(ConstructorEvent.class);
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the running containers are known and none of them observes {@link ConstructorEvent}.
+     */
+    static boolean hasNoObserver() {
+        return CONTAINERS.get() > 0 && OBSERVING.get() == 0;
+    }
+}
@@ -25,6 +25,7 @@ import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.GroupEntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -48,6 +49,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
 
     private final  Map<String, EntityMetadata> findByClassName;
 
+    private volatile Map<Class<?>, Map<String, InheritanceMetadata>> inheritances;
 
     private final ClassConverter converter;
 
@@ -60,6 +62,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         this.findBySimpleName = new ConcurrentHashMap<>();
         this.findByClassName = new ConcurrentHashMap<>();
         this.converter = new ReflectionClassConverter();
+        this.inheritances = Map.of();
     }
 
     @PostConstruct
@@ -70,6 +73,11 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
             findBySimpleName.put(r.simpleName(), r);
             findByClassName.put(r.className(), r);
         });
+        this.inheritances = classes.values().stream()
+                .flatMap(c -> c.inheritance().stream())
+                .collect(Collectors.collectingAndThen(Collectors.groupingBy(InheritanceMetadata::parent,
+                        Collectors.collectingAndThen(Collectors.toMap(InheritanceMetadata::discriminatorValue,
+                                Function.identity()), Map::copyOf)), Map::copyOf));
     }
 
     EntityMetadata load(Class<?> type) {
@@ -79,6 +87,7 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         }
         this.findBySimpleName.put(type.getSimpleName(), metadata);
         this.findByClassName.put(type.getName(), metadata);
+        metadata.inheritance().ifPresent(this::addInheritance);
         return metadata;
     }
 
@@ -87,13 +96,14 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         return classes.computeIfAbsent(entity, this::load);
     }
 
+    /**
+     * Returns the subtypes of the parent from the table built at {@link #init()}, the parents without subtypes and
+     * the types that are not parents share the same empty map.
+     */
     @Override
     public Map<String, InheritanceMetadata> findByParentGroupByDiscriminatorValue(Class<?> parent) {
         Objects.requireNonNull(parent, "parent is required");
-        return this.classes.values().stream()
-                .flatMap(c -> c.inheritance().stream())
-                .filter(p -> p.isParent(parent))
-                .collect(Collectors.toMap(InheritanceMetadata::discriminatorValue, Function.identity()));
+        return this.inheritances.getOrDefault(parent, Map.of());
     }
 
     @Override
@@ -116,6 +126,17 @@ class DefaultEntitiesMetadata implements EntitiesMetadata {
         return Optional.ofNullable(findByClassName.get(name));
     }
 
+    /**
+     * Adds the subtype of an entity loaded after the {@link #init()}, copying the table since it is rarely updated.
+     */
+    private synchronized void addInheritance(InheritanceMetadata inheritance) {
+        Map<Class<?>, Map<String, InheritanceMetadata>> table = new HashMap<>(this.inheritances);
+        Map<String, InheritanceMetadata> group = new HashMap<>(table.getOrDefault(inheritance.parent(), Map.of()));
+        group.put(inheritance.discriminatorValue(), inheritance);
+        table.put(inheritance.parent(), Map.copyOf(group));
+        this.inheritances = Map.copyOf(table);
+    }
+
     @Override
     public String toString() {
         return "DefaultEntitiesMetadata{" + "mappings-size=" + mappings.size() +
@@ -0,0 +1,230 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.eclipse.jnosql.communication.Configurations;
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The strategy that creates the {@link FieldReader}, {@link FieldWriter} and {@link InstanceSupplier}
+ * of an entity. It is defined by the {@link Configurations#FIELD_ACCESS} setting and
+ * {@link #METHOD_HANDLE} is the default.
+ */
+public enum FieldAccessStrategy {
+
+    /**
+     * Resolves a {@link MethodHandle} for each field and constructor once, when the entity is scanned, adapted
+     * to the {@link Object} type, so the access does not pay the reflection checks on each call.
+     * The {@code int}, {@code long}, {@code double} and {@code boolean} fields also keep a handle of their
+     * primitive type, used by the primitive methods of {@link FieldWriter} without boxing.
+     * A boxed number written to a primitive field is widened first, as {@link Field#set(Object, Object)} does.
+     * When the handle cannot be resolved, e.g., a final field, it falls back to {@link #REFLECTION}.
+     */
+    METHOD_HANDLE {
+        @Override
+        FieldReader reader(Field field) {
+            try {
+                MethodHandle getter = LOOKUP.unreflectGetter(field).asType(GETTER);
+                return bean -> {
+                    try {
+                        return (Object) getter.invokeExact(bean);
+                    } catch (Error error) {
+                        throw error;
+                    } catch (Throwable exception) {
+                        LOGGER.log(Level.FINEST, "There is an issue with returning value from this field.", exception);
+                        return null;
+                    }
+                };
+            } catch (IllegalAccessException | RuntimeException exception) {
+                LOGGER.log(Level.FINEST, "Using reflection to read the field " + field, exception);
+                return REFLECTION.reader(field);
+            }
+        }
+
+        @Override
+        FieldWriter writer(Field field) {
+            try {
+                MethodHandle handle = LOOKUP.unreflectSetter(field);
+                MethodHandle setter = handle.asType(SETTER);
+                if (PrimitiveFieldWriter.supports(field.getType())) {
+                    return new PrimitiveFieldWriter(setter, handle.asType(
+                            MethodType.methodType(void.class, Object.class, field.getType())), field.getType());
+                }
+                Class<?> type = field.getType();
+                return (bean, value) -> {
+                    try {
+                        setter.invokeExact(bean, widen(type, value));
+                    } catch (Error error) {
+                        throw error;
+                    } catch (Throwable exception) {
+                        LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", exception);
+                    }
+                };
+            } catch (IllegalAccessException | RuntimeException exception) {
+                LOGGER.log(Level.FINEST, "Using reflection to write the field " + field, exception);
+                return REFLECTION.writer(field);
+            }
+        }
+
+        @Override
+        InstanceSupplier instanceSupplier(Constructor<?> constructor) {
+            if (constructor.getParameterCount() != 0) {
+                return REFLECTION.instanceSupplier(constructor);
+            }
+            try {
+                MethodHandle creator = LOOKUP.unreflectConstructor(constructor).asType(CREATOR);
+                return () -> {
+                    try {
+                        return (Object) creator.invokeExact();
+                    } catch (Error error) {
+                        throw error;
+                    } catch (Throwable exception) {
+                        LOGGER.log(Level.FINEST, "There is an issue to creating an entity from this constructor",
+                                exception);
+                        return null;
+                    }
+                };
+            } catch (IllegalAccessException | RuntimeException exception) {
+                LOGGER.log(Level.FINEST, "Using reflection to call the constructor " + constructor, exception);
+                return REFLECTION.instanceSupplier(constructor);
+            }
+        }
+    },
+
+    /**
+     * Uses the {@link Field} and {@link Constructor} on each call through {@link Reflections}.
+     */
+    REFLECTION {
+        @Override
+        FieldReader reader(Field field) {
+            return bean -> REFLECTIONS.getValue(bean, field);
+        }
+
+        @Override
+        FieldWriter writer(Field field) {
+            return (bean, value) -> REFLECTIONS.setValue(bean, field, value);
+        }
+
+        @Override
+        InstanceSupplier instanceSupplier(Constructor<?> constructor) {
+            return () -> Reflections.newInstance(constructor);
+        }
+    };
+
+    private static final Logger LOGGER = Logger.getLogger(FieldAccessStrategy.class.getName());
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodType CREATOR = MethodType.methodType(Object.class);
+
+    private static final Reflections REFLECTIONS = new Reflections();
+
+    private static final List<Class<?>> PRIMITIVES = List.of(byte.class, short.class, int.class, long.class,
+            float.class, double.class);
+
+    private static final List<Class<?>> WRAPPERS = List.of(Byte.class, Short.class, Integer.class, Long.class,
+            Float.class, Double.class);
+
+    private static final List<Function<Number, Object>> WIDENINGS = List.of(Number::byteValue, Number::shortValue,
+            Number::intValue, Number::longValue, Number::floatValue, Number::doubleValue);
+
+    /**
+     * Creates the reader of the field, the field must be accessible.
+     *
+     * @param field the field
+     * @return the reader
+     */
+    abstract FieldReader reader(Field field);
+
+    /**
+     * Creates the writer of the field, the field must be accessible.
+     *
+     * @param field the field
+     * @return the writer
+     */
+    abstract FieldWriter writer(Field field);
+
+    /**
+     * Creates the supplier of new instances from the constructor, the constructor must be accessible.
+     *
+     * @param constructor the constructor
+     * @return the instance supplier
+     */
+    abstract InstanceSupplier instanceSupplier(Constructor<?> constructor);
+
+    /**
+     * Applies the widening primitive conversion of {@link Field#set(Object, Object)} to a boxed value written to a
+     * primitive field, e.g., an {@link Integer} to a {@code long} field, since the {@link MethodHandle} only unboxes
+     * the wrapper of the field type. Any other value is returned as it is.
+     *
+     * @param type  the field type
+     * @param value the value
+     * @return the widened value or the value itself
+     */
+    static Object widen(Class<?> type, Object value) {
+        int target = PRIMITIVES.indexOf(type);
+        if (target < 0 || value == null) {
+            return value;
+        }
+        Object number = value instanceof Character character ? Integer.valueOf(character) : value;
+        int source = WRAPPERS.indexOf(number.getClass());
+        if (source < 0 || source > target) {
+            return value;
+        }
+        return WIDENINGS.get(target).apply((Number) number);
+    }
+
+    /**
+     * Returns the strategy from the name, ignoring the case.
+     *
+     * @param name the strategy name
+     * @return the strategy
+     * @throws NullPointerException     when name is null
+     * @throws IllegalArgumentException when there is no strategy with this name
+     */
+    public static FieldAccessStrategy of(String name) {
+        Objects.requireNonNull(name, "name is required");
+        return valueOf(name.trim().toUpperCase(Locale.US).replace('-', '_'));
+    }
+
+    /**
+     * Returns the strategy defined at the {@link Configurations#FIELD_ACCESS} setting,
+     * or {@link #METHOD_HANDLE} when it is not defined.
+     *
+     * @return the strategy
+     */
+    static FieldAccessStrategy current() {
+        return ConfigProvider.getConfig()
+                .getOptionalValue(Configurations.FIELD_ACCESS.get(), String.class)
+                .map(FieldAccessStrategy::of)
+                .orElse(METHOD_HANDLE);
+    }
+}
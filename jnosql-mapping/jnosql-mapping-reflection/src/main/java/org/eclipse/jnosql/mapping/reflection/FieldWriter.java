@@ -29,4 +29,48 @@ public interface FieldWriter {
      * @throws NullPointerException when there is null parameter
      */
     void write(Object bean, Object value);
+
+    /**
+     * Writes an {@code int} field, by default it boxes the value and calls {@link #write(Object, Object)}.
+     *
+     * @param bean  the entity that has the field
+     * @param value the value to the field
+     * @throws NullPointerException when the bean is null
+     */
+    default void writeInt(Object bean, int value) {
+        write(bean, value);
+    }
+
+    /**
+     * Writes a {@code long} field, by default it boxes the value and calls {@link #write(Object, Object)}.
+     *
+     * @param bean  the entity that has the field
+     * @param value the value to the field
+     * @throws NullPointerException when the bean is null
+     */
+    default void writeLong(Object bean, long value) {
+        write(bean, value);
+    }
+
+    /**
+     * Writes a {@code double} field, by default it boxes the value and calls {@link #write(Object, Object)}.
+     *
+     * @param bean  the entity that has the field
+     * @param value the value to the field
+     * @throws NullPointerException when the bean is null
+     */
+    default void writeDouble(Object bean, double value) {
+        write(bean, value);
+    }
+
+    /**
+     * Writes a {@code boolean} field, by default it boxes the value and calls {@link #write(Object, Object)}.
+     *
+     * @param bean  the entity that has the field
+     * @param value the value to the field
+     * @throws NullPointerException when the bean is null
+     */
+    default void writeBoolean(Object bean, boolean value) {
+        write(bean, value);
+    }
 }
@@ -0,0 +1,177 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.repository.BasicRepository;
+import jakarta.data.repository.CrudRepository;
+import jakarta.data.repository.DataRepository;
+import org.eclipse.jnosql.mapping.NoSQLRepository;
+import org.eclipse.jnosql.mapping.metadata.ClassScanner;
+import org.eclipse.jnosql.mapping.metadata.MetadataException;
+
+import java.net.URISyntaxException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+/**
+ * A {@link ClassScanner} from classes that are known upfront, instead of scanning the classpath.
+ * It is the base of the scanners generated at compile time by the JNoSQL annotation processor,
+ * which lists the classes annotated with {@link jakarta.nosql.Entity}, {@link jakarta.nosql.Embeddable}
+ * and {@link jakarta.data.repository.Repository}.
+ * The repositories are split between the supported and the custom ones with the same rules of the
+ * {@link ReflectionClassScanner}.
+ *
+ * <p>The generated scanners are registered at {@code META-INF/services} as {@link IndexedClassScanner}, one per
+ * module that runs the processor. The {@link ReflectionClassScanner} merges all of them and scans only the
+ * classpath elements outside these modules, unless the
+ * {@link org.eclipse.jnosql.communication.Configurations#SCAN_INDEX_ONLY} setting skips the scan.</p>
+ */
+public abstract class IndexedClassScanner implements ClassScanner {
+
+    private static final Logger LOGGER = Logger.getLogger(IndexedClassScanner.class.getName());
+
+    private final Set<Class<?>> entities;
+    private final Set<Class<?>> embeddables;
+    private final Set<Class<?>> repositories;
+    private final Set<Class<?>> customRepositories;
+
+    /**
+     * Creates the scanner from the indexed classes.
+     *
+     * @param entities     the classes annotated with {@link jakarta.nosql.Entity}
+     * @param embeddables  the classes annotated with {@link jakarta.nosql.Embeddable}
+     * @param repositories the interfaces annotated with {@link jakarta.data.repository.Repository}
+     * @throws NullPointerException when there is a null parameter
+     */
+    protected IndexedClassScanner(Set<Class<?>> entities, Set<Class<?>> embeddables, Set<Class<?>> repositories) {
+        Objects.requireNonNull(entities, "entities is required");
+        Objects.requireNonNull(embeddables, "embeddables is required");
+        Objects.requireNonNull(repositories, "repositories is required");
+        this.entities = Set.copyOf(entities);
+        this.embeddables = Set.copyOf(embeddables);
+        var dataRepositories = repositories.stream()
+                .filter(DataRepository.class::isAssignableFrom)
+                .collect(toUnmodifiableSet());
+        var notSupportedRepositories = dataRepositories.stream()
+                .filter(not(RepositoryFilter.INSTANCE))
+                .collect(toUnmodifiableSet());
+        if (!notSupportedRepositories.isEmpty()) {
+            LOGGER.info("The following repositories are not supported: " + notSupportedRepositories);
+        }
+        this.repositories = dataRepositories.stream()
+                .filter(RepositoryFilter.INSTANCE)
+                .collect(toUnmodifiableSet());
+        this.customRepositories = repositories.stream()
+                .filter(not(DataRepository.class::isAssignableFrom))
+                .collect(toUnmodifiableSet());
+    }
+
+    @Override
+    public Set<Class<?>> entities() {
+        return entities;
+    }
+
+    @Override
+    public Set<Class<?>> repositories() {
+        return repositories;
+    }
+
+    @Override
+    public Set<Class<?>> embeddables() {
+        return embeddables;
+    }
+
+    @Override
+    public <T extends DataRepository<?, ?>> Set<Class<?>> repositories(Class<T> filter) {
+        Objects.requireNonNull(filter, "filter is required");
+        return repositories.stream().filter(filter::isAssignableFrom)
+                .filter(c -> Arrays.asList(c.getInterfaces()).contains(filter))
+                .collect(toUnmodifiableSet());
+    }
+
+    @Override
+    public Set<Class<?>> repositoriesStandard() {
+        return repositories.stream()
+                .filter(c -> {
+                    List<Class<?>> interfaces = Arrays.asList(c.getInterfaces());
+                    return interfaces.contains(CrudRepository.class)
+                            || interfaces.contains(BasicRepository.class)
+                            || interfaces.contains(NoSQLRepository.class)
+                            || interfaces.contains(DataRepository.class);
+                }).collect(toUnmodifiableSet());
+    }
+
+    @Override
+    public Set<Class<?>> customRepositories() {
+        return customRepositories;
+    }
+
+    /**
+     * Returns the location of the classes indexed by this scanner, the classpath element of the generated
+     * scanner, e.g., the jar of the module compiled with the annotation processor.
+     *
+     * @return the location, or empty when the class loader does not provide it
+     */
+    Optional<Path> location() {
+        var codeSource = getClass().getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Path.of(codeSource.getLocation().toURI()).toAbsolutePath().normalize());
+        } catch (URISyntaxException | IllegalArgumentException | FileSystemNotFoundException exception) {
+            LOGGER.fine("The location of the indexed classes is not a file: " + codeSource.getLocation());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Loads the scanners generated at compile time, registered at {@code META-INF/services}.
+     *
+     * @return the generated scanners
+     */
+    static List<IndexedClassScanner> loadAll() {
+        return ServiceLoader.load(IndexedClassScanner.class).stream()
+                .map(ServiceLoader.Provider::get)
+                .toList();
+    }
+
+    /**
+     * Loads the class that the generated scanner cannot reference as a class literal,
+     * e.g., a package-private entity, from the class loader of the generated scanner.
+     *
+     * @param scanner the generated scanner type
+     * @param name    the binary name of the class
+     * @return the class
+     * @throws MetadataException when the class is not found
+     */
+    protected static Class<?> type(Class<? extends IndexedClassScanner> scanner, String name) {
+        try {
+            return Class.forName(name, false, scanner.getClassLoader());
+        } catch (ClassNotFoundException exception) {
+            throw new MetadataException("The indexed class was not found: " + name, exception);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.data.exceptions.MappingException;
+import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
+import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The {@link ConstructorBuilder} of {@link MethodHandleConstructorBuilderSupplier}: the values are set in an array
+ * with a slot per parameter, and the parameters that are not added are null.
+ */
+final class MethodHandleConstructorBuilder implements ConstructorBuilder {
+
+    private final DefaultConstructorMetadata metadata;
+
+    private final MethodHandle creator;
+
+    private final MethodHandleConstructorBuilderSupplier supplier;
+
+    private final Object[] values;
+
+    private int size;
+
+    MethodHandleConstructorBuilder(DefaultConstructorMetadata metadata, MethodHandle creator,
+                                   MethodHandleConstructorBuilderSupplier supplier) {
+        this.metadata = metadata;
+        this.creator = creator;
+        this.supplier = supplier;
+        this.values = new Object[metadata.constructor().getParameterCount()];
+    }
+
+    MethodHandle creator() {
+        return creator;
+    }
+
+    @Override
+    public List<ParameterMetaData> parameters() {
+        return this.metadata.parameters();
+    }
+
+    @Override
+    public void add(Object value) {
+        if (size == values.length) {
+            throw new IllegalStateException("All the parameters of the constructor were added: "
+                    + metadata.constructor());
+        }
+        this.values[size++] = value;
+    }
+
+    @Override
+    public void addEmptyParameter() {
+        add(null);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T build() {
+        supplier.observer(metadata.constructor()).ifPresent(beanManager -> beanManager.getEvent()
+                .select(ConstructorEvent.class).fire(ConstructorEvent.of(metadata.constructor(), values.clone())));
+        try {
+            return (T) (Object) creator.invokeExact(values);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable exception) {
+            throw new MappingException("There is an issue to create a new instance of this class" +
+                    " using this constructor: " + metadata.constructor(), exception);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        MethodHandleConstructorBuilder that = (MethodHandleConstructorBuilder) o;
+        return size == that.size && Arrays.equals(values, that.values) && Objects.equals(metadata, that.metadata);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Objects.hash(metadata, size) + Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return "ConstructorBuilder{" +
+                "values=" + Arrays.toString(Arrays.copyOf(values, size)) +
+                ", metadata=" + metadata +
+                '}';
+    }
+}
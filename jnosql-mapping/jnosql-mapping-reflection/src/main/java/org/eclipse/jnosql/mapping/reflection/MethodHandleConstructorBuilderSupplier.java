@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.enterprise.inject.spi.BeanManager;
+import jakarta.enterprise.inject.spi.CDI;
+import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
+import org.eclipse.jnosql.mapping.metadata.ConstructorBuilderSupplier;
+import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A supplier of constructor using a {@link MethodHandle} per constructor, resolved once and spread over an array
+ * of the size of the parameters, instead of {@link Constructor#newInstance(Object...)} on each entity.
+ * The handles are shared by all the instances of this supplier, kept per declaring class in a {@link ClassValue},
+ * thus they do not keep the class loader of an entity alive.
+ * The {@link ConstructorEvent} is fired only when the CDI container has an observer of it; when the
+ * {@link ConstructorEventExtension} knows there is none, the container is not looked up at all.
+ *
+ * <p>It is the default supplier; when the {@link org.eclipse.jnosql.communication.Configurations#FIELD_ACCESS}
+ * setting is {@link FieldAccessStrategy#REFLECTION}, or the handle cannot be resolved, it creates the same builder
+ * as {@link ReflectionConstructorBuilderSupplier}.</p>
+ */
+public class MethodHandleConstructorBuilderSupplier implements ConstructorBuilderSupplier {
+
+    private static final Logger LOGGER = Logger.getLogger(MethodHandleConstructorBuilderSupplier.class.getName());
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType CREATOR = MethodType.methodType(Object.class, Object[].class);
+
+    private final FieldAccessStrategy strategy;
+
+    private static final ClassValue<Map<Constructor<?>, Optional<MethodHandle>>> CREATORS = new ClassValue<>() {
+        @Override
+        protected Map<Constructor<?>, Optional<MethodHandle>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static volatile Observers observers;
+
+    /**
+     * Creates the supplier with the strategy of the
+     * {@link org.eclipse.jnosql.communication.Configurations#FIELD_ACCESS} setting.
+     */
+    public MethodHandleConstructorBuilderSupplier() {
+        this(FieldAccessStrategy.current());
+    }
+
+    MethodHandleConstructorBuilderSupplier(FieldAccessStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    @Override
+    public ConstructorBuilder apply(ConstructorMetadata constructorMetadata) {
+        Objects.requireNonNull(constructorMetadata, "constructorMetadata is required");
+        if (strategy == FieldAccessStrategy.REFLECTION
+                || !(constructorMetadata instanceof DefaultConstructorMetadata metadata)) {
+            return DefaultConstructorBuilder.of(constructorMetadata);
+        }
+        Constructor<?> constructor = metadata.constructor();
+        return CREATORS.get(constructor.getDeclaringClass())
+                .computeIfAbsent(constructor, MethodHandleConstructorBuilderSupplier::creator)
+                .<ConstructorBuilder>map(creator -> new MethodHandleConstructorBuilder(metadata, creator, this))
+                .orElseGet(() -> DefaultConstructorBuilder.of(constructorMetadata));
+    }
+
+    /**
+     * Returns the bean manager of the current CDI container when it has an observer of {@link ConstructorEvent}.
+     * The observers are resolved once per container, and there are none when there is no container.
+     */
+    Optional<BeanManager> observer(Constructor<?> constructor) {
+        if (ConstructorEventExtension.hasNoObserver()) {
+            return Optional.empty();
+        }
+        BeanManager beanManager;
+        try {
+            beanManager = CDI.current().getBeanManager();
+        } catch (IllegalStateException exception) {
+            return Optional.empty();
+        }
+        Observers current = observers;
+        if (current == null || current.beanManager() != beanManager) {
+            ConstructorEvent event = ConstructorEvent.of(constructor, new Object[0]);
+            current = new Observers(beanManager, !beanManager.resolveObserverMethods(event).isEmpty());
+            observers = current;
+        }
+        return current.observed() ? Optional.of(beanManager) : Optional.empty();
+    }
+
+    private static Optional<MethodHandle> creator(Constructor<?> constructor) {
+        try {
+            return Optional.of(LOOKUP.unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(CREATOR));
+        } catch (IllegalAccessException | RuntimeException exception) {
+            LOGGER.log(Level.FINEST, "Using reflection to call the constructor " + constructor, exception);
+            return Optional.empty();
+        }
+    }
+
+    private record Observers(BeanManager beanManager, boolean observed) {
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The {@link FieldWriter} of {@link FieldAccessStrategy#METHOD_HANDLE} to an {@code int}, {@code long},
+ * {@code double} or {@code boolean} field. Besides the setter adapted to {@link Object}, it keeps a setter of the
+ * primitive type, so the primitive method of the field type writes it without boxing. The primitive methods of the
+ * other types box the value, as the default methods.
+ */
+final class PrimitiveFieldWriter implements FieldWriter {
+
+    private static final Logger LOGGER = Logger.getLogger(PrimitiveFieldWriter.class.getName());
+
+    private static final Set<Class<?>> TYPES = Set.of(int.class, long.class, double.class, boolean.class);
+
+    private final MethodHandle setter;
+
+    private final MethodHandle primitive;
+
+    private final Class<?> type;
+
+    PrimitiveFieldWriter(MethodHandle setter, MethodHandle primitive, Class<?> type) {
+        this.setter = setter;
+        this.primitive = primitive;
+        this.type = type;
+    }
+
+    @Override
+    public void write(Object bean, Object value) {
+        try {
+            setter.invokeExact(bean, FieldAccessStrategy.widen(type, value));
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", exception);
+        }
+    }
+
+    @Override
+    public void writeInt(Object bean, int value) {
+        if (int.class != type) {
+            write(bean, value);
+            return;
+        }
+        try {
+            primitive.invokeExact(bean, value);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", exception);
+        }
+    }
+
+    @Override
+    public void writeLong(Object bean, long value) {
+        if (long.class != type) {
+            write(bean, value);
+            return;
+        }
+        try {
+            primitive.invokeExact(bean, value);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", exception);
+        }
+    }
+
+    @Override
+    public void writeDouble(Object bean, double value) {
+        if (double.class != type) {
+            write(bean, value);
+            return;
+        }
+        try {
+            primitive.invokeExact(bean, value);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", exception);
+        }
+    }
+
+    @Override
+    public void writeBoolean(Object bean, boolean value) {
+        if (boolean.class != type) {
+            write(bean, value);
+            return;
+        }
+        try {
+            primitive.invokeExact(bean, value);
+        } catch (Error error) {
+            throw error;
+        } catch (Throwable exception) {
+            LOGGER.log(Level.FINEST, "There is an issue with setting value from this field.", exception);
+        }
+    }
+
+    /**
+     * Checks if there is a primitive method to the field type.
+     */
+    static boolean supports(Class<?> type) {
+        return TYPES.contains(type);
+    }
+}
@@ -43,10 +43,16 @@ public final class ReflectionClassConverter implements ClassConverter {
 
     private final Reflections reflections;
     private final ConstructorMetadataBuilder constructorMetadataBuilder;
+    private final FieldAccessStrategy accessStrategy;
 
     public ReflectionClassConverter() {
+        this(FieldAccessStrategy.current());
+    }
+
+    ReflectionClassConverter(FieldAccessStrategy accessStrategy) {
         this.reflections = new Reflections();
         this.constructorMetadataBuilder = new ConstructorMetadataBuilder(reflections);
+        this.accessStrategy = accessStrategy;
     }
 
 
@@ -70,7 +76,7 @@ public final class ReflectionClassConverter implements ClassConverter {
 
 
         Constructor<?> constructor = Reflections.getConstructor(entity);
-        InstanceSupplier instanceSupplier = () -> Reflections.newInstance(constructor);
+        InstanceSupplier instanceSupplier = accessStrategy.instanceSupplier(constructor);
         InheritanceMetadata inheritance = reflections.getInheritance(entity).orElse(null);
         boolean hasInheritanceAnnotation = reflections.hasInheritanceAnnotation(entity);
 
@@ -178,8 +184,8 @@ public final class ReflectionClassConverter implements ClassConverter {
         String udt = reflections.getUDTName(field);
         FieldMappingBuilder builder = new FieldMappingBuilder().name(columnName)
                 .field(field).type(mappingType).id(id).udt(udt)
-                .reader(bean -> reflections.getValue(bean, field))
-                .writer((bean, value) -> reflections.setValue(bean, field, value));
+                .reader(accessStrategy.reader(field))
+                .writer(accessStrategy.writer(field));
 
         if (nonNull(convert)) {
             builder.converter(convert.value());
@@ -28,6 +28,7 @@ import org.eclipse.jnosql.mapping.reflection.entities.PersonRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Path;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -104,4 +105,17 @@ class ClassGraphClassScannerTest {
         assertThat(repositories).hasSize(1)
                 .contains(Library.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldSkipTheClasspathElementsOfTheIndexes() {
+        Path indexed = Path.of("target", "indexed-classes").toAbsolutePath();
+        Set<Path> locations = Set.of(indexed);
+
+        assertThat(ClassGraphClassScanner.isIndexed(indexed.toString(), locations)).isTrue();
+        assertThat(ClassGraphClassScanner.isIndexed(indexed.resolve("..").resolve("indexed-classes").toString(),
+                locations)).isTrue();
+        assertThat(ClassGraphClassScanner.isIndexed(Path.of("target", "classes").toAbsolutePath().toString(),
+                locations)).isFalse();
+        assertThat(ClassGraphClassScanner.isIndexed(indexed.toString(), Set.of())).isFalse();
+    }
+}
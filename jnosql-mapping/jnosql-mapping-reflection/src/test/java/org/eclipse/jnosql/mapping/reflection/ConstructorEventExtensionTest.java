@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.enterprise.inject.spi.BeforeBeanDiscovery;
+import jakarta.enterprise.inject.spi.BeforeShutdown;
+import jakarta.enterprise.inject.spi.ObserverMethod;
+import jakarta.enterprise.inject.spi.ProcessObserverMethod;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.lang.reflect.Type;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConstructorEventExtensionTest {
+
+    @Test
+    void shouldTrackTheObserversOfTheContainers() {
+        var withoutObserver = new ConstructorEventExtension();
+        var withObserver = new ConstructorEventExtension();
+
+        withoutObserver.beforeBeanDiscovery(Mockito.mock(BeforeBeanDiscovery.class));
+        boolean afterBoot = ConstructorEventExtension.hasNoObserver();
+        withObserver.beforeBeanDiscovery(Mockito.mock(BeforeBeanDiscovery.class));
+        withoutObserver.observer(processObserverMethod(String.class));
+        boolean afterOtherObserver = ConstructorEventExtension.hasNoObserver();
+        withObserver.observer(processObserverMethod(ConstructorEvent.class));
+        withObserver.observer(processObserverMethod(Object.class));
+        boolean afterObserver = ConstructorEventExtension.hasNoObserver();
+        withObserver.beforeShutdown(Mockito.mock(BeforeShutdown.class));
+        boolean afterShutdown = ConstructorEventExtension.hasNoObserver();
+        withoutObserver.beforeShutdown(Mockito.mock(BeforeShutdown.class));
+
+        assertThat(afterBoot).isTrue();
+        assertThat(afterOtherObserver).isTrue();
+        assertThat(afterObserver).isFalse();
+        assertThat(afterShutdown).isTrue();
+        assertThat(ConstructorEventExtension.hasNoObserver()).isFalse();
+    }
+
+    @Test
+    void shouldTakeTheObserverOfASupertype() {
+        var extension = new ConstructorEventExtension();
+        extension.beforeBeanDiscovery(Mockito.mock(BeforeBeanDiscovery.class));
+        extension.observer(processObserverMethod(Object.class));
+        boolean observed = !ConstructorEventExtension.hasNoObserver();
+        extension.beforeShutdown(Mockito.mock(BeforeShutdown.class));
+
+        assertThat(observed).isTrue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ProcessObserverMethod<?, ?> processObserverMethod(Type observedType) {
+        ProcessObserverMethod<Object, Object> event = Mockito.mock(ProcessObserverMethod.class);
+        ObserverMethod<Object> observerMethod = Mockito.mock(ObserverMethod.class);
+        Mockito.when(observerMethod.getObservedType()).thenReturn(observedType);
+        Mockito.when(event.getObserverMethod()).thenReturn(observerMethod);
+        return event;
+    }
+}
@@ -36,6 +36,7 @@ import org.junit.jupiter.api.Test;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @EnableAutoWeld
 @AddPackages(value = Convert.class)
@@ -133,6 +134,33 @@ class DefaultEntitiesMetadataTest {
         Assertions.assertNotNull(group.get("Project"));
     }
 
+    @Test
+    void shouldReturnSameGroupOnEachCall() {
+        Map<String, InheritanceMetadata> group = this.mappings
+                .findByParentGroupByDiscriminatorValue(Notification.class);
+
+        assertThat(this.mappings.findByParentGroupByDiscriminatorValue(Notification.class)).isSameAs(group);
+        assertThatThrownBy(() -> group.remove("SMS")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void shouldReturnEmptyGroupWhenTypeIsNotParent() {
+        assertThat(this.mappings.findByParentGroupByDiscriminatorValue(Person.class)).isEmpty();
+        assertThat(this.mappings.findByParentGroupByDiscriminatorValue(SmsNotification.class)).isEmpty();
+    }
+
+    @Test
+    void shouldAddSubtypeLoadedAfterInit() {
+        DefaultEntitiesMetadata metadata = new DefaultEntitiesMetadata();
+        assertThat(metadata.findByParentGroupByDiscriminatorValue(Notification.class)).isEmpty();
+
+        metadata.get(SmsNotification.class);
+        metadata.get(EmailNotification.class);
+
+        assertThat(metadata.findByParentGroupByDiscriminatorValue(Notification.class))
+                .containsOnlyKeys("SMS", "Email");
+    }
+
     @Test
     void shouldLoadUsingGet(){
         this.mappings.load(Movie.class);
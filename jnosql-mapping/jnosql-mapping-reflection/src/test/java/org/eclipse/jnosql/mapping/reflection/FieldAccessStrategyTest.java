@@ -0,0 +1,167 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.communication.Value;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.reflection.entities.Person;
+import org.eclipse.jnosql.mapping.reflection.entities.constructor.Tablet;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FieldAccessStrategyTest {
+
+    @ParameterizedTest
+    @EnumSource(FieldAccessStrategy.class)
+    void shouldReadAndWriteFields(FieldAccessStrategy strategy) {
+        EntityMetadata metadata = new ReflectionClassConverter(strategy).apply(Person.class);
+        Person person = metadata.newInstance();
+
+        FieldMetadata id = metadata.fieldMapping("id").orElseThrow();
+        FieldMetadata name = metadata.fieldMapping("name").orElseThrow();
+        FieldMetadata age = metadata.fieldMapping("age").orElseThrow();
+        FieldMetadata phones = metadata.fieldMapping("phones").orElseThrow();
+        id.write(person, 10L);
+        name.write(person, "Ada");
+        age.write(person, 30);
+        phones.write(person, List.of("123"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getId()).isEqualTo(10L);
+            soft.assertThat(person.getName()).isEqualTo("Ada");
+            soft.assertThat(person.getAge()).isEqualTo(30);
+            soft.assertThat(person.getPhones()).containsExactly("123");
+            soft.assertThat(id.read(person)).isEqualTo(10L);
+            soft.assertThat(name.read(person)).isEqualTo("Ada");
+            soft.assertThat(age.read(person)).isEqualTo(30);
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(FieldAccessStrategy.class)
+    void shouldIgnoreInvalidValues(FieldAccessStrategy strategy) {
+        EntityMetadata metadata = new ReflectionClassConverter(strategy).apply(Person.class);
+        Person person = metadata.newInstance();
+        FieldMetadata age = metadata.fieldMapping("age").orElseThrow();
+
+        age.write(person, "not a number");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getAge()).isZero();
+            soft.assertThat(age.read("not a person")).isNull();
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(FieldAccessStrategy.class)
+    void shouldWriteValues(FieldAccessStrategy strategy) {
+        EntityMetadata metadata = new ReflectionClassConverter(strategy).apply(Person.class);
+        Person person = metadata.newInstance();
+
+        metadata.fieldMapping("id").orElseThrow().writeValue(person, Value.ofLong(10L));
+        metadata.fieldMapping("age").orElseThrow().writeValue(person, Value.of("30"));
+        metadata.fieldMapping("name").orElseThrow().writeValue(person, Value.of("Ada"));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getId()).isEqualTo(10L);
+            soft.assertThat(person.getAge()).isEqualTo(30);
+            soft.assertThat(person.getName()).isEqualTo("Ada");
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(FieldAccessStrategy.class)
+    void shouldWidenNumbersToPrimitiveFields(FieldAccessStrategy strategy) {
+        EntityMetadata metadata = new ReflectionClassConverter(strategy).apply(Person.class);
+        Person person = metadata.newInstance();
+        FieldMetadata id = metadata.fieldMapping("id").orElseThrow();
+        FieldMetadata age = metadata.fieldMapping("age").orElseThrow();
+
+        id.write(person, 10);
+        age.write(person, (short) 30);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(person.getId()).isEqualTo(10L);
+            soft.assertThat(person.getAge()).isEqualTo(30);
+        });
+    }
+
+    @Test
+    void shouldWidenLikeFieldSet() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(FieldAccessStrategy.widen(long.class, 10)).isEqualTo(10L);
+            soft.assertThat(FieldAccessStrategy.widen(double.class, 1.5F)).isEqualTo(1.5D);
+            soft.assertThat(FieldAccessStrategy.widen(int.class, 'a')).isEqualTo(97);
+            soft.assertThat(FieldAccessStrategy.widen(int.class, 10L)).isEqualTo(10L);
+            soft.assertThat(FieldAccessStrategy.widen(short.class, 'a')).isEqualTo('a');
+            soft.assertThat(FieldAccessStrategy.widen(Long.class, 10)).isEqualTo(10);
+            soft.assertThat(FieldAccessStrategy.widen(long.class, null)).isNull();
+        });
+    }
+
+    @Test
+    void shouldWritePrimitivesWithoutBoxing() throws NoSuchFieldException {
+        Field field = Person.class.getDeclaredField("age");
+        field.setAccessible(true);
+        FieldWriter writer = FieldAccessStrategy.METHOD_HANDLE.writer(field);
+        Person person = new ReflectionClassConverter(FieldAccessStrategy.METHOD_HANDLE).apply(Person.class)
+                .newInstance();
+
+        writer.writeInt(person, 30);
+
+        assertThat(writer).isInstanceOf(PrimitiveFieldWriter.class);
+        assertThat(person.getAge()).isEqualTo(30);
+    }
+
+    @Test
+    void shouldFallbackToReflectionOnRecord() {
+        EntityMetadata metadata = new ReflectionClassConverter(FieldAccessStrategy.METHOD_HANDLE).apply(Tablet.class);
+        var tablet = new Tablet("id", "model", "Ada");
+        FieldMetadata owner = metadata.fieldMapping("owner").orElseThrow();
+
+        owner.write(tablet, "Grace");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(owner.read(tablet)).isEqualTo("Ada");
+            soft.assertThat(tablet.owner()).isEqualTo("Ada");
+        });
+    }
+
+    @Test
+    void shouldReturnStrategyFromName() {
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(FieldAccessStrategy.of("reflection")).isEqualTo(FieldAccessStrategy.REFLECTION);
+            soft.assertThat(FieldAccessStrategy.of(" method-handle ")).isEqualTo(FieldAccessStrategy.METHOD_HANDLE);
+        });
+        assertThatThrownBy(() -> FieldAccessStrategy.of("bytecode"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> FieldAccessStrategy.of(null))
+                .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void shouldUseMethodHandleByDefault() {
+        assertThat(FieldAccessStrategy.current()).isEqualTo(FieldAccessStrategy.METHOD_HANDLE);
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.reflection;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+import jakarta.inject.Inject;
+import jakarta.nosql.Convert;
+import org.assertj.core.api.SoftAssertions;
+import org.eclipse.jnosql.mapping.metadata.ClassConverter;
+import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
+import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
+import org.eclipse.jnosql.mapping.reflection.entities.constructor.BookUser;
+import org.jboss.weld.junit5.auto.AddBeanClasses;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@EnableAutoWeld
+@AddPackages(value = Convert.class)
+@AddPackages(value = ReflectionGroupEntityMetadata.class)
+@AddBeanClasses(MethodHandleConstructorBuilderSupplierTest.ConstructorObserver.class)
+class MethodHandleConstructorBuilderSupplierTest {
+
+    @Inject
+    private ConstructorObserver observer;
+
+    private ConstructorMetadata constructor;
+
+    private MethodHandleConstructorBuilderSupplier supplier;
+
+    @BeforeEach
+    void setUp() {
+        ClassConverter converter = new ReflectionClassConverter();
+        this.constructor = converter.apply(BookUser.class).constructor();
+        this.supplier = new MethodHandleConstructorBuilderSupplier(FieldAccessStrategy.METHOD_HANDLE);
+        this.observer.clear();
+    }
+
+    @Test
+    void shouldCreateMethodHandleBuilder() {
+        assertThat(supplier.apply(constructor)).isInstanceOf(MethodHandleConstructorBuilder.class);
+    }
+
+    @Test
+    void shouldUseReflectionWhenStrategyIsReflection() {
+        var reflection = new MethodHandleConstructorBuilderSupplier(FieldAccessStrategy.REFLECTION);
+        assertThat(reflection.apply(constructor)).isInstanceOf(DefaultConstructorBuilder.class);
+    }
+
+    @Test
+    void shouldUseReflectionWhenMetadataIsNotDefault() {
+        ConstructorMetadata metadata = Mockito.mock(ConstructorMetadata.class);
+        assertThat(supplier.apply(metadata)).isInstanceOf(DefaultConstructorBuilder.class);
+    }
+
+    @Test
+    void shouldCreateEmpty() {
+        ConstructorBuilder builder = supplier.apply(constructor);
+        builder.addEmptyParameter();
+        builder.addEmptyParameter();
+        builder.addEmptyParameter();
+        builder.addEmptyParameter();
+        BookUser user = builder.build();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(user.getName()).isNull();
+            soft.assertThat(user.getNickname()).isNull();
+            soft.assertThat(user.getBooks()).isNull();
+        });
+    }
+
+    @Test
+    void shouldCreateWithValues() {
+        ConstructorBuilder builder = supplier.apply(constructor);
+        builder.add("id");
+        builder.add("name");
+        builder.addEmptyParameter();
+        builder.addEmptyParameter();
+
+        BookUser user = builder.build();
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(user.getNickname()).isEqualTo("id");
+            soft.assertThat(user.getName()).isEqualTo("name");
+            soft.assertThat(user.getBooks()).isNull();
+        });
+    }
+
+    @Test
+    void shouldCreateWhenParametersAreMissing() {
+        ConstructorBuilder builder = supplier.apply(constructor);
+        builder.add("id");
+
+        BookUser user = builder.build();
+
+        assertThat(user.getNickname()).isEqualTo("id");
+        assertThat(user.getName()).isNull();
+    }
+
+    @Test
+    void shouldThrowWhenThereAreMoreValuesThanParameters() {
+        ConstructorBuilder builder = supplier.apply(constructor);
+        builder.add("id");
+        builder.add("name");
+        builder.addEmptyParameter();
+        builder.addEmptyParameter();
+
+        assertThatThrownBy(() -> builder.add("other")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldFireConstructorEvent() {
+        ConstructorBuilder builder = supplier.apply(constructor);
+        builder.add("id");
+        builder.add("name");
+        builder.addEmptyParameter();
+        builder.addEmptyParameter();
+        builder.build();
+
+        assertThat(observer.events()).singleElement().satisfies(event -> {
+            assertThat(event.constructor()).isEqualTo(((DefaultConstructorMetadata) constructor).constructor());
+            assertThat(event.params()).containsExactly("id", "name", null, null);
+        });
+    }
+
+    @Test
+    void shouldParameters() {
+        ConstructorBuilder builder = supplier.apply(constructor);
+        assertThat(builder.parameters()).hasSize(4);
+    }
+
+    @Test
+    void shouldEqualsHashCode() {
+        ConstructorBuilder builder = supplier.apply(constructor);
+        ConstructorBuilder other = supplier.apply(constructor);
+        assertThat(builder).isEqualTo(other);
+        assertThat(builder).hasSameHashCodeAs(other);
+        assertThat(builder.toString()).isNotBlank();
+    }
+
+    @Test
+    void shouldReuseTheHandleOfTheConstructor() {
+        var first = (MethodHandleConstructorBuilder) supplier.apply(constructor);
+        var second = (MethodHandleConstructorBuilder) new MethodHandleConstructorBuilderSupplier(
+                FieldAccessStrategy.METHOD_HANDLE).apply(constructor);
+        assertThat(second.creator()).isSameAs(first.creator());
+    }
+
+    @ApplicationScoped
+    static class ConstructorObserver {
+
+        private final List<ConstructorEvent> events = new ArrayList<>();
+
+        void observe(@Observes ConstructorEvent event) {
+            events.add(event);
+        }
+
+        List<ConstructorEvent> events() {
+            return events;
+        }
+
+        void clear() {
+            events.clear();
+        }
+    }
+}
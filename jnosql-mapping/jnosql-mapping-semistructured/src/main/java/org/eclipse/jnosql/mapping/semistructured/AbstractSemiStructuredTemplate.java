@@ -24,13 +24,21 @@ import jakarta.nosql.QueryMapper;
 
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DatabaseCapability;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.QueryParser;
+import org.eclipse.jnosql.communication.semistructured.QueryPlanCache;
+import org.eclipse.jnosql.communication.semistructured.QueryType;
+import org.eclipse.jnosql.communication.semistructured.ReactiveDatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
+import org.eclipse.jnosql.mapping.core.AsyncExecutor;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
 import org.eclipse.jnosql.mapping.core.config.MicroProfileSettings;
+import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
@@ -38,19 +46,22 @@ import org.eclipse.jnosql.mapping.core.util.ConverterUtil;
 import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static java.util.Objects.requireNonNull;
+import static org.eclipse.jnosql.communication.Configurations.BATCH_SIZE;
 import static org.eclipse.jnosql.communication.Configurations.CURSOR_PAGINATION_MULTIPLE_SORTING;
+import static org.eclipse.jnosql.communication.Configurations.MATERIALIZATION_PARALLELISM;
+import static org.eclipse.jnosql.communication.Configurations.QUERY_CACHE_SIZE;
 
 /**
  * An abstract implementation of the {@link SemiStructuredTemplate} interface providing
@@ -63,12 +74,14 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
 
     private static final Logger LOGGER = Logger.getLogger(AbstractSemiStructuredTemplate.class.getName());
 
-    private static final QueryParser PARSER = new QueryParser();
+    private static final int DEFAULT_BATCH_SIZE = 100;
 
     private final UnaryOperator<CommunicationEntity> insert = e -> manager().insert(e);
 
     private final UnaryOperator<CommunicationEntity> update = e -> manager().update(e);
 
+    private final EntityCache entityCache = EntityCache.of();
+
     /**
      * Retrieves the converter used to convert between entity objects and communication entities.
      *
@@ -128,30 +141,77 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> Iterable<T> update(Iterable<T> entities) {
         requireNonNull(entities, "entity is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::update).collect(Collectors.toList());
+        return persistAll(entities, e -> manager().update(e));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities) {
         requireNonNull(entities, "entities is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(this::insert).collect(Collectors.toList());
+        return persistAll(entities, e -> manager().insert(e));
     }
 
     @Override
     public <T> Iterable<T> insert(Iterable<T> entities, Duration ttl) {
         requireNonNull(entities, "entities is required");
         requireNonNull(ttl, "ttl is required");
-        return StreamSupport.stream(entities.spliterator(), false)
-                .map(e -> insert(e, ttl))
-                .collect(Collectors.toList());
+        return persistAll(entities, e -> manager().insert(e, ttl));
+    }
+
+    /**
+     * The maximum number of entities sent to the {@link DatabaseManager} in one call when several entities are
+     * inserted or updated. It reads the {@link org.eclipse.jnosql.communication.Configurations#BATCH_SIZE}
+     * setting, a value lower than one is ignored.
+     *
+     * @return the batch size
+     */
+    protected int batchSize() {
+        return BatchSizeHolder.SIZE;
+    }
+
+    /**
+     * The maximum number of batches of {@link #batchSize()} rows converted to entities at the same time by the
+     * queries, on the {@link #materializationExecutor()}. Zero, the default, converts each row when it is read. It
+     * reads the {@link org.eclipse.jnosql.communication.Configurations#MATERIALIZATION_PARALLELISM} setting.
+     *
+     * @return the parallelism
+     */
+    protected int materializationParallelism() {
+        return MaterializationHolder.PARALLELISM;
+    }
+
+    /**
+     * The executor that converts the rows of the queries to entities when the {@link #materializationParallelism()}
+     * is positive. By default, the {@link AsyncExecutor}, bounded by the
+     * {@link org.eclipse.jnosql.communication.Configurations#ASYNC_THREADS} setting; the thread that reads the
+     * result also converts the batches no thread has started, so it does not wait on a busy executor.
+     *
+     * @return the executor
+     */
+    protected Executor materializationExecutor() {
+        return AsyncExecutor.INSTANCE;
     }
 
     @Override
     public void delete(DeleteQuery query) {
         requireNonNull(query, "query is required");
         manager().delete(query);
+        evictAll(query.name());
+    }
+
+    /**
+     * Updates the entities that match the query with its new values at the {@link DatabaseManager}, without
+     * reading them into entities, and evicts the entities of its type from the {@link #entityCache()}.
+     *
+     * @param query the query to update the entities
+     * @return the number of updated entities
+     * @throws NullPointerException when query is null
+     * @see DatabaseManager#updateCount(UpdateQuery)
+     */
+    public long updateCount(UpdateQuery query) {
+        requireNonNull(query, "query is required");
+        long updated = manager().updateCount(query);
+        evictAll(query.name());
+        return updated;
     }
 
     @Override
@@ -194,6 +254,11 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         SelectQuery query = SelectQuery.select().from(entityMetadata.name())
                 .where(idField.name()).eq(value).build();
 
+        if (entityCache().isCacheable(type)) {
+            return entityCache().get(type, value, () -> manager().singleResult(query))
+                    .<T>map(converter()::toEntity)
+                    .map(toUnary(eventManager()::firePostEntity));
+        }
         return singleResult(query);
     }
 
@@ -210,6 +275,7 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         DeleteQuery query = DeleteQuery.delete().from(entityMetadata.name())
                 .where(idField.name()).eq(value).build();
         manager().delete(query);
+        cacheableTypes(entityMetadata).forEach(t -> entityCache().evict(t, value));
     }
 
 
@@ -217,7 +283,9 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     public <T> Stream<T> query(String query) {
         requireNonNull(query, "query is required");
         var observer = observer();
-        return PARSER.query(query, null, manager(), observer).map(mappers(observer));
+        Stream<CommunicationEntity> entities = QueryParserHolder.PARSER.query(query, null, manager(), observer);
+        invalidation(query).run();
+        return entities.map(mappers(observer));
     }
 
     @Override
@@ -225,19 +293,68 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
         requireNonNull(query, "query is required");
         requireNonNull(entity, "entity is required");
         var observer = observer();
-        return PARSER.query(query, null, manager(), observer).map(mappers(observer));
+        Stream<CommunicationEntity> entities = QueryParserHolder.PARSER.query(query, null, manager(), observer);
+        invalidation(query).run();
+        return entities.map(mappers(observer));
     }
 
     @Override
     public org.eclipse.jnosql.mapping.PreparedStatement prepare(String query) {
         var observer = observer();
-        return new PreparedStatement(PARSER.prepare(query, null, manager(), observer), converter(), observer, entities());
+        return new PreparedStatement(QueryParserHolder.PARSER.prepare(query, null, manager(), observer), converter(), observer,
+                entities(), invalidation(query));
     }
 
     @Override
     public org.eclipse.jnosql.mapping.PreparedStatement prepare(String query, String entity) {
         var observer = observer();
-        return new PreparedStatement(PARSER.prepare(query, entity, manager(), observer), converter(), observer, entities());
+        return new PreparedStatement(QueryParserHolder.PARSER.prepare(query, entity, manager(), observer), converter(),
+                observer, entities(), invalidation(query));
+    }
+
+    /**
+     * Returns the cache of parsed queries used by {@link #query(String)} and {@link #prepare(String)},
+     * its maximum size is defined by the {@link org.eclipse.jnosql.communication.Configurations#QUERY_CACHE_SIZE}
+     * property.
+     *
+     * @return the {@link QueryPlanCache} instance, it allows to check the hits, misses and evictions
+     */
+    public QueryPlanCache queryCache() {
+        return QueryParserHolder.PARSER.cache();
+    }
+
+    /**
+     * Returns the cache of the entities read by id with {@link #find(Class, Object)}, enabled for the entities
+     * annotated with {@link org.eclipse.jnosql.mapping.Cacheable} or listed at the
+     * {@link org.eclipse.jnosql.communication.Configurations#ENTITY_CACHE_ENTITIES} property. The writes through
+     * this template evict the entities they change; a delete or an update, by query or by query text, evicts all the
+     * entities of its type.
+     * A template overrides it to use another {@link EntityCache}.
+     *
+     * @return the {@link EntityCache} of this template, it allows to check the hits, misses and evictions
+     */
+    public EntityCache entityCache() {
+        return entityCache;
+    }
+
+    /**
+     * Returns the non-blocking view of this template, which shares its converter and events. The operations run
+     * on the {@link #reactiveManager()}.
+     *
+     * @return a {@link ReactiveSemiStructuredTemplate} over this template
+     */
+    public ReactiveSemiStructuredTemplate reactive() {
+        return new DefaultReactiveSemiStructuredTemplate(reactiveManager(), this);
+    }
+
+    /**
+     * The {@link ReactiveDatabaseManager} of {@link #reactive()}. By default, it adapts the {@link #manager()}
+     * with {@link ReactiveDatabaseManager#of(DatabaseManager)}; a driver with a non-blocking client overrides it.
+     *
+     * @return the reactive manager
+     */
+    protected ReactiveDatabaseManager reactiveManager() {
+        return ReactiveDatabaseManager.of(manager());
     }
 
     @Override
@@ -281,13 +398,31 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     @Override
     public <T> long count(Class<T> type) {
         requireNonNull(type, "entity class is required");
-        return manager().count(findAllQuery(type));
+        EntityMetadata metadata = entities().get(type);
+        return manager().count(findAllQuery(metadata, countColumns(metadata)));
+    }
+
+    /**
+     * When the manager does not count in the database, the default count streams the entities, thus the
+     * query only selects the id to reduce what is read.
+     */
+    private String[] countColumns(EntityMetadata metadata) {
+        if (manager().supports(DatabaseCapability.COUNT)) {
+            return new String[0];
+        }
+        return metadata.id().map(id -> new String[]{id.name()}).orElseGet(() -> new String[0]);
     }
 
     private <T> Stream<T> executeQuery(SelectQuery query) {
         requireNonNull(query, "query is required");
         Stream<CommunicationEntity> entities = manager().select(query);
         Function<CommunicationEntity, T> function = e -> converter().toEntity(e);
+        int parallelism = materializationParallelism();
+        if (parallelism > 0) {
+            return BatchedMapper.map(entities, function, parallelism, batchSize(), !query.sorts().isEmpty(),
+                            materializationExecutor())
+                    .peek(eventManager()::firePostEntity);
+        }
         return entities.map(function).peek(eventManager()::firePostEntity);
     }
 
@@ -321,10 +456,12 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 manager().delete(DeleteQuery.delete().from(metadata.name())
                         .where(inheritanceMetadata.discriminatorColumn())
                         .eq(inheritanceMetadata.discriminatorValue()).build());
+                cacheableTypes(metadata).forEach(entityCache()::evictAll);
                 return;
             }
         }
         manager().delete(DeleteQuery.delete().from(metadata.name()).build());
+        cacheableTypes(metadata).forEach(entityCache()::evictAll);
     }
 
     @Override
@@ -364,11 +501,119 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
                 .map(converter()::toCommunication)
                 .map(persistAction)
                 .map(t -> converter().toEntity(entity, t))
+                .map(toUnary(this::evict))
                 .map(toUnary(eventManager()::firePostEntity))
                 .findFirst()
                 .orElseThrow();
     }
 
+    /**
+     * Persists the entities in chunks of {@link #batchSize()}: each chunk is converted and sent in one call,
+     * and the returned entities are mapped back by position. The pre- and post-persist events fire per entity,
+     * then {@link org.eclipse.jnosql.mapping.EntitiesPostPersist} fires once with all the entities.
+     * When the database returns fewer entities than it received, for instance on an update that does not find
+     * some of them, the remaining entities are returned as they were sent and a warning is logged.
+     *
+     * <p>The iterable {@code insert} and {@code update} go through this method and not through the single-entity
+     * {@link #insert(Object)} and {@link #update(Object)}, thus a subclass that overrides those must also
+     * override the iterable ones to apply the same behavior.</p>
+     */
+    protected <T> Iterable<T> persistAll(Iterable<T> entities,
+                                         UnaryOperator<Iterable<CommunicationEntity>> persistAction) {
+        int batchSize = Math.max(1, batchSize());
+        List<T> values = new ArrayList<>();
+        entities.forEach(entity -> values.add(requireNonNull(entity, "entity is required")));
+        List<T> result = new ArrayList<>(values.size());
+        for (int start = 0; start < values.size(); start += batchSize) {
+            List<T> chunk = values.subList(start, Math.min(start + batchSize, values.size()));
+            chunk.forEach(eventManager()::firePreEntity);
+            List<CommunicationEntity> communications = chunk.stream().map(converter()::toCommunication).toList();
+            Iterator<CommunicationEntity> persisted = persistAction.apply(communications).iterator();
+            int returned = 0;
+            for (T entity : chunk) {
+                T value = entity;
+                if (persisted.hasNext()) {
+                    value = converter().toEntity(entity, persisted.next());
+                    returned++;
+                }
+                evict(value);
+                eventManager().firePostEntity(value);
+                result.add(value);
+            }
+            if (returned < chunk.size()) {
+                int sent = chunk.size();
+                int received = returned;
+                LOGGER.warning(() -> "The database returned " + received + " of the " + sent + " entities sent to it,"
+                        + " the other ones are returned as they were sent");
+            }
+        }
+        eventManager().firePostEntities(result);
+        return result;
+    }
+
+    /**
+     * Evicts the written entity from the cache, for its type and the types of its hierarchy.
+     */
+    <T> void evict(T entity) {
+        EntityMetadata metadata = entities().get(entity.getClass());
+        List<Class<?>> types = cacheableTypes(metadata);
+        if (types.isEmpty()) {
+            return;
+        }
+        metadata.id().ifPresent(idField -> {
+            Object id = idField.read(entity);
+            if (id != null) {
+                Object value = ConverterUtil.getValue(id, metadata, idField.fieldName(), converters());
+                types.forEach(t -> entityCache().evict(t, value));
+            }
+        });
+    }
+
+    /**
+     * Evicts all the entities of the entity name, or the whole cache when the name is not a known entity.
+     */
+    void evictAll(String entity) {
+        try {
+            cacheableTypes(entities().findByName(entity)).forEach(entityCache()::evictAll);
+        } catch (ClassInformationNotFoundException exception) {
+            entityCache().clear();
+        }
+    }
+
+    /**
+     * A delete or an update by query text evicts all the entities of the entity it changes.
+     */
+    private Runnable invalidation(String query) {
+        if (QueryType.parse(query).isNotSelect()) {
+            MapperObserver observer = observer();
+            return () -> QueryParserHolder.PARSER.entity(query, observer).ifPresent(this::evictAll);
+        }
+        return () -> { };
+    }
+
+    /**
+     * The cacheable types whose entities may be changed by a write of the entity: its type and, when it belongs to
+     * an inheritance hierarchy, the parent and the other subtypes, since the same id is read through any of them.
+     */
+    private List<Class<?>> cacheableTypes(EntityMetadata metadata) {
+        EntityCache cache = entityCache();
+        Optional<InheritanceMetadata> inheritance = metadata.inheritance();
+        if (inheritance.isEmpty()) {
+            return cache.isCacheable(metadata.type()) ? List.of(metadata.type()) : List.of();
+        }
+        Class<?> parent = inheritance.get().parent();
+        List<Class<?>> types = new ArrayList<>();
+        if (cache.isCacheable(parent)) {
+            types.add(parent);
+        }
+        for (InheritanceMetadata subtype : entities().findByParentGroupByDiscriminatorValue(parent).values()) {
+            if (!subtype.entity().equals(parent) && cache.isCacheable(subtype.entity())) {
+                types.add(subtype.entity());
+            }
+        }
+        return types;
+    }
+
     private <T> UnaryOperator<T> toUnary(Consumer<T> consumer) {
         return t -> {
             consumer.accept(t);
@@ -377,16 +622,18 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     }
 
     private <T> SelectQuery findAllQuery(Class<T> type){
-        EntityMetadata metadata = entities().get(type);
+        return findAllQuery(entities().get(type));
+    }
 
+    private SelectQuery findAllQuery(EntityMetadata metadata, String... columns){
         if(metadata.inheritance().isPresent()){
             InheritanceMetadata inheritanceMetadata = metadata.inheritance().orElseThrow();
             if(!inheritanceMetadata.parent().equals(metadata.type())){
-                return SelectQuery.select().from(metadata.name())
+                return SelectQuery.select(columns).from(metadata.name())
                         .where(inheritanceMetadata.discriminatorColumn()).eq(inheritanceMetadata.discriminatorValue()).build();
             }
         }
-        return SelectQuery.select().from(metadata.name()).build();
+        return SelectQuery.select(columns).from(metadata.name()).build();
     }
 
     private MapperObserver observer() {
@@ -403,4 +650,22 @@ public abstract class AbstractSemiStructuredTemplate implements SemiStructuredTe
     private <T> T fieldMapper(MapperObserver observer) {
         return (T) SelectFieldMapper.INSTANCE.<T>map(observer, entities());
     }
+
+    private static final class BatchSizeHolder {
+
+        private static final int SIZE = MicroProfileSettings.INSTANCE.get(BATCH_SIZE, Integer.class)
+                .orElse(DEFAULT_BATCH_SIZE);
+    }
+
+    private static final class MaterializationHolder {
+
+        private static final int PARALLELISM = MicroProfileSettings.INSTANCE
+                .get(MATERIALIZATION_PARALLELISM, Integer.class).orElse(0);
+    }
+
+    private static final class QueryParserHolder {
+
+        private static final QueryParser PARSER = new QueryParser(QueryPlanCache.of(
+                MicroProfileSettings.INSTANCE.get(QUERY_CACHE_SIZE, Integer.class).orElse(QueryPlanCache.DEFAULT_SIZE)));
+    }
 }
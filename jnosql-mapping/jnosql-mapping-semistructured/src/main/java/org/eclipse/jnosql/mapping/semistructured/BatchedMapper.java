@@ -0,0 +1,226 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Applies a function to the elements of a stream in batches, on a pool of threads, for the functions that cost
+ * more than reading the source, such as the conversion of the rows of a large result to entities.
+ *
+ * <p>The source is read on the thread that consumes the result, so a driver cursor is never shared between threads,
+ * and only when the consumer asks for more elements: at most {@code parallelism} batches are converted ahead of it.
+ * When the result is ordered, the batches are returned in the order of the source; otherwise, each batch is returned
+ * as soon as it is converted.</p>
+ *
+ * <p>A batch is converted by the first thread that claims it: a thread of the executor or the consumer itself,
+ * which converts a batch that no thread has started instead of waiting for it. Thus, the consumer keeps progressing
+ * on a bounded executor whose threads are all busy, even when the consumer is one of them.</p>
+ *
+ * @param <S> the element type of the source
+ * @param <T> the element type of the result
+ */
+final class BatchedMapper<S, T> implements Iterator<T> {
+
+    private final Iterator<S> source;
+
+    private final Function<S, T> mapper;
+
+    private final int parallelism;
+
+    private final int batchSize;
+
+    private final boolean ordered;
+
+    private final Executor executor;
+
+    private final Deque<Batch> pending = new ArrayDeque<>();
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private BatchedMapper(Iterator<S> source, Function<S, T> mapper, int parallelism, int batchSize, boolean ordered,
+                          Executor executor) {
+        this.source = source;
+        this.mapper = mapper;
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.ordered = ordered;
+        this.executor = executor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            submit();
+            if (pending.isEmpty()) {
+                return false;
+            }
+            current = join(ordered ? claim(pending.poll()) : completed()).iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more elements");
+        }
+        return current.next();
+    }
+
+    private void submit() {
+        while (pending.size() < parallelism && source.hasNext()) {
+            Batch batch = new Batch(batch());
+            pending.add(batch);
+            executor.execute(batch::run);
+        }
+    }
+
+    private List<S> batch() {
+        List<S> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && source.hasNext()) {
+            batch.add(source.next());
+        }
+        return batch;
+    }
+
+    private CompletableFuture<List<T>> claim(Batch batch) {
+        batch.run();
+        return batch.result;
+    }
+
+    private CompletableFuture<List<T>> completed() {
+        CompletableFuture<List<T>> future = removeDone();
+        while (future == null) {
+            Batch unclaimed = pending.stream().filter(Batch::unclaimed).findFirst().orElse(null);
+            if (unclaimed != null) {
+                pending.remove(unclaimed);
+                return claim(unclaimed);
+            }
+            CompletableFuture.anyOf(pending.stream().map(batch -> batch.result).toArray(CompletableFuture<?>[]::new))
+                    .exceptionally(e -> null).join();
+            future = removeDone();
+        }
+        return future;
+    }
+
+    private CompletableFuture<List<T>> removeDone() {
+        Iterator<Batch> batches = pending.iterator();
+        while (batches.hasNext()) {
+            Batch batch = batches.next();
+            if (batch.result.isDone()) {
+                batches.remove();
+                return batch.result;
+            }
+        }
+        return null;
+    }
+
+    private List<T> join(CompletableFuture<List<T>> future) {
+        Throwable failure = future.handle((batch, error) -> error).join();
+        if (failure != null) {
+            cancel();
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause() : failure;
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        }
+        return future.join();
+    }
+
+    private void cancel() {
+        pending.forEach(batch -> {
+            batch.claimed.set(true);
+            batch.result.cancel(false);
+        });
+        pending.clear();
+    }
+
+    /**
+     * Returns a stream that applies the function to the elements of the source in batches, on the given executor.
+     * Closing the returned stream closes the source.
+     *
+     * @param source      the source
+     * @param mapper      the function, it must be thread-safe
+     * @param parallelism the maximum number of batches converted at the same time
+     * @param batchSize   the number of elements of each batch
+     * @param ordered     whether the result keeps the order of the source
+     * @param executor    the executor that converts the batches
+     * @param <S>         the element type of the source
+     * @param <T>         the element type of the result
+     * @return the stream of the converted elements
+     */
+    static <S, T> Stream<T> map(Stream<S> source, Function<S, T> mapper, int parallelism, int batchSize,
+                                boolean ordered, Executor executor) {
+        BatchedMapper<S, T> iterator = new BatchedMapper<>(source.iterator(), mapper, Math.max(1, parallelism),
+                Math.max(1, batchSize), ordered, executor);
+        int characteristics = ordered ? Spliterator.ORDERED : 0;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, characteristics), false)
+                .onClose(iterator::cancel)
+                .onClose(source::close);
+    }
+
+    private final class Batch {
+
+        private final List<S> elements;
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private final CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+        private Batch(List<S> elements) {
+            this.elements = elements;
+        }
+
+        private boolean unclaimed() {
+            return !claimed.get();
+        }
+
+        private void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                List<T> converted = new ArrayList<>(elements.size());
+                for (S element : elements) {
+                    converted.add(mapper.apply(element));
+                }
+                result.complete(converted);
+            } catch (Throwable exception) {
+                result.completeExceptionally(exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.MappingType;
+import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED;
+import static org.eclipse.jnosql.mapping.metadata.MappingType.EMBEDDED_GROUP;
+import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
+
+/**
+ * The steps to decode the elements into an entity, resolved once per {@link EntityMetadata}: the
+ * {@link FieldConverter} of each field and the {@link ParameterConverter} of each constructor parameter.
+ * On each row, the elements are indexed by name once, so each field is a lookup instead of a scan.
+ */
+final class DecodePlan {
+
+    private final List<FieldStep> fields;
+
+    private final List<ParameterConverter> parameters;
+
+    private DecodePlan(List<FieldStep> fields, List<ParameterConverter> parameters) {
+        this.fields = fields;
+        this.parameters = parameters;
+    }
+
+    /**
+     * Writes the fields of the instance from the elements.
+     */
+    <T> T decode(T instance, List<Element> elements, EntityConverter converter) {
+        Map<String, Element> index = index(elements, true);
+        for (FieldStep step : fields) {
+            Element element = index.get(step.field.name());
+            if (element == null && !step.elementType) {
+                continue;
+            }
+            if (ENTITY.equals(step.field.mappingType())) {
+                if (element != null) {
+                    step.converter.convert(instance, element, step.field, converter);
+                }
+            } else {
+                step.converter.convert(instance, elements, element, step.field, converter);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Creates the instance from the constructor, matching the elements with the constructor parameters.
+     */
+    <T> T decode(ConstructorBuilder builder, List<Element> elements, EntityConverter converter) {
+        Map<String, Element> index = index(elements, false);
+        List<ParameterMetaData> constructorParameters = builder.parameters();
+        boolean planned = constructorParameters.size() == parameters.size();
+        for (int i = 0; i < constructorParameters.size(); i++) {
+            ParameterMetaData parameter = constructorParameters.get(i);
+            boolean isFlatEmbedded = EMBEDDED.equals(parameter.mappingType());
+            Element element = isFlatEmbedded && !elements.isEmpty() ? elements.get(0) : index.get(parameter.name());
+            if (element == null) {
+                builder.addEmptyParameter();
+                continue;
+            }
+            var parameterConverter = planned ? parameters.get(i) : ParameterConverter.of(parameter, converter.entities());
+            if (isFlatEmbedded) {
+                parameterConverter.convert(converter, Element.of("_", elements), parameter, builder);
+            } else {
+                parameterConverter.convert(converter, element, parameter, builder);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Indexes the first element of each name, skipping the null values when nonNull is true.
+     */
+    private static Map<String, Element> index(List<Element> elements, boolean nonNull) {
+        Map<String, Element> index = new HashMap<>((int) (elements.size() / 0.75f) + 1);
+        for (Element element : elements) {
+            if (!nonNull || !element.value().isNull()) {
+                index.putIfAbsent(element.name(), element);
+            }
+        }
+        return index;
+    }
+
+    static DecodePlan of(EntityMetadata mapping, EntitiesMetadata entities) {
+        List<FieldStep> fields = mapping.fieldsGroupByName().values().stream()
+                .map(FieldStep::new)
+                .toList();
+        List<ParameterConverter> parameters = mapping.constructor().parameters().stream()
+                .map(p -> ParameterConverter.of(p, entities))
+                .toList();
+        return new DecodePlan(fields, parameters);
+    }
+
+    private static final class FieldStep {
+
+        private final FieldMetadata field;
+
+        private final FieldConverter converter;
+
+        private final boolean elementType;
+
+        private FieldStep(FieldMetadata field) {
+            this.field = field;
+            this.converter = FieldConverter.get(field);
+            MappingType type = field.mappingType();
+            this.elementType = EMBEDDED.equals(type) || EMBEDDED_GROUP.equals(type) || ENTITY.equals(type);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.ReactiveDatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The {@link ReactiveSemiStructuredTemplate} of {@link AbstractSemiStructuredTemplate#reactive()}: the
+ * entities are converted on the {@code onNext} of each element, and the entities to insert are converted
+ * while the {@link ReactiveDatabaseManager} reads them. The writes evict the entity cache of the owning
+ * {@link AbstractSemiStructuredTemplate}, as its blocking writes do.
+ */
+final class DefaultReactiveSemiStructuredTemplate implements ReactiveSemiStructuredTemplate {
+
+    private final ReactiveDatabaseManager manager;
+
+    private final AbstractSemiStructuredTemplate template;
+
+    private final EntityConverter converter;
+
+    private final EventPersistManager eventManager;
+
+    DefaultReactiveSemiStructuredTemplate(ReactiveDatabaseManager manager, AbstractSemiStructuredTemplate template) {
+        this.manager = manager;
+        this.template = template;
+        this.converter = template.converter();
+        this.eventManager = template.eventManager();
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> insert(T entity) {
+        requireNonNull(entity, "entity is required");
+        return insert(Collections.singletonList(entity));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> insert(Iterable<T> entities) {
+        requireNonNull(entities, "entities is required");
+        List<T> values = new ArrayList<>();
+        entities.forEach(values::add);
+        Iterable<CommunicationEntity> communications = () -> values.stream()
+                .map(this::toCommunication)
+                .iterator();
+        return new MappedPublisher<>(manager.insert(communications), () -> {
+            Iterator<T> sent = values.iterator();
+            return communication -> {
+                T value = converter.toEntity(sent.next(), communication);
+                template.evict(value);
+                eventManager.firePostEntity(value);
+                return value;
+            };
+        });
+    }
+
+    @Override
+    public Flow.Publisher<Void> delete(DeleteQuery query) {
+        requireNonNull(query, "query is required");
+        return new MappedPublisher<>(manager.delete(query), Function::identity,
+                () -> template.evictAll(query.name()));
+    }
+
+    @Override
+    public <T> Flow.Publisher<T> select(SelectQuery query) {
+        requireNonNull(query, "query is required");
+        Function<CommunicationEntity, T> mapper = communication -> {
+            T entity = converter.toEntity(communication);
+            eventManager.firePostEntity(entity);
+            return entity;
+        };
+        return new MappedPublisher<>(manager.select(query), () -> mapper);
+    }
+
+    private <T> CommunicationEntity toCommunication(T entity) {
+        requireNonNull(entity, "entity is required");
+        eventManager.firePreEntity(entity);
+        return converter.toCommunication(entity);
+    }
+}
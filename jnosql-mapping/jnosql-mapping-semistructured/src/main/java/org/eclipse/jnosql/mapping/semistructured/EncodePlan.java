@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.nosql.AttributeConverter;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.mapping.metadata.CollectionFieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
+import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
+
+import java.util.List;
+
+/**
+ * The steps to encode an entity into a {@link CommunicationEntity}, resolved once per {@link EntityMetadata}.
+ * The scalar fields, with or without an {@link AttributeConverter}, are written straight into a
+ * {@link CommunicationEntity} sized to the number of fields; the other fields go through
+ * {@link AttributeFieldValue#toElements(EntityConverter, org.eclipse.jnosql.mapping.core.Converters)}.
+ */
+final class EncodePlan {
+
+    private final String name;
+
+    private final List<FieldStep> fields;
+
+    private final InheritanceMetadata inheritance;
+
+    private final int size;
+
+    private EncodePlan(EntityMetadata mapping) {
+        this.name = mapping.name();
+        this.fields = mapping.fields().stream().map(FieldStep::new).toList();
+        this.inheritance = mapping.inheritance().orElse(null);
+        this.size = fields.size() + (inheritance == null ? 0 : 1);
+    }
+
+    CommunicationEntity encode(Object entity, EntityConverter converter) {
+        CommunicationEntity communication = CommunicationEntity.of(name, size);
+        for (FieldStep step : fields) {
+            step.encode(entity, communication, converter);
+        }
+        if (inheritance != null) {
+            communication.add(inheritance.discriminatorColumn(), inheritance.discriminatorValue());
+        }
+        return communication;
+    }
+
+    static EncodePlan of(EntityMetadata mapping) {
+        return new EncodePlan(mapping);
+    }
+
+    private enum FieldKind {
+        SCALAR, CONVERTER, COMPOSITE;
+
+        static FieldKind of(FieldMetadata field) {
+            boolean composite = switch (field.mappingType()) {
+                case EMBEDDED, ENTITY, EMBEDDED_GROUP, ARRAY -> true;
+                case COLLECTION -> ((CollectionFieldMetadata) field).isEmbeddable();
+                default -> false;
+            };
+            if (composite) {
+                return COMPOSITE;
+            }
+            return field.converter().isPresent() ? CONVERTER : SCALAR;
+        }
+    }
+
+    private static final class FieldStep {
+
+        private final FieldMetadata field;
+
+        private final String name;
+
+        private final FieldKind kind;
+
+        private FieldStep(FieldMetadata field) {
+            this.field = field;
+            this.name = field.name();
+            this.kind = FieldKind.of(field);
+        }
+
+        private void encode(Object entity, CommunicationEntity communication, EntityConverter converter) {
+            Object value = field.read(entity);
+            if (value == null) {
+                communication.add(Element.of(name, null));
+                return;
+            }
+            switch (kind) {
+                case SCALAR -> communication.add(Element.of(name, value));
+                case CONVERTER -> {
+                    AttributeConverter<Object, Object> attributeConverter = converter.converters().get(field);
+                    communication.add(Element.of(name, attributeConverter.convertToDatabaseColumn(value)));
+                }
+                default -> {
+                    for (Element element : DefaultAttributeFieldValue.of(value, field)
+                            .toElements(converter, converter.converters())) {
+                        communication.add(element);
+                    }
+                }
+            }
+        }
+    }
+}
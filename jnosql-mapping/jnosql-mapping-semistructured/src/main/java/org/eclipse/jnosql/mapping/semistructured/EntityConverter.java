@@ -19,18 +19,18 @@ import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.mapping.core.Converters;
 import jakarta.data.exceptions.MappingException;
 import org.eclipse.jnosql.mapping.metadata.ConstructorBuilder;
+import org.eclipse.jnosql.mapping.metadata.ConstructorBuilderSupplier;
 import org.eclipse.jnosql.mapping.metadata.ConstructorMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
 import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
-import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
 import org.eclipse.jnosql.mapping.metadata.MappingType;
-import org.eclipse.jnosql.mapping.metadata.ParameterMetaData;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -46,6 +46,17 @@ import static org.eclipse.jnosql.mapping.metadata.MappingType.ENTITY;
  */
 public abstract class EntityConverter {
 
+    private static final ClassValue<Boolean> OVERRIDES_TO = overrides("to", FieldMetadata.class, Object.class);
+
+    private static final ClassValue<Boolean> OVERRIDES_FEED_OBJECT = overrides("feedObject", Object.class,
+            List.class, Map.class);
+
+    private final Map<Class<?>, EncodePlan> encodePlans = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, DecodePlan> decodePlans = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, InheritancePlan> inheritancePlans = new ConcurrentHashMap<>();
+
     /**
      * Retrieves the metadata about entities.
      *
@@ -62,6 +73,7 @@ public abstract class EntityConverter {
 
     /**
      * Converts the provided entity instance to a {@link CommunicationEntity}.
+     * When a subclass overrides {@link #to(FieldMetadata, Object)}, each field is read through it.
      *
      * @param entity the entity instance to be converted
      * @return a {@link CommunicationEntity} instance representing the entity
@@ -70,16 +82,18 @@ public abstract class EntityConverter {
     public CommunicationEntity toCommunication(Object entity) {
         requireNonNull(entity, "entity is required");
         EntityMetadata mapping = entities().get(entity.getClass());
-        CommunicationEntity communication = CommunicationEntity.of(mapping.name());
-        mapping.fields().stream()
-                .map(f -> to(f, entity))
-                .map(f -> f.toElements(this, converters()))
-                .flatMap(List::stream)
-                .forEach(communication::add);
-
-        mapping.inheritance().ifPresent(i -> communication.add(i.discriminatorColumn(),
-                i.discriminatorValue()));
-        return communication;
+        if (OVERRIDES_TO.get(getClass())) {
+            CommunicationEntity communication = CommunicationEntity.of(mapping.name());
+            mapping.fields().stream()
+                    .map(f -> to(f, entity))
+                    .map(f -> f.toElements(this, converters()))
+                    .flatMap(List::stream)
+                    .forEach(communication::add);
+            mapping.inheritance().ifPresent(i -> communication.add(i.discriminatorColumn(),
+                    i.discriminatorValue()));
+            return communication;
+        }
+        return encodePlans.computeIfAbsent(mapping.type(), t -> EncodePlan.of(mapping)).encode(entity, this);
     }
 
     /**
@@ -147,6 +161,10 @@ public abstract class EntityConverter {
         return DefaultAttributeFieldValue.of(value, field);
     }
 
+    /**
+     * Returns the consumer that reads the element of a field name into the entity.
+     * When a subclass overrides it, the entities are read through it instead of a plan per type.
+     */
     protected <T> Consumer<String> feedObject(T entity, List<Element> elements, Map<String, FieldMetadata> fieldsGroupByName) {
         return (String k) -> {
             Optional<Element> element = elements.stream().filter(c -> c.name().equals(k))
@@ -177,64 +195,74 @@ public abstract class EntityConverter {
     }
 
     private <T> T convertEntityByConstructor(List<Element> elements, EntityMetadata mapping) {
-        ConstructorBuilder builder = ConstructorBuilder.of(mapping.constructor());
-        for (ParameterMetaData parameter : builder.parameters()) {
-            Predicate<Element> matchName = c -> c.name().equals(parameter.name());
-            boolean isFlatEmbedded = EMBEDDED.equals(parameter.mappingType());
-            Optional<Element> element = elements.stream()
-                    .filter(matchName.or(e -> isFlatEmbedded))
-                    .findFirst();
-            element.ifPresentOrElse(c -> {
-                var converter = ParameterConverter.of(parameter, entities());
-                if (isFlatEmbedded) {
-                    converter.convert(this, Element.of("_", elements), parameter, builder);
-                } else {
-                    converter.convert(this, c, parameter, builder);
-                }
-            }, builder::addEmptyParameter);
-        }
-        return builder.build();
+        ConstructorBuilder builder = ConstructorBuilderHolder.SUPPLIER.apply(mapping.constructor());
+        return decodePlan(mapping).decode(builder, elements, this);
     }
 
     private <T> T convertEntity(List<Element> elements, EntityMetadata mapping, T instance) {
-        final Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
-        final List<String> names = elements.stream().map(Element::name).sorted().toList();
-        final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
-        final Predicate<String> isElementType = k -> {
-            MappingType type = fieldsGroupByName.get(k).mappingType();
-            return EMBEDDED.equals(type)|| EMBEDDED_GROUP.equals(type) || ENTITY.equals(type);
-        };
-        fieldsGroupByName.keySet().stream()
-                .filter(existField.or(isElementType))
-                .forEach(feedObject(instance, elements, fieldsGroupByName));
+        if (OVERRIDES_FEED_OBJECT.get(getClass())) {
+            final Map<String, FieldMetadata> fieldsGroupByName = mapping.fieldsGroupByName();
+            final List<String> names = elements.stream().map(Element::name).sorted().toList();
+            final Predicate<String> existField = k -> Collections.binarySearch(names, k) >= 0;
+            final Predicate<String> isElementType = k -> {
+                MappingType type = fieldsGroupByName.get(k).mappingType();
+                return EMBEDDED.equals(type) || EMBEDDED_GROUP.equals(type) || ENTITY.equals(type);
+            };
+            fieldsGroupByName.keySet().stream()
+                    .filter(existField.or(isElementType))
+                    .forEach(feedObject(instance, elements, fieldsGroupByName));
+            return instance;
+        }
+        return decodePlan(mapping).decode(instance, elements, this);
+    }
+
+    private DecodePlan decodePlan(EntityMetadata mapping) {
+        return decodePlans.computeIfAbsent(mapping.type(), t -> DecodePlan.of(mapping, entities()));
+    }
 
-        return instance;
+    private InheritancePlan inheritancePlan(Class<?> parent) {
+        InheritancePlan plan = inheritancePlans.get(parent);
+        return plan == null ? resolveInheritancePlan(parent) : plan;
+    }
+
+    /**
+     * Resolves the plan from the metadata, which gets a new subtype when its class is loaded later; an empty plan
+     * is not cached, thus an early miss does not hide the subtypes.
+     */
+    private InheritancePlan resolveInheritancePlan(Class<?> parent) {
+        InheritancePlan plan = InheritancePlan.of(parent, entities());
+        if (!plan.isEmpty()) {
+            inheritancePlans.put(parent, plan);
+        }
+        return plan;
+    }
+
+    /**
+     * Returns the subtype of the discriminator value, resolving the plan again when the value is unknown.
+     */
+    private EntityMetadata subtype(InheritancePlan plan, Class<?> parent, String discriminator) {
+        EntityMetadata subtype = plan.subtype(discriminator);
+        return subtype == null ? resolveInheritancePlan(parent).subtype(discriminator) : subtype;
     }
 
     private <T> T mapInheritanceEntity(CommunicationEntity entity, Class<?> type) {
-        Map<String, InheritanceMetadata> group = entities()
-                .findByParentGroupByDiscriminatorValue(type);
+        InheritancePlan plan = inheritancePlan(type);
 
-        if (group.isEmpty()) {
+        if (plan.isEmpty()) {
             throw new MappingException("There is no discriminator inheritance to the document collection "
                     + entity.name());
         }
-        String column = group.values()
-                .stream()
-                .findFirst()
-                .map(InheritanceMetadata::discriminatorColumn)
-                .orElseThrow();
+        String column = plan.column();
 
         String discriminator = entity.find(column, String.class)
                 .orElseThrow(
                         () -> new MappingException("To inheritance there is the discriminator column missing" +
                                 " on the Document Collection, the document name: " + column));
 
-        InheritanceMetadata inheritance = Optional.ofNullable(group.get(discriminator))
+        EntityMetadata mapping = Optional.ofNullable(subtype(plan, type, discriminator))
                 .orElseThrow(() -> new MappingException("There is no inheritance map to the discriminator" +
                         " column value " + discriminator));
 
-        EntityMetadata mapping = entities().get(inheritance.entity());
         ConstructorMetadata constructor = mapping.constructor();
         if (constructor.isDefault()) {
             T instance = mapping.newInstance();
@@ -245,19 +273,14 @@ public abstract class EntityConverter {
     }
 
     private <T> T inheritanceToEntity(List<Element> elements, EntityMetadata mapping) {
-        Map<String, InheritanceMetadata> group = entities()
-                .findByParentGroupByDiscriminatorValue(mapping.type());
+        InheritancePlan plan = inheritancePlan(mapping.type());
 
-        if (group.isEmpty()) {
+        if (plan.isEmpty()) {
             throw new MappingException("There is no discriminator inheritance to the structure "
                     + mapping.name());
         }
 
-        String column = group.values()
-                .stream()
-                .findFirst()
-                .map(InheritanceMetadata::discriminatorColumn)
-                .orElseThrow();
+        String column = plan.column();
 
         String discriminator = elements.stream()
                 .filter(d -> d.name().equals(column))
@@ -267,12 +290,38 @@ public abstract class EntityConverter {
                         () -> new MappingException("To inheritance there is the discriminator element missing" +
                                 " at the structure, the field's name: " + column));
 
-        InheritanceMetadata inheritance = Optional.ofNullable(group.get(discriminator))
+        EntityMetadata inheritanceMetadata = Optional.ofNullable(subtype(plan, mapping.type(), discriminator))
                 .orElseThrow(() -> new MappingException("There is no inheritance map to the discriminator" +
                         " column value " + discriminator));
-
-        EntityMetadata inheritanceMetadata = entities().get(inheritance.entity());
         T instance = inheritanceMetadata.newInstance();
         return convertEntity(elements, inheritanceMetadata, instance);
     }
+
+    /**
+     * Checks, per converter type, if a subclass declares the method, thus the per-type plans must not bypass it.
+     */
+    private static ClassValue<Boolean> overrides(String name, Class<?>... parameters) {
+        return new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                for (Class<?> current = type; current != EntityConverter.class; current = current.getSuperclass()) {
+                    try {
+                        current.getDeclaredMethod(name, parameters);
+                        return true;
+                    } catch (NoSuchMethodException exception) {
+                        // keep looking at the superclass
+                    }
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * The {@link ConstructorBuilderSupplier} loaded once, instead of once per entity.
+     */
+    private static final class ConstructorBuilderHolder {
+
+        private static final ConstructorBuilderSupplier SUPPLIER = ConstructorBuilderSupplier.load();
+    }
 }
@@ -15,12 +15,17 @@
 package org.eclipse.jnosql.mapping.semistructured;
 
 
+import jakarta.annotation.PostConstruct;
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
 import jakarta.inject.Inject;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
 
+import java.util.List;
+
 /**
  * This class represents the manager of events for entity persistence operations.
  * When an entity is either saved or updated, events will be fired in the following order:
@@ -39,6 +44,28 @@ public class EventPersistManager {
     @Inject
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Inject
+    private Event<EntitiesPostPersist> entitiesPostPersistEvent;
+
+    @Inject
+    private BeanManager beanManager;
+
+    private boolean prePersistObserved = true;
+
+    private boolean postPersistObserved = true;
+
+    private boolean entitiesPostPersistObserved = true;
+
+    /**
+     * Skips the events without observers.
+     */
+    @PostConstruct
+    void init() {
+        this.prePersistObserved = isObserved(EntityPrePersist.of(this));
+        this.postPersistObserved = isObserved(EntityPostPersist.of(this));
+        this.entitiesPostPersistObserved = isObserved(EntitiesPostPersist.of(List.of()));
+    }
+
     /**
      * Fires an event before an entity is persisted.
      *
@@ -46,7 +73,9 @@ public class EventPersistManager {
      * @param <T>    the type of the entity
      */
     public <T> void firePreEntity(T entity) {
-        entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        if (prePersistObserved) {
+            entityPrePersistEvent.fire(EntityPrePersist.of(entity));
+        }
     }
 
     /**
@@ -56,7 +85,25 @@ public class EventPersistManager {
      * @param <T>    the type of the entity
      */
     public <T> void firePostEntity(T entity) {
-        entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        if (postPersistObserved) {
+            entityPostPersistEvent.fire(EntityPostPersist.of(entity));
+        }
+    }
+
+    /**
+     * Fires an event with all the entities persisted by an operation on several entities.
+     *
+     * @param entities the entities persisted
+     * @param <T>      the type of the entities
+     */
+    public <T> void firePostEntities(List<T> entities) {
+        if (entitiesPostPersistObserved && !entities.isEmpty()) {
+            entitiesPostPersistEvent.fire(EntitiesPostPersist.of(entities));
+        }
+    }
+
+    private boolean isObserved(Object event) {
+        return !beanManager.resolveObserverMethods(event).isEmpty();
     }
 
 }
@@ -169,7 +169,7 @@ enum FieldConverter {
                 if (optionalConverter.isPresent()) {
                     executeConverter(instance, element, field, converter, value);
                 } else {
-                    field.write(instance, field.value(value));
+                    field.writeValue(instance, value);
                 }
             }
         }
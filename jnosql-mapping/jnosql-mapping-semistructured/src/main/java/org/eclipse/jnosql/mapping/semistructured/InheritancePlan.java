@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The subtypes of a parent entity, resolved once per parent: the discriminator column and the
+ * {@link EntityMetadata} of each discriminator value. On each row, the subtype is a lookup by the value of the
+ * discriminator column.
+ */
+final class InheritancePlan {
+
+    private static final InheritancePlan EMPTY = new InheritancePlan(null, Map.of());
+
+    private final String column;
+
+    private final Map<String, EntityMetadata> subtypes;
+
+    private InheritancePlan(String column, Map<String, EntityMetadata> subtypes) {
+        this.column = column;
+        this.subtypes = subtypes;
+    }
+
+    /**
+     * Checks if the parent has no subtypes.
+     */
+    boolean isEmpty() {
+        return subtypes.isEmpty();
+    }
+
+    /**
+     * Returns the discriminator column, null when the parent has no subtypes.
+     */
+    String column() {
+        return column;
+    }
+
+    /**
+     * Returns the subtype of the discriminator value, or null when the value is unknown.
+     */
+    EntityMetadata subtype(String discriminator) {
+        return subtypes.get(discriminator);
+    }
+
+    static InheritancePlan of(Class<?> parent, EntitiesMetadata entities) {
+        Map<String, InheritanceMetadata> group = entities.findByParentGroupByDiscriminatorValue(parent);
+        if (group.isEmpty()) {
+            return EMPTY;
+        }
+        String column = group.values().iterator().next().discriminatorColumn();
+        Map<String, EntityMetadata> subtypes = new HashMap<>((int) (group.size() / 0.75f) + 1);
+        group.forEach((value, inheritance) -> subtypes.put(value, entities.get(inheritance.entity())));
+        return new InheritancePlan(column, Map.copyOf(subtypes));
+    }
+}
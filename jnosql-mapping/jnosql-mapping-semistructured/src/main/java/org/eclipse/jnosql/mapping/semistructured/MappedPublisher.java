@@ -0,0 +1,124 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Flow.Publisher} that applies a function to each element of another publisher, on the thread that
+ * emits it. Each subscription creates its own function, thus the function may keep state between elements.
+ * When the function fails, the upstream subscription is cancelled and the error is sent to the subscriber.
+ * An optional action runs when the upstream completes or fails, before the subscriber is signalled.
+ *
+ * @param <S> the element type of the upstream publisher
+ * @param <T> the element type of this publisher
+ */
+final class MappedPublisher<S, T> implements Flow.Publisher<T> {
+
+    private final Flow.Publisher<S> upstream;
+
+    private final Supplier<Function<S, T>> mapper;
+
+    private final Runnable onTerminate;
+
+    MappedPublisher(Flow.Publisher<S> upstream, Supplier<Function<S, T>> mapper) {
+        this(upstream, mapper, () -> { });
+    }
+
+    MappedPublisher(Flow.Publisher<S> upstream, Supplier<Function<S, T>> mapper, Runnable onTerminate) {
+        this.upstream = upstream;
+        this.mapper = mapper;
+        this.onTerminate = onTerminate;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber is required");
+        upstream.subscribe(new MappedSubscriber<>(subscriber, mapper.get(), onTerminate));
+    }
+
+    private static final class MappedSubscriber<S, T> implements Flow.Subscriber<S> {
+
+        private final Flow.Subscriber<? super T> downstream;
+
+        private final Function<S, T> mapper;
+
+        private final Runnable onTerminate;
+
+        private Flow.Subscription subscription;
+
+        private boolean done;
+
+        private MappedSubscriber(Flow.Subscriber<? super T> downstream, Function<S, T> mapper,
+                                 Runnable onTerminate) {
+            this.downstream = downstream;
+            this.mapper = mapper;
+            this.onTerminate = onTerminate;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            downstream.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(S item) {
+            if (done) {
+                return;
+            }
+            T value;
+            try {
+                value = mapper.apply(item);
+            } catch (RuntimeException exception) {
+                done = true;
+                subscription.cancel();
+                downstream.onError(exception);
+                return;
+            }
+            downstream.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!done) {
+                done = true;
+                try {
+                    onTerminate.run();
+                } catch (RuntimeException exception) {
+                    throwable.addSuppressed(exception);
+                }
+                downstream.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!done) {
+                done = true;
+                try {
+                    onTerminate.run();
+                } catch (RuntimeException exception) {
+                    downstream.onError(exception);
+                    return;
+                }
+                downstream.onComplete();
+            }
+        }
+    }
+}
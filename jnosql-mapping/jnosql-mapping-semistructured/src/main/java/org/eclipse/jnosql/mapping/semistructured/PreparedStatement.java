@@ -16,7 +16,10 @@ package org.eclipse.jnosql.mapping.semistructured;
 
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
+import org.eclipse.jnosql.mapping.metadata.ClassInformationNotFoundException;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 
 import java.util.Objects;
 import java.util.Optional;
@@ -43,12 +46,25 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
 
     private final EntitiesMetadata entitiesMetadata;
 
+    private final Runnable invalidation;
+
     PreparedStatement(org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement preparedStatement,
                       EntityConverter converter, MapperObserver observer, EntitiesMetadata entitiesMetadata) {
+        this(preparedStatement, converter, observer, entitiesMetadata, () -> { });
+    }
+
+    /**
+     * @param invalidation runs after each execution, it evicts the entities that a delete or an update may change
+     *                     from the {@link org.eclipse.jnosql.mapping.core.cache.EntityCache} of the template
+     */
+    PreparedStatement(org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement preparedStatement,
+                      EntityConverter converter, MapperObserver observer, EntitiesMetadata entitiesMetadata,
+                      Runnable invalidation) {
         this.preparedStatement = preparedStatement;
         this.converter = converter;
         this.observer = observer;
         this.entitiesMetadata = entitiesMetadata;
+        this.invalidation = invalidation;
     }
 
     @Override
@@ -57,15 +73,29 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
         return this;
     }
 
+    /**
+     * Creates a statement of the same parsed query, with the values bound so far, without parsing it again.
+     * A statement is not thread-safe, thus each thread binds and executes its own copy.
+     *
+     * @return a new statement
+     * @see org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement#copy()
+     */
+    public PreparedStatement copy() {
+        return new PreparedStatement(preparedStatement.copy(), converter, observer, entitiesMetadata, invalidation);
+    }
+
     @Override
     public <T> Stream<T> result() {
         Function<T, T> fieldMapper = SelectFieldMapper.INSTANCE.map(observer, entitiesMetadata);
-        return preparedStatement.result().<T>map(converter::toEntity).map(fieldMapper);
+        Stream<CommunicationEntity> entities = preparedStatement.result();
+        invalidation.run();
+        return entities.<T>map(converter::toEntity).map(fieldMapper);
     }
 
     @Override
     public <T> Optional<T> singleResult() {
         Optional<CommunicationEntity> singleResult = preparedStatement.singleResult();
+        invalidation.run();
         Optional<T> result = singleResult.map(converter::toEntity);
         return result.map(SelectFieldMapper.INSTANCE.map(observer, entitiesMetadata));
     }
@@ -80,6 +110,38 @@ public final class PreparedStatement implements org.eclipse.jnosql.mapping.Prepa
         return selectQuery().map(SelectQuery::isCount).orElse(false);
     }
 
+    /**
+     * Checks if this PreparedStatement is an update query.
+     *
+     * @return true if the query is an update
+     */
+    public boolean isUpdate() {
+        return preparedStatement.update().isPresent();
+    }
+
+    /**
+     * Executes the update query and returns only the number of updated entities, without converting them.
+     * When the entity of the query has an id, the driver may read the entities page by page on the id.
+     *
+     * @return the number of updated entities
+     * @throws IllegalArgumentException if the query is not an update
+     * @see org.eclipse.jnosql.communication.semistructured.DatabaseManager#updateCount(UpdateQuery, String)
+     */
+    public long updateCount() {
+        Optional<String> key = preparedStatement.update().flatMap(query -> id(query.name()));
+        long updated = key.map(preparedStatement::updateCount).orElseGet(preparedStatement::updateCount);
+        invalidation.run();
+        return updated;
+    }
+
+    private Optional<String> id(String entity) {
+        try {
+            return entitiesMetadata.findByName(entity).id().map(FieldMetadata::name);
+        } catch (ClassInformationNotFoundException exception) {
+            return Optional.empty();
+        }
+    }
+
     /**
      * Optionally returns the underlying {@link SelectQuery} associated with this PreparedStatement,
      * if applicable.
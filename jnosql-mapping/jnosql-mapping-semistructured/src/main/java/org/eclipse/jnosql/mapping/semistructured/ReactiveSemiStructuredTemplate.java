@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.ReactiveDatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+
+import java.util.concurrent.Flow;
+
+/**
+ * The non-blocking counterpart of {@link SemiStructuredTemplate}, built on {@link Flow} over a
+ * {@link ReactiveDatabaseManager}. Each method returns a cold {@link Flow.Publisher}: nothing is sent to the
+ * database until a subscriber requests elements, and each subscription executes the operation again.
+ *
+ * <p>The entities are converted one at a time as the subscriber requests them, thus a subscriber that requests
+ * a few entities of a large result only pays for the entities it reads. The lifecycle events are fired as in
+ * {@link SemiStructuredTemplate}.</p>
+ *
+ * @see AbstractSemiStructuredTemplate#reactive()
+ */
+public interface ReactiveSemiStructuredTemplate {
+
+    /**
+     * Inserts an entity and emits the saved entity.
+     *
+     * @param entity the entity to be saved
+     * @param <T>    the entity type
+     * @return a publisher of the saved entity
+     * @throws NullPointerException when the entity is null
+     */
+    <T> Flow.Publisher<T> insert(T entity);
+
+    /**
+     * Inserts the entities and emits the saved entities, in the order of the iterable. The entities are
+     * converted and sent as the saved entities are requested.
+     *
+     * @param entities the entities to be saved
+     * @param <T>      the entity type
+     * @return a publisher of the saved entities
+     * @throws NullPointerException when the entities are null
+     */
+    <T> Flow.Publisher<T> insert(Iterable<T> entities);
+
+    /**
+     * Deletes the entities of the query. The publisher emits no element, it completes once the entities
+     * are deleted.
+     *
+     * @param query the query used to select entities to be deleted
+     * @return a publisher that completes when the entities are deleted
+     * @throws NullPointerException when the query is null
+     */
+    Flow.Publisher<Void> delete(DeleteQuery query);
+
+    /**
+     * Finds the entities of the query and emits them as they are requested.
+     *
+     * @param query the query used to select entities
+     * @param <T>   the entity type
+     * @return a publisher of the entities found by the query
+     * @throws NullPointerException when the query is null
+     */
+    <T> Flow.Publisher<T> select(SelectQuery query);
+}
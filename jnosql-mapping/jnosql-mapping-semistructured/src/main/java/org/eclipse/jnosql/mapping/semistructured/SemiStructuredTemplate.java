@@ -17,8 +17,13 @@ import org.eclipse.jnosql.mapping.PreparedStatement;
 import jakarta.nosql.Template;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.AsyncExecutor;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
 
@@ -256,4 +261,86 @@ public interface SemiStructuredTemplate extends Template {
      * @throws NullPointerException if the query or pageRequest is null
      */
     <T> Page<T> selectOffSet(SelectQuery query, PageRequest pageRequest);
+
+    /**
+     * Inserts an entity asynchronously, on the {@link AsyncExecutor}.
+     *
+     * @param entity the entity to be inserted
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} of the inserted entity
+     * @throws NullPointerException when the entity is null
+     * @see #insert(Object)
+     */
+    default <T> CompletionStage<T> insertAsync(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> insert(entity), AsyncExecutor.INSTANCE);
+    }
+
+    /**
+     * Updates an entity asynchronously, on the {@link AsyncExecutor}.
+     *
+     * @param entity the entity to be updated
+     * @param <T>    the entity type
+     * @return a {@link CompletionStage} of the updated entity
+     * @throws NullPointerException when the entity is null
+     * @see #update(Object)
+     */
+    default <T> CompletionStage<T> updateAsync(T entity) {
+        Objects.requireNonNull(entity, "entity is required");
+        return CompletableFuture.supplyAsync(() -> update(entity), AsyncExecutor.INSTANCE);
+    }
+
+    /**
+     * Finds an entity by its id asynchronously, on the {@link AsyncExecutor}, thus several independent
+     * lookups run concurrently.
+     *
+     * @param type the entity type
+     * @param id   the id
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return a {@link CompletionStage} of the entity, or of {@link Optional#empty()} when it is not found
+     * @throws NullPointerException when either the type or the id is null
+     * @see #find(Class, Object)
+     */
+    default <T, K> CompletionStage<Optional<T>> findAsync(Class<T> type, K id) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(id, "id is required");
+        return CompletableFuture.supplyAsync(() -> find(type, id), AsyncExecutor.INSTANCE);
+    }
+
+    /**
+     * Deletes an entity by its id asynchronously, on the {@link AsyncExecutor}.
+     *
+     * @param type the entity type
+     * @param id   the id
+     * @param <T>  the entity type
+     * @param <K>  the id type
+     * @return a {@link CompletionStage} that completes when the entity is deleted
+     * @throws NullPointerException when either the type or the id is null
+     * @see #delete(Class, Object)
+     */
+    default <T, K> CompletionStage<Void> deleteAsync(Class<T> type, K id) {
+        Objects.requireNonNull(type, "type is required");
+        Objects.requireNonNull(id, "id is required");
+        return CompletableFuture.runAsync(() -> delete(type, id), AsyncExecutor.INSTANCE);
+    }
+
+    /**
+     * Finds the entities of the query asynchronously, on the {@link AsyncExecutor}. The entities are read
+     * in the executor, thus the stage completes with all of them.
+     *
+     * @param query the query
+     * @param <T>   the entity type
+     * @return a {@link CompletionStage} of the entities found by the query
+     * @throws NullPointerException when the query is null
+     * @see #select(SelectQuery)
+     */
+    default <T> CompletionStage<List<T>> selectAsync(SelectQuery query) {
+        Objects.requireNonNull(query, "query is required");
+        return CompletableFuture.supplyAsync(() -> {
+            try (Stream<T> entities = select(query)) {
+                return entities.toList();
+            }
+        }, AsyncExecutor.INSTANCE);
+    }
 }
@@ -40,6 +40,16 @@ public abstract class AbstractSemiStructuredRepository<T, K> extends AbstractRep
     @Override
     protected abstract SemiStructuredTemplate template();
 
+    @Override
+    protected Stream<T> findAllById(List<K> ids) {
+        return template().select(type()).where(getIdField().fieldName()).in(ids).stream();
+    }
+
+    @Override
+    protected void deleteAllById(List<K> ids) {
+        template().delete(type()).where(getIdField().fieldName()).in(ids).execute();
+    }
+
     @Override
     public long countBy() {
         return template().count(type());
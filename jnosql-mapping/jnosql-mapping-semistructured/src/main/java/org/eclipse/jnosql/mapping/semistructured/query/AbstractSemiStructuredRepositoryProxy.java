@@ -51,7 +51,7 @@ public abstract class AbstractSemiStructuredRepositoryProxy<T, K> extends BaseSe
         var pageRequest = DynamicReturn.findPageRequest(params);
         var queryValue = method.getAnnotation(Query.class).value();
         var queryType = QueryType.parse(queryValue);
-        var returnType = method.getReturnType();
+        var returnType = RepositoryReflectionUtils.INSTANCE.getReturnType(method);
         LOGGER.finest("Query: " + queryValue + " with type: " + queryType + " and return type: " + returnType);
         queryType.checkValidReturn(returnType, queryValue);
 
@@ -91,7 +91,8 @@ public abstract class AbstractSemiStructuredRepositoryProxy<T, K> extends BaseSe
             return this.template().selectCursor(query, pageRequest);
         } else {
             var parameters = RepositoryReflectionUtils.INSTANCE.getBy(method, params);
-            var query = SemiStructuredParameterBasedQuery.INSTANCE.toQuery(parameters, getSorts(method, entityMetadata()), entityMetadata());
+            var query = SemiStructuredParameterBasedQuery.INSTANCE.toQuery(parameters, getSorts(method, entityMetadata()),
+                    entityMetadata(), converters());
             var special = DynamicReturn.findSpecialParameters(params, sortParser());
             var pageRequest = special.pageRequest()
                     .orElseThrow(() -> new IllegalArgumentException("Pageable is required in the method signature as parameter at " + method));
@@ -134,7 +135,8 @@ public abstract class AbstractSemiStructuredRepositoryProxy<T, K> extends BaseSe
     protected Object executeParameterBased(Object instance, Method method, Object[] params) {
         Class<?> type = entityMetadata().type();
         Map<String, Object> parameters = RepositoryReflectionUtils.INSTANCE.getBy(method, params);
-        var query = SemiStructuredParameterBasedQuery.INSTANCE.toQuery(parameters, getSorts(method, entityMetadata()), entityMetadata());
+        var query = SemiStructuredParameterBasedQuery.INSTANCE.toQuery(parameters, getSorts(method, entityMetadata()),
+                entityMetadata(), converters());
         return executeFindByQuery(method, params, type, updateQueryDynamically(params, query));
     }
 
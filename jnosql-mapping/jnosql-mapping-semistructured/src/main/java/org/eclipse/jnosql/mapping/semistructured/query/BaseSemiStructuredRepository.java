@@ -41,8 +41,10 @@ import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -60,6 +62,10 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
     private static final DeleteQueryParser DELETE_PARSER = new DeleteQueryParser();
     private static final Object[] EMPTY_PARAM = new Object[0];
 
+    private final Map<Method, org.eclipse.jnosql.communication.query.SelectQuery> selectQueries = new ConcurrentHashMap<>();
+
+    private final Map<Method, org.eclipse.jnosql.communication.query.DeleteQuery> deleteQueries = new ConcurrentHashMap<>();
+
     private CommunicationObserverParser parser;
 
     private ParamsBinder paramsBinder;
@@ -89,8 +95,8 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
 
 
     protected org.eclipse.jnosql.communication.semistructured.SelectQuery query(Method method, Object[] args) {
-        var provider = SelectMethodProvider.INSTANCE;
-        var selectQuery = provider.apply(method, entityMetadata().name());
+        var selectQuery = selectQueries.computeIfAbsent(method,
+                m -> SelectMethodProvider.INSTANCE.apply(m, entityMetadata().name()));
         var queryParams = SELECT_PARSER.apply(selectQuery, parser());
         var query = queryParams.query();
         var params = queryParams.params();
@@ -103,8 +109,8 @@ public abstract class BaseSemiStructuredRepository<T, K> extends AbstractReposit
     }
 
     protected org.eclipse.jnosql.communication.semistructured.DeleteQuery deleteQuery(Method method, Object[] args) {
-        var deleteMethodFactory = DeleteMethodProvider.INSTANCE;
-        var deleteQuery = deleteMethodFactory.apply(method, entityMetadata().name());
+        var deleteQuery = deleteQueries.computeIfAbsent(method,
+                m -> DeleteMethodProvider.INSTANCE.apply(m, entityMetadata().name()));
         var queryParams = DELETE_PARSER.apply(deleteQuery, parser());
         var query = queryParams.query();
         Params params = queryParams.params();
@@ -28,6 +28,7 @@ import org.eclipse.jnosql.mapping.core.repository.RepositoryReflectionUtils;
 import org.eclipse.jnosql.mapping.core.repository.ThrowingSupplier;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.semistructured.PreparedStatement;
 import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
 
 import java.lang.reflect.InvocationHandler;
@@ -39,6 +40,7 @@ import java.lang.reflect.Type;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Stream;
@@ -73,6 +75,12 @@ public class CustomRepositoryHandler implements InvocationHandler {
 
     private final SemiStructuredRepositoryProxy<?, ?> defaultRepository;
 
+    private final Map<Method, RepositoryType> types = new ConcurrentHashMap<>();
+
+    private final Map<Method, SemiStructuredRepositoryProxy<?, ?>> repositories = new ConcurrentHashMap<>();
+
+    private final Map<Class<?>, AbstractRepository<?, ?>> entityRepositories = new ConcurrentHashMap<>();
+
     CustomRepositoryHandler(EntitiesMetadata entitiesMetadata, SemiStructuredTemplate template,
                             Class<?> customRepositoryType,
                             Converters converters) {
@@ -86,8 +94,8 @@ public class CustomRepositoryHandler implements InvocationHandler {
     @Override
     public Object invoke(Object instance, Method method, Object[] params) throws Throwable {
 
-        RepositoryType type = RepositoryType.of(method, customRepositoryType);
-        LOGGER.fine("Executing the method " + method + " with the parameters " + Arrays.toString(params) + " and the type " + type);
+        RepositoryType type = types.computeIfAbsent(method, m -> RepositoryType.of(m, customRepositoryType));
+        LOGGER.fine(() -> "Executing the method " + method + " with the parameters " + Arrays.toString(params) + " and the type " + type);
 
         switch (type) {
             case SAVE -> {
@@ -139,6 +147,9 @@ public class CustomRepositoryHandler implements InvocationHandler {
                     if (prepare.isCount()) {
                         return prepare.count();
                     }
+                    if (isLong(method) && prepare instanceof PreparedStatement statement && statement.isUpdate()) {
+                        return statement.updateCount();
+                    }
                     Stream<?> entities = prepare.result();
                     if(isLong(method)) {
                         return entities.count();
@@ -210,6 +221,10 @@ public class CustomRepositoryHandler implements InvocationHandler {
     }
 
     private SemiStructuredRepositoryProxy<?, ?> repository(Method method) {
+        return repositories.computeIfAbsent(method, this::createRepository);
+    }
+
+    private SemiStructuredRepositoryProxy<?, ?> createRepository(Method method) {
         RepositoryMetadata result = repositoryMetadata(method);
         Class<?> entityType = result.typeClass();
         return result.metadata().map(entityMetadata -> new SemiStructuredRepositoryProxy<>(template, entityMetadata, entityType, converters))
@@ -238,9 +253,9 @@ public class CustomRepositoryHandler implements InvocationHandler {
             var entity = ((Iterable<?>) params[0]).iterator().next();
             typeClass = entity.getClass();
         }
-        Optional<EntityMetadata> entity = entitiesMetadata.findByClassName(typeClass.getName());
-        return entity.map(entityMetadata -> new SemiStructuredRepositoryProxy.SemiStructuredRepository<>(template, entityMetadata))
-                .orElseThrow(() -> new UnsupportedOperationException("The repository does not support the method: " + method));
+        return entityRepositories.computeIfAbsent(typeClass, type -> entitiesMetadata.findByClassName(type.getName())
+                .map(entityMetadata -> new SemiStructuredRepositoryProxy.SemiStructuredRepository<>(template, entityMetadata))
+                .orElseThrow(() -> new UnsupportedOperationException("The repository does not support the method: " + method)));
     }
 
     private SemiStructuredRepositoryProxy<?, ?> repository(Method method, Parameter[] params) {
@@ -0,0 +1,118 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import org.eclipse.jnosql.mapping.core.AsyncExecutor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchedMapperTest {
+
+    private static final Executor EXECUTOR = AsyncExecutor.INSTANCE;
+
+    @Test
+    void shouldKeepTheOrderWhenOrdered() {
+        Stream<Integer> source = IntStream.range(0, 100).boxed();
+
+        List<Integer> result = BatchedMapper.map(source, value -> {
+            sleep(value % 3);
+            return value * 2;
+        }, 4, 7, true, EXECUTOR).toList();
+
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 100).map(v -> v * 2).boxed().toList());
+    }
+
+    @Test
+    void shouldReturnAllElementsWhenUnordered() {
+        Stream<Integer> source = IntStream.range(0, 100).boxed();
+
+        List<Integer> result = BatchedMapper.map(source, value -> {
+            sleep(value % 3);
+            return value;
+        }, 4, 7, false, EXECUTOR).toList();
+
+        assertThat(result).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 100).boxed().toList());
+    }
+
+    @Test
+    void shouldReadTheSourceOnDemand() {
+        AtomicInteger read = new AtomicInteger();
+        Stream<Integer> source = IntStream.range(0, 1_000).boxed().peek(value -> read.incrementAndGet());
+
+        try (Stream<Integer> result = BatchedMapper.map(source, value -> value, 2, 10, true, EXECUTOR)) {
+            assertThat(result.findFirst()).contains(0);
+        }
+
+        assertThat(read.get()).isLessThanOrEqualTo(20);
+    }
+
+    @Test
+    void shouldCloseTheSource() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Integer> source = Stream.of(1, 2, 3).onClose(() -> closed.set(true));
+
+        BatchedMapper.map(source, value -> value, 2, 2, true, EXECUTOR).close();
+
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void shouldThrowTheFailureOfTheMapper() {
+        Stream<Integer> source = IntStream.range(0, 50).boxed();
+
+        assertThatThrownBy(() -> BatchedMapper.map(source, value -> {
+            if (value == 23) {
+                throw new IllegalStateException("failure");
+            }
+            return value;
+        }, 3, 5, true, EXECUTOR).toList()).isInstanceOf(IllegalStateException.class).hasMessage("failure");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    void shouldConvertOnTheConsumerWhenTheExecutorIsBusy(boolean ordered) {
+        Stream<Integer> source = IntStream.range(0, 20).boxed();
+        Executor busy = command -> {
+        };
+
+        List<Integer> result = BatchedMapper.map(source, value -> value * 2, 3, 4, ordered, busy).toList();
+
+        assertThat(result).containsExactlyInAnyOrderElementsOf(IntStream.range(0, 20).map(v -> v * 2).boxed().toList());
+    }
+
+    @Test
+    void shouldReturnEmptyWhenSourceIsEmpty() {
+        assertThat(BatchedMapper.map(Stream.<Integer>empty(), value -> value, 2, 2, false, EXECUTOR).toList()).isEmpty();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
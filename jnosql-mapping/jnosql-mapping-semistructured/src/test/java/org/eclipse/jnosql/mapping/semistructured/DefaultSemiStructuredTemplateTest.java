@@ -26,13 +26,16 @@ import org.eclipse.jnosql.mapping.PreparedStatement;
 import org.assertj.core.api.SoftAssertions;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.CriteriaCondition;
+import org.eclipse.jnosql.communication.semistructured.DatabaseCapability;
 import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
 import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.IdNotFoundException;
 import org.eclipse.jnosql.mapping.core.NoSQLPage;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
 import org.eclipse.jnosql.mapping.semistructured.entities.Job;
 import org.eclipse.jnosql.mapping.semistructured.entities.Person;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -52,9 +55,13 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.jnosql.communication.semistructured.DeleteQuery.delete;
 import static org.eclipse.jnosql.communication.semistructured.SelectQuery.select;
 import static org.junit.jupiter.api.Assertions.*;
@@ -207,6 +214,7 @@ class DefaultSemiStructuredTemplateTest {
 
     }
 
+    @SuppressWarnings("unchecked")
     @Test
     void shouldInsertEntitiesTTL() {
         var communicationEntity = CommunicationEntity.of("Person");
@@ -214,37 +222,106 @@ class DefaultSemiStructuredTemplateTest {
         Duration duration = Duration.ofHours(2);
 
         Mockito.when(managerMock
-                        .insert(any(CommunicationEntity.class), Mockito.eq(duration)))
-                .thenReturn(communicationEntity);
+                        .insert(any(Iterable.class), Mockito.eq(duration)))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
         template.insert(Arrays.asList(person, person), duration);
-        verify(managerMock, times(2)).insert(any(CommunicationEntity.class), any(Duration.class));
+        verify(managerMock).insert(any(Iterable.class), any(Duration.class));
+        verify(managerMock, Mockito.never()).insert(any(CommunicationEntity.class), any(Duration.class));
+        verify(eventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
     }
 
+    @SuppressWarnings("unchecked")
     @Test
     void shouldInsertEntities() {
         var communicationEntity = CommunicationEntity.of("Person");
         communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                        .insert(any(CommunicationEntity.class)))
-                .thenReturn(communicationEntity);
+                        .insert(any(Iterable.class)))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
         template.insert(Arrays.asList(person, person));
-        verify(managerMock, times(2)).insert(any(CommunicationEntity.class));
+        verify(managerMock).insert(any(Iterable.class));
+        verify(managerMock, Mockito.never()).insert(any(CommunicationEntity.class));
+        verify(eventPersistManager, times(2)).firePreEntity(any(Person.class));
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
     }
 
+    @SuppressWarnings("unchecked")
     @Test
     void shouldUpdateEntities() {
         var communicationEntity = CommunicationEntity.of("Person");
         communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
 
         Mockito.when(managerMock
-                        .update(any(CommunicationEntity.class)))
-                .thenReturn(communicationEntity);
+                        .update(any(Iterable.class)))
+                .thenReturn(List.of(communicationEntity, communicationEntity));
 
         template.update(Arrays.asList(person, person));
-        verify(managerMock, times(2)).update(any(CommunicationEntity.class));
+        verify(managerMock).update(any(Iterable.class));
+        verify(managerMock, Mockito.never()).update(any(CommunicationEntity.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldInsertEntitiesInBatches() {
+        var batchTemplate = new DefaultSemiStructuredTemplate(converter, instance(), eventPersistManager,
+                entities, converters) {
+            @Override
+            protected int batchSize() {
+                return 2;
+            }
+        };
+        ArgumentCaptor<Iterable<CommunicationEntity>> batches = ArgumentCaptor.forClass(Iterable.class);
+        Mockito.when(managerMock.insert(batches.capture())).thenAnswer(invocation -> invocation.getArgument(0));
+        var people = Stream.of(1L, 2L, 3L, 4L, 5L)
+                .map(id -> Person.builder().id(id).name("Name " + id).build())
+                .toList();
+
+        Iterable<Person> result = batchTemplate.insert(people);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(batches.getAllValues()).extracting(b -> ((List<?>) b).size())
+                    .containsExactly(2, 2, 1);
+            soft.assertThat(result).extracting(Person::getId).containsExactly(1L, 2L, 3L, 4L, 5L);
+        });
+        verify(eventPersistManager, times(5)).firePreEntity(any(Person.class));
+        verify(eventPersistManager, times(5)).firePostEntity(any(Person.class));
+        verify(eventPersistManager).firePostEntities((List<Person>) result);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldMapUpdatedEntitiesByPosition() {
+        var communicationEntity = CommunicationEntity.of("Person");
+        communicationEntity.addAll(Stream.of(columns).collect(Collectors.toList()));
+        Mockito.when(managerMock.update(any(Iterable.class))).thenReturn(List.of(communicationEntity));
+        Person first = Person.builder().id(1L).build();
+        Person second = Person.builder().id(2L).name("Second").build();
+
+        Iterable<Person> result = template.update(List.of(first, second));
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(result).containsExactly(first, second);
+            soft.assertThat(first.getAge()).isEqualTo(10);
+            soft.assertThat(second.getName()).isEqualTo("Second");
+        });
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    void shouldNotCallManagerWhenEntitiesAreEmpty() {
+        assertThat(template.insert(List.of())).isEmpty();
+        Mockito.verifyNoInteractions(managerMock);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Instance<DatabaseManager> instance() {
+        Instance<DatabaseManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        return instance;
     }
 
     @Test
@@ -262,6 +339,38 @@ class DefaultSemiStructuredTemplateTest {
         verify(managerMock).select(query);
     }
 
+    @Test
+    void shouldSelectWithParallelMaterialization() {
+        var parallelTemplate = new DefaultSemiStructuredTemplate(converter, instance(), eventPersistManager,
+                entities, converters) {
+            @Override
+            protected int materializationParallelism() {
+                return 3;
+            }
+
+            @Override
+            protected int batchSize() {
+                return 2;
+            }
+        };
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<CommunicationEntity> rows = LongStream.rangeClosed(1, 9)
+                .mapToObj(id -> CommunicationEntity.of("Person", List.of(Element.of("_id", id),
+                        Element.of("name", "Name " + id))));
+        Mockito.when(managerMock.select(any(SelectQuery.class))).thenReturn(rows.onClose(() -> closed.set(true)));
+
+        List<Person> people;
+        try (Stream<Person> result = parallelTemplate.select(select().from("Person").orderBy("_id").asc().build())) {
+            people = result.toList();
+        }
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(people).extracting(Person::getId).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+            soft.assertThat(closed).isTrue();
+        });
+        verify(eventPersistManager, times(9)).firePostEntity(any(Person.class));
+    }
+
     @Test
     void shouldCountBy() {
         SelectQuery query = select().from("person").build();
@@ -370,6 +479,43 @@ class DefaultSemiStructuredTemplateTest {
         assertEquals(CriteriaCondition.eq(Element.of("_id", 10L)), condition);
     }
 
+    @Test
+    void shouldFindAsync() {
+        CommunicationEntity entity = CommunicationEntity.of("Person", Arrays.asList(columns));
+        Mockito.when(managerMock.select(any(SelectQuery.class))).thenReturn(Stream.of(entity));
+
+        Optional<Person> person = template.findAsync(Person.class, 19L).toCompletableFuture().join();
+        assertThat(person).map(Person::getName).contains("Name");
+    }
+
+    @Test
+    void shouldSelectAsync() {
+        CommunicationEntity entity = CommunicationEntity.of("Person", Arrays.asList(columns));
+        Mockito.when(managerMock.select(any(SelectQuery.class))).thenReturn(Stream.of(entity, entity));
+
+        List<Person> people = template.<Person>selectAsync(select().from("Person").build())
+                .toCompletableFuture().join();
+        assertThat(people).hasSize(2).allMatch(p -> "Name".equals(p.getName()));
+    }
+
+    @Test
+    void shouldInsertAndDeleteAsync() {
+        var communicationEntity = CommunicationEntity.of("Person", Arrays.asList(columns));
+        Mockito.when(managerMock.insert(any(CommunicationEntity.class))).thenReturn(communicationEntity);
+
+        assertThat(template.insertAsync(person).toCompletableFuture().join()).isNotNull();
+        template.deleteAsync(Person.class, 19L).toCompletableFuture().join();
+        verify(managerMock).insert(any(CommunicationEntity.class));
+        verify(managerMock).delete(any(DeleteQuery.class));
+    }
+
+    @Test
+    void shouldReturnErrorWhenAsyncParametersAreNull() {
+        assertThrows(NullPointerException.class, () -> template.findAsync(Person.class, null));
+        assertThrows(NullPointerException.class, () -> template.selectAsync(null));
+        assertThrows(NullPointerException.class, () -> template.insertAsync(null));
+    }
+
     @Test
     void shouldDeleteEntity() {
         template.delete(Person.class, "10");
@@ -475,9 +621,19 @@ class DefaultSemiStructuredTemplateTest {
         var query = captor.getValue();
         SoftAssertions.assertSoftly(soft -> {
             soft.assertThat(query.condition()).isEmpty();
+            soft.assertThat(query.columns()).containsExactly("_id");
         });
     }
 
+    @Test
+    void shouldCountAllColumnsWhenManagerCounts() {
+        Mockito.when(managerMock.supports(DatabaseCapability.COUNT)).thenReturn(true);
+        template.count(Person.class);
+        var captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(managerMock).count(captor.capture());
+        assertThat(captor.getValue().columns()).isEmpty();
+    }
+
 
     @Test
     void shouldFindAll() {
@@ -578,6 +734,145 @@ class DefaultSemiStructuredTemplateTest {
         });
     }
 
+    @Test
+    void shouldReadFindFromEntityCache() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(Person.class.getName()));
+        var cached = cachedTemplate(cache);
+        Mockito.when(managerMock.singleResult(any(SelectQuery.class)))
+                .thenReturn(Optional.of(CommunicationEntity.of("Person", Arrays.asList(columns))));
+
+        Optional<Person> first = cached.find(Person.class, 19L);
+        Optional<Person> second = cached.find(Person.class, "19");
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(first).map(Person::getName).contains("Name");
+            soft.assertThat(second).map(Person::getName).contains("Name");
+            soft.assertThat(cache.hits()).isEqualTo(1L);
+            soft.assertThat(cache.misses()).isEqualTo(1L);
+        });
+        verify(managerMock).singleResult(any(SelectQuery.class));
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    void shouldNotUseEntityCacheWhenEntityIsNotCacheable() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of());
+        var cached = cachedTemplate(cache);
+
+        cached.find(Person.class, 19L);
+        cached.find(Person.class, 19L);
+
+        verify(managerMock, times(2)).select(any(SelectQuery.class));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictEntityCacheOnUpdate() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(Person.class.getName()));
+        var cached = cachedTemplate(cache);
+        Mockito.when(managerMock.singleResult(any(SelectQuery.class)))
+                .thenReturn(Optional.of(CommunicationEntity.of("Person", Arrays.asList(columns))));
+        Mockito.when(managerMock.update(any(CommunicationEntity.class))).thenAnswer(i -> i.getArgument(0));
+
+        cached.find(Person.class, 19L);
+        cached.update(person);
+        cached.find(Person.class, 19L);
+
+        verify(managerMock, times(2)).singleResult(any(SelectQuery.class));
+        assertThat(cache.misses()).isEqualTo(2L);
+    }
+
+    @Test
+    void shouldEvictEntityCacheOnDeleteById() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(Person.class.getName()));
+        var cached = cachedTemplate(cache);
+        Mockito.when(managerMock.singleResult(any(SelectQuery.class)))
+                .thenReturn(Optional.of(CommunicationEntity.of("Person", Arrays.asList(columns))));
+
+        cached.find(Person.class, 19L);
+        cached.delete(Person.class, 19L);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldEvictEntityCacheOnDeleteAndUpdateQuery() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(Person.class.getName()));
+        var cached = cachedTemplate(cache);
+        Mockito.when(managerMock.singleResult(any(SelectQuery.class)))
+                .thenReturn(Optional.of(CommunicationEntity.of("Person", Arrays.asList(columns))));
+        var updateQuery = Mockito.mock(UpdateQuery.class);
+        Mockito.when(updateQuery.name()).thenReturn("Person");
+        Mockito.when(managerMock.updateCount(updateQuery)).thenReturn(3L);
+
+        cached.find(Person.class, 19L);
+        cached.delete(delete().from("Person").build());
+        int afterDelete = cache.size();
+        cached.find(Person.class, 19L);
+        long updated = cached.updateCount(updateQuery);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(afterDelete).isZero();
+            soft.assertThat(updated).isEqualTo(3L);
+            soft.assertThat(cache.size()).isZero();
+        });
+    }
+
+    @Test
+    void shouldEvictEntityCacheAfterDeleteAll() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(Person.class.getName()));
+        var cached = cachedTemplate(cache);
+        Mockito.when(managerMock.singleResult(any(SelectQuery.class)))
+                .thenReturn(Optional.of(CommunicationEntity.of("Person", Arrays.asList(columns))));
+        Mockito.doAnswer(invocation -> cached.find(Person.class, 19L))
+                .when(managerMock).delete(any(DeleteQuery.class));
+
+        cached.deleteAll(Person.class);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldClearEntityCacheOnDeleteQueryText() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(Person.class.getName()));
+        var cached = cachedTemplate(cache);
+        Mockito.when(managerMock.singleResult(any(SelectQuery.class)))
+                .thenReturn(Optional.of(CommunicationEntity.of("Person", Arrays.asList(columns))));
+
+        cached.find(Person.class, 19L);
+        cached.query("DELETE FROM Person WHERE name = 'Name'");
+        int afterQuery = cache.size();
+        cached.find(Person.class, 19L);
+        cached.prepare("DELETE FROM Person WHERE name = :name").bind("name", "Name").result();
+
+        assertThat(afterQuery).isZero();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldKeepTheEntityCacheOfOtherEntitiesOnQueryText() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(Person.class.getName()));
+        var cached = cachedTemplate(cache);
+        Mockito.when(managerMock.singleResult(any(SelectQuery.class)))
+                .thenReturn(Optional.of(CommunicationEntity.of("Person", Arrays.asList(columns))));
+
+        cached.find(Person.class, 19L);
+        cached.query("DELETE FROM movie WHERE title = 'Matrix'");
+        cached.prepare("UPDATE movie SET title = :title").bind("title", "Matrix").result();
+
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    private DefaultSemiStructuredTemplate cachedTemplate(EntityCache cache) {
+        Instance<DatabaseManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        return new DefaultSemiStructuredTemplate(converter, instance, eventPersistManager, entities, converters) {
+            @Override
+            public EntityCache entityCache() {
+                return cache;
+            }
+        };
+    }
 
     private List<CommunicationEntity> content() {
         CommunicationEntity columnEntity = CommunicationEntity.of("Person");
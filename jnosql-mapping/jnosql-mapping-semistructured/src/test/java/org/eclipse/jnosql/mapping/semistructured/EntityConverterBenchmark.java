@@ -0,0 +1,149 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.enterprise.inject.Vetoed;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.metadata.ClassConverter;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.EntityMetadata;
+import org.eclipse.jnosql.mapping.metadata.InheritanceMetadata;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link EntityConverter#toCommunication(Object)}, which uses the {@link EncodePlan} of the entity,
+ * against the previous path that creates an {@link AttributeFieldValue} and a list of elements per field.
+ *
+ * <p>Run it with the {@link #main(String[])} method from the test classpath. Add {@code -prof gc} to the
+ * JMH options to compare the allocation rate.</p>
+ */
+@Vetoed
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityConverterBenchmark {
+
+    private EntityConverter converter;
+
+    private Person person;
+
+    @Setup
+    public void setUp() {
+        converter = new BenchmarkConverter();
+        person = Person.builder().id(10L).name("Ada").age(30)
+                .phones(List.of("123", "456"))
+                .mobiles(new String[]{"789"})
+                .build();
+    }
+
+    @Benchmark
+    public CommunicationEntity streamPerField() {
+        EntityMetadata mapping = converter.entities().get(person.getClass());
+        CommunicationEntity communication = CommunicationEntity.of(mapping.name());
+        mapping.fields().stream()
+                .map(f -> converter.to(f, person))
+                .map(f -> f.toElements(converter, converter.converters()))
+                .flatMap(List::stream)
+                .forEach(communication::add);
+        mapping.inheritance().ifPresent(i -> communication.add(i.discriminatorColumn(),
+                i.discriminatorValue()));
+        return communication;
+    }
+
+    @Benchmark
+    public CommunicationEntity encodePlan() {
+        return converter.toCommunication(person);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EntityConverterBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+    @Vetoed
+    static final class BenchmarkConverter extends EntityConverter {
+
+        private final EntitiesMetadata entities = new BenchmarkEntities();
+
+        private final Converters converters = new Converters();
+
+        @Override
+        protected EntitiesMetadata entities() {
+            return entities;
+        }
+
+        @Override
+        protected Converters converters() {
+            return converters;
+        }
+    }
+
+    @Vetoed
+    static final class BenchmarkEntities implements EntitiesMetadata {
+
+        private final ClassConverter classConverter = ClassConverter.load();
+
+        private final Map<Class<?>, EntityMetadata> classes = new ConcurrentHashMap<>();
+
+        @Override
+        public EntityMetadata get(Class<?> entity) {
+            return classes.computeIfAbsent(entity, classConverter);
+        }
+
+        @Override
+        public Map<String, InheritanceMetadata> findByParentGroupByDiscriminatorValue(Class<?> parent) {
+            return Map.of();
+        }
+
+        @Override
+        public EntityMetadata findByName(String name) {
+            throw new UnsupportedOperationException("The benchmark only converts to communication");
+        }
+
+        @Override
+        public Optional<EntityMetadata> findBySimpleName(String name) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<EntityMetadata> findByClassName(String name) {
+            return Optional.empty();
+        }
+    }
+}
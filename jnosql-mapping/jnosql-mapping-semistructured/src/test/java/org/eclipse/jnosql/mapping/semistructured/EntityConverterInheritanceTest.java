@@ -31,17 +31,21 @@ import org.eclipse.jnosql.mapping.semistructured.entities.inheritance.SmsNotific
 import org.eclipse.jnosql.mapping.semistructured.entities.inheritance.SocialMediaNotification;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
 import org.jboss.weld.junit5.auto.AddExtensions;
 import org.jboss.weld.junit5.auto.AddPackages;
 import org.jboss.weld.junit5.auto.EnableAutoWeld;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mockito;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -225,6 +229,36 @@ class EntityConverterInheritanceTest {
         assertEquals(notification.getCreatedOn(), entity.find("createdOn", LocalDate.class).get());
     }
 
+    @Test
+    void shouldFindTheSubtypesAddedAfterAMiss(){
+        EntitiesMetadata entities = converter.entities();
+        EntitiesMetadata metadata = Mockito.mock(EntitiesMetadata.class, AdditionalAnswers.delegatesTo(entities));
+        Mockito.doReturn(Map.of())
+                .doAnswer(invocation -> entities.findByParentGroupByDiscriminatorValue(Notification.class))
+                .when(metadata).findByParentGroupByDiscriminatorValue(Notification.class);
+        EntityConverter custom = new EntityConverter() {
+            @Override
+            protected EntitiesMetadata entities() {
+                return metadata;
+            }
+
+            @Override
+            protected Converters converters() {
+                return converter.converters();
+            }
+        };
+        CommunicationEntity entity = CommunicationEntity.of("Notification");
+        entity.add("_id", 100L);
+        entity.add("name", "SMS Notification");
+        entity.add("phone", "+351987654123");
+        entity.add("dtype", "SMS");
+
+        Assertions.assertThrows(MappingException.class, () -> custom.toEntity(entity));
+        SmsNotification notification = custom.toEntity(entity);
+
+        Assertions.assertEquals("+351987654123", notification.getPhone());
+    }
+
     @Test
     void shouldReturnErrorWhenConvertMissingColumn(){
         LocalDate date = LocalDate.now();
@@ -248,6 +282,31 @@ class EntityConverterInheritanceTest {
         Assertions.assertThrows(MappingException.class, ()-> this.converter.toEntity(entity));
     }
 
+    @Test
+    void shouldConvertRowsOfDifferentSubtypesWithTheSameConverter() {
+        CommunicationEntity wrong = CommunicationEntity.of("Notification");
+        wrong.add("_id", 100L);
+        wrong.add("dtype", "Wrong");
+        CommunicationEntity sms = CommunicationEntity.of("Notification");
+        sms.add("_id", 101L);
+        sms.add("phone", "+351987654123");
+        sms.add("dtype", "SMS");
+        CommunicationEntity email = CommunicationEntity.of("Notification");
+        email.add("_id", 102L);
+        email.add("email", "otavio@otavio.test");
+        email.add("dtype", "Email");
+
+        Assertions.assertThrows(MappingException.class, () -> this.converter.toEntity(wrong));
+        Notification first = this.converter.toEntity(sms);
+        Notification second = this.converter.toEntity(email);
+        Assertions.assertThrows(MappingException.class, () -> this.converter.toEntity(wrong));
+
+        assertThat(first).isInstanceOf(SmsNotification.class);
+        assertThat(second).isInstanceOf(EmailNotification.class);
+        assertThat(((SmsNotification) first).getPhone()).isEqualTo("+351987654123");
+        assertThat(((EmailNotification) second).getEmail()).isEqualTo("otavio@otavio.test");
+    }
+
 
 
     @Test
@@ -22,6 +22,8 @@ import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.Element;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.metadata.FieldMetadata;
 import org.eclipse.jnosql.mapping.reflection.Reflections;
 import org.eclipse.jnosql.mapping.semistructured.entities.Actor;
 import org.eclipse.jnosql.mapping.semistructured.entities.Address;
@@ -71,6 +73,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
@@ -969,6 +972,107 @@ class EntityConverterTest {
         });
     }
 
+    @Test
+    void shouldUseFirstNonNullElementWhenNameIsRepeated() {
+        List<Element> elements = List.of(Element.of("_id", 12L), Element.of("name", null),
+                Element.of("name", "Ada"), Element.of("name", "Grace"), Element.of("age", 30));
+
+        Person person = converter.toEntity(Person.class, elements);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(person.getId()).isEqualTo(12L);
+            softly.assertThat(person.getName()).isEqualTo("Ada");
+            softly.assertThat(person.getAge()).isEqualTo(30);
+        });
+    }
+
+    @Test
+    void shouldIgnoreElementsWithoutFieldOnWideStructure() {
+        CommunicationEntity communication = CommunicationEntity.of("Person");
+        for (int index = 0; index < 200; index++) {
+            communication.add("attribute" + index, index);
+        }
+        communication.add("_id", 12L);
+        communication.add("name", "Ada");
+
+        Person person = converter.toEntity(communication);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(person.getId()).isEqualTo(12L);
+            softly.assertThat(person.getName()).isEqualTo("Ada");
+            softly.assertThat(person.getPhones()).isNull();
+        });
+    }
+
+
+    @Test
+    void shouldReadTheFieldsThroughTheOverriddenTo() {
+        EntityConverter custom = new EntityConverter() {
+            @Override
+            protected EntitiesMetadata entities() {
+                return converter.entities();
+            }
+
+            @Override
+            protected Converters converters() {
+                return converter.converters();
+            }
+
+            @Override
+            protected AttributeFieldValue to(FieldMetadata field, Object entity) {
+                if ("name".equals(field.name())) {
+                    return DefaultAttributeFieldValue.of("masked", field);
+                }
+                return super.to(field, entity);
+            }
+        };
+        Person person = Person.builder().id(12).name("Ada").age(30).build();
+
+        CommunicationEntity communication = custom.toCommunication(person);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(communication.find("name").map(Element::get)).contains("masked");
+            softly.assertThat(communication.find("_id").map(Element::get)).contains(12L);
+            softly.assertThat(converter.toCommunication(person).find("name").map(Element::get)).contains("Ada");
+        });
+    }
+
+    @Test
+    void shouldReadTheEntityThroughTheOverriddenFeedObject() {
+        EntityConverter custom = new EntityConverter() {
+            @Override
+            protected EntitiesMetadata entities() {
+                return converter.entities();
+            }
+
+            @Override
+            protected Converters converters() {
+                return converter.converters();
+            }
+
+            @Override
+            protected <T> Consumer<String> feedObject(T entity, List<Element> elements,
+                                                      Map<String, FieldMetadata> fieldsGroupByName) {
+                Consumer<String> feed = super.feedObject(entity, elements, fieldsGroupByName);
+                return name -> {
+                    if (!"name".equals(name)) {
+                        feed.accept(name);
+                    }
+                };
+            }
+        };
+        CommunicationEntity communication = CommunicationEntity.of("Person",
+                List.of(Element.of("_id", 12L), Element.of("name", "Ada"), Element.of("age", 30)));
+
+        Person person = custom.toEntity(Person.class, communication);
+
+        SoftAssertions.assertSoftly(softly -> {
+            softly.assertThat(person.getId()).isEqualTo(12L);
+            softly.assertThat(person.getAge()).isEqualTo(30);
+            softly.assertThat(person.getName()).isNull();
+            softly.assertThat(converter.<Person>toEntity(communication).getName()).isEqualTo("Ada");
+        });
+    }
 
     private Object getValue(Optional<Element> column) {
         return column.map(Element::value).map(Value::get).orElse(null);
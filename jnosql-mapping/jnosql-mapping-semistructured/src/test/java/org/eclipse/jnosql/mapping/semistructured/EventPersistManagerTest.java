@@ -15,6 +15,8 @@
 package org.eclipse.jnosql.mapping.semistructured;
 
 import jakarta.enterprise.event.Event;
+import jakarta.enterprise.inject.spi.BeanManager;
+import org.eclipse.jnosql.mapping.EntitiesPostPersist;
 import org.eclipse.jnosql.mapping.EntityPostPersist;
 import org.eclipse.jnosql.mapping.EntityPrePersist;
 import org.junit.jupiter.api.Test;
@@ -24,8 +26,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class EventPersistManagerTest {
@@ -41,6 +49,12 @@ class EventPersistManagerTest {
     @Mock
     private Event<EntityPostPersist> entityPostPersistEvent;
 
+    @Mock
+    private Event<EntitiesPostPersist> entitiesPostPersistEvent;
+
+    @Mock
+    private BeanManager beanManager;
+
 
 
 
@@ -69,6 +83,34 @@ class EventPersistManagerTest {
     }
 
 
+    @Test
+    void shouldFirePostEntities() {
+        Jedi jedi = new Jedi();
+        jedi.name = "Luke";
+        subject.firePostEntities(List.of(jedi));
+        ArgumentCaptor<EntitiesPostPersist> captor = ArgumentCaptor.forClass(EntitiesPostPersist.class);
+        verify(entitiesPostPersistEvent).fire(captor.capture());
+        assertEquals(List.of(jedi), captor.getValue().get());
+    }
+
+    @Test
+    void shouldNotFirePostEntitiesWhenEmpty() {
+        subject.firePostEntities(List.of());
+        verifyNoInteractions(entitiesPostPersistEvent);
+    }
+
+    @Test
+    void shouldNotFireWhenThereAreNoObservers() {
+        doReturn(Set.of()).when(beanManager).resolveObserverMethods(any());
+        subject.init();
+        Jedi jedi = new Jedi();
+        jedi.name = "Luke";
+        subject.firePreEntity(jedi);
+        subject.firePostEntity(jedi);
+        subject.firePostEntities(List.of(jedi));
+        verifyNoInteractions(entityPrePersistEvent, entityPostPersistEvent, entitiesPostPersistEvent);
+    }
+
     static class Jedi {
         private String name;
     }
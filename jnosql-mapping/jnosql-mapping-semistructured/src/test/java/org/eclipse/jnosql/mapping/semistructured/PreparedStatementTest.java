@@ -18,6 +18,7 @@ import jakarta.inject.Inject;
 import org.assertj.core.api.Assertions;
 import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
 import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.communication.semistructured.UpdateQuery;
 import org.eclipse.jnosql.mapping.core.Converters;
 import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
 import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
@@ -54,6 +55,43 @@ class PreparedStatementTest {
         Assertions.assertThat(preparedStatement.count()).isEqualTo(10L);
     }
 
+    @Test
+    void shouldCopy(){
+        var communicationPreparedStatement = Mockito.mock(org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement.class);
+        var copy = Mockito.mock(org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement.class);
+        Mockito.when(communicationPreparedStatement.copy()).thenReturn(copy);
+        Mockito.when(copy.count()).thenReturn(10L);
+        var preparedStatement = new PreparedStatement(communicationPreparedStatement, converter, new MapperObserver(entitiesMetadata), entitiesMetadata);
+        var statement = preparedStatement.copy();
+        statement.bind("age", 10);
+        Assertions.assertThat(statement.count()).isEqualTo(10L);
+        Mockito.verify(copy).bind("age", 10);
+        Mockito.verify(communicationPreparedStatement, Mockito.never()).bind("age", 10);
+    }
+
+    @Test
+    void shouldUpdateCountByTheId(){
+        var communicationPreparedStatement = Mockito.mock(org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement.class);
+        var query = Mockito.mock(UpdateQuery.class);
+        Mockito.when(query.name()).thenReturn("Person");
+        Mockito.when(communicationPreparedStatement.update()).thenReturn(Optional.of(query));
+        Mockito.when(communicationPreparedStatement.updateCount("_id")).thenReturn(10L);
+        var preparedStatement = new PreparedStatement(communicationPreparedStatement, converter, new MapperObserver(entitiesMetadata), entitiesMetadata);
+        Assertions.assertThat(preparedStatement.isUpdate()).isTrue();
+        Assertions.assertThat(preparedStatement.updateCount()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldUpdateCountWhenEntityIsNotMapped(){
+        var communicationPreparedStatement = Mockito.mock(org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement.class);
+        var query = Mockito.mock(UpdateQuery.class);
+        Mockito.when(query.name()).thenReturn("Unknown");
+        Mockito.when(communicationPreparedStatement.update()).thenReturn(Optional.of(query));
+        Mockito.when(communicationPreparedStatement.updateCount()).thenReturn(3L);
+        var preparedStatement = new PreparedStatement(communicationPreparedStatement, converter, new MapperObserver(entitiesMetadata), entitiesMetadata);
+        Assertions.assertThat(preparedStatement.updateCount()).isEqualTo(3L);
+    }
+
     @Test
     void shouldReturnFalseWhenQueryIsEmpty(){
         var communicationPreparedStatement = Mockito.mock(org.eclipse.jnosql.communication.semistructured.CommunicationPreparedStatement.class);
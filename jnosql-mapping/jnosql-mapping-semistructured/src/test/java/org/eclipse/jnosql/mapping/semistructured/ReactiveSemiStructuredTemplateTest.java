@@ -0,0 +1,284 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import org.eclipse.jnosql.communication.semistructured.CommunicationEntity;
+import org.eclipse.jnosql.communication.semistructured.DatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.DeleteQuery;
+import org.eclipse.jnosql.communication.semistructured.Element;
+import org.eclipse.jnosql.communication.semistructured.ReactiveDatabaseManager;
+import org.eclipse.jnosql.communication.semistructured.SelectQuery;
+import org.eclipse.jnosql.mapping.core.Converters;
+import org.eclipse.jnosql.mapping.core.cache.EntityCache;
+import org.eclipse.jnosql.mapping.core.spi.EntityMetadataExtension;
+import org.eclipse.jnosql.mapping.metadata.EntitiesMetadata;
+import org.eclipse.jnosql.mapping.reflection.Reflections;
+import org.eclipse.jnosql.mapping.semistructured.entities.Person;
+import org.jboss.weld.junit5.auto.AddExtensions;
+import org.jboss.weld.junit5.auto.AddPackages;
+import org.jboss.weld.junit5.auto.EnableAutoWeld;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@EnableAutoWeld
+@AddPackages(value = {Converters.class, EntityConverter.class})
+@AddPackages(MockProducer.class)
+@AddPackages(Reflections.class)
+@AddExtensions({EntityMetadataExtension.class})
+class ReactiveSemiStructuredTemplateTest {
+
+    @Inject
+    private EntityConverter converter;
+
+    @Inject
+    private EntitiesMetadata entities;
+
+    @Inject
+    private Converters converters;
+
+    private DatabaseManager managerMock;
+
+    private EventPersistManager eventPersistManager;
+
+    private ReactiveSemiStructuredTemplate template;
+
+    @BeforeEach
+    void setUp() {
+        managerMock = Mockito.mock(DatabaseManager.class);
+        eventPersistManager = Mockito.mock(EventPersistManager.class);
+        template = semiStructured(EntityCache.of()).reactive();
+    }
+
+    @Test
+    void shouldConvertOnlyRequestedEntities() {
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        Mockito.when(managerMock.select(query)).thenReturn(people(10));
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        template.<Person>select(query).subscribe(subscriber);
+
+        subscriber.subscription.request(2);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).extracting(Person::getName).containsExactly("Ada 0", "Ada 1");
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+        verify(eventPersistManager, times(2)).firePostEntity(any(Person.class));
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).hasSize(10);
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+        verify(eventPersistManager, times(10)).firePostEntity(any(Person.class));
+    }
+
+    @Test
+    void shouldInsertWhenRequested() {
+        Person person = Person.builder().id(10L).name("Ada").age(30).build();
+        Mockito.when(managerMock.insert(anyIterable())).thenAnswer(invocation -> invocation.getArgument(0));
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        template.insert(person).subscribe(subscriber);
+        verify(eventPersistManager, never()).firePreEntity(any());
+
+        subscriber.subscription.request(1);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactly(person);
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+        verify(eventPersistManager).firePreEntity(person);
+        verify(eventPersistManager).firePostEntity(person);
+    }
+
+    @Test
+    void shouldInsertEntitiesInOrder() {
+        List<Person> people = IntStream.range(0, 5)
+                .mapToObj(index -> Person.builder().id(index).name("Ada " + index).age(30).build())
+                .toList();
+        Mockito.when(managerMock.insert(anyIterable())).thenAnswer(invocation -> invocation.getArgument(0));
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        template.insert(people).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).containsExactlyElementsOf(people);
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+        verify(eventPersistManager, times(5)).firePreEntity(any(Person.class));
+    }
+
+    @Test
+    void shouldSignalErrorWhenConversionFails() {
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        Mockito.when(managerMock.select(query)).thenReturn(Stream.of(CommunicationEntity.of("Unknown")));
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        template.<Person>select(query).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertSoftly(soft -> {
+            soft.assertThat(subscriber.items).isEmpty();
+            soft.assertThat(subscriber.error).isNotNull();
+            soft.assertThat(subscriber.completed).isFalse();
+        });
+    }
+
+    @Test
+    void shouldDelete() {
+        DeleteQuery query = DeleteQuery.delete().from("Person").build();
+        RecordingSubscriber<Void> subscriber = new RecordingSubscriber<>();
+        template.delete(query).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        verify(managerMock).delete(query);
+        assertThat(subscriber.completed).isTrue();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateFromTemplate() throws InterruptedException {
+        Instance<DatabaseManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        var semiStructured = new DefaultSemiStructuredTemplate(converter, instance, eventPersistManager,
+                entities, converters);
+        SelectQuery query = SelectQuery.select().from("Person").build();
+        Mockito.when(managerMock.select(query)).thenReturn(people(3));
+        CountDownLatch latch = new CountDownLatch(1);
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>(latch);
+        semiStructured.reactive().<Person>select(query).subscribe(subscriber);
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subscriber.items).hasSize(3);
+    }
+
+    @Test
+    void shouldEvictTheEntityCacheOnInsert() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(Person.class.getName()));
+        var semiStructured = semiStructured(cache);
+        Mockito.when(managerMock.singleResult(any(SelectQuery.class))).thenReturn(people(1).findFirst());
+        Mockito.when(managerMock.insert(anyIterable())).thenAnswer(invocation -> invocation.getArgument(0));
+        semiStructured.find(Person.class, 0L);
+        int beforeInsert = cache.size();
+
+        RecordingSubscriber<Person> subscriber = new RecordingSubscriber<>();
+        semiStructured.reactive().insert(Person.builder().id(0L).name("Ada").age(30).build()).subscribe(subscriber);
+        subscriber.subscription.request(1);
+
+        assertSoftly(soft -> {
+            soft.assertThat(beforeInsert).isEqualTo(1);
+            soft.assertThat(cache.size()).isZero();
+        });
+    }
+
+    @Test
+    void shouldEvictTheEntityCacheOnDelete() {
+        var cache = EntityCache.of(10, Duration.ofMinutes(1), Set.of(Person.class.getName()));
+        var semiStructured = semiStructured(cache);
+        Mockito.when(managerMock.singleResult(any(SelectQuery.class))).thenReturn(people(1).findFirst());
+        semiStructured.find(Person.class, 0L);
+        DeleteQuery query = DeleteQuery.delete().from("Person").build();
+
+        RecordingSubscriber<Void> subscriber = new RecordingSubscriber<>();
+        semiStructured.reactive().delete(query).subscribe(subscriber);
+        int beforeDelete = cache.size();
+        subscriber.subscription.request(1);
+
+        assertSoftly(soft -> {
+            soft.assertThat(beforeDelete).isEqualTo(1);
+            soft.assertThat(cache.size()).isZero();
+            soft.assertThat(subscriber.completed).isTrue();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private DefaultSemiStructuredTemplate semiStructured(EntityCache cache) {
+        Instance<DatabaseManager> instance = Mockito.mock(Instance.class);
+        Mockito.when(instance.get()).thenReturn(managerMock);
+        return new DefaultSemiStructuredTemplate(converter, instance, eventPersistManager, entities, converters) {
+            @Override
+            public EntityCache entityCache() {
+                return cache;
+            }
+
+            @Override
+            protected ReactiveDatabaseManager reactiveManager() {
+                return ReactiveDatabaseManager.of(managerMock, Runnable::run);
+            }
+        };
+    }
+
+    private static Stream<CommunicationEntity> people(int size) {
+        return IntStream.range(0, size).mapToObj(index -> CommunicationEntity.of("Person",
+                List.of(Element.of("_id", index), Element.of("name", "Ada " + index), Element.of("age", 30))));
+    }
+
+    private static final class RecordingSubscriber<T> implements Flow.Subscriber<T> {
+
+        private final List<T> items = new ArrayList<>();
+
+        private final CountDownLatch latch;
+
+        private Flow.Subscription subscription;
+
+        private volatile boolean completed;
+
+        private volatile Throwable error;
+
+        private RecordingSubscriber() {
+            this(new CountDownLatch(1));
+        }
+
+        private RecordingSubscriber(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+            latch.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+            latch.countDown();
+        }
+    }
+}
@@ -65,6 +65,8 @@ import java.util.stream.Stream;
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.jnosql.mapping.semistructured.query.TemplateMocks.deleteIdIn;
+import static org.eclipse.jnosql.mapping.semistructured.query.TemplateMocks.selectIdIn;
 import static org.eclipse.jnosql.communication.Condition.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -120,7 +122,6 @@ class CrudRepositoryProxyTest {
                 new Class[]{AddressRepository.class}, addressHandler);
     }
 
-
     @Test
     void shouldSaveUsingInsertWhenDataDoesNotExist() {
         when(template.find(Person.class, 10L)).thenReturn(Optional.empty());
@@ -156,21 +157,17 @@ class CrudRepositoryProxyTest {
 
     @Test
     void shouldSaveIterable() {
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
+        Person ada = Person.builder().name("Ada").id(10L).phones(singletonList("123123")).build();
+        Person poliana = Person.builder().name("Poliana").id(20L).build();
+        selectIdIn(template, Person.class, List.of(10L, 20L), Stream.of(poliana));
 
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
-        Person person = Person.builder().name("Ada")
-                .id(10L)
-                .phones(singletonList("123123"))
-                .build();
+        personRepository.saveAll(List.of(ada, poliana));
 
-        personRepository.saveAll(singletonList(person));
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        verify(template).insert(List.of(ada));
+        verify(template).update(List.of(poliana));
+        verify(template, never()).find(Mockito.eq(Person.class), any());
     }
 
-
     @Test
     void shouldInsert() {
 
@@ -360,14 +357,11 @@ class CrudRepositoryProxyTest {
 
     @Test
     void shouldFindByIds() {
-        when(template.find(Mockito.eq(Person.class), Mockito.any(Long.class)))
-                .thenReturn(Optional.of(Person.builder().build()));
-
-        personRepository.findByIdIn(singletonList(10L)).toList();
-        verify(template).find(Person.class, 10L);
+        Person ada = Person.builder().name("Ada").id(1L).build();
+        selectIdIn(template, Person.class, asList(1L, 2L, 3L), Stream.of(ada));
 
-        personRepository.findByIdIn(asList(1L, 2L, 3L)).toList();
-        verify(template, times(4)).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+        assertThat(personRepository.findByIdIn(asList(1L, 2L, 3L)).toList()).containsExactly(ada);
+        verify(template, never()).find(Mockito.eq(Person.class), any());
     }
 
     @Test
@@ -379,12 +373,12 @@ class CrudRepositoryProxyTest {
 
     @Test
     void shouldDeleteByIds() {
-        ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
-        personRepository.deleteByIdIn(singletonList(10L));
-        verify(template).delete(Person.class, 10L);
+        var where = deleteIdIn(template, Person.class, asList(1L, 2L));
+        personRepository.deleteByIdIn(asList(1L, 2L));
+        verify(where).execute();
+        verify(template, never()).delete(Mockito.eq(Person.class), any());
     }
 
-
     @Test
     void shouldContainsById() {
         when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
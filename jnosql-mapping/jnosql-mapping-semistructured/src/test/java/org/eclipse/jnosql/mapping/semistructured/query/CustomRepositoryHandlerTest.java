@@ -46,6 +46,9 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Stream;
 
+import static org.eclipse.jnosql.mapping.semistructured.query.TemplateMocks.deleteIdIn;
+import static org.eclipse.jnosql.mapping.semistructured.query.TemplateMocks.selectIdIn;
+
 @EnableAutoWeld
 @AddPackages(value = {Converters.class, EntityConverter.class})
 @AddPackages(MockProducer.class)
@@ -169,9 +172,11 @@ class CustomRepositoryHandlerTest {
     @Test
     void shouldDeleteListEntity() {
         var persons = List.of(Person.builder().id(12L).age(26).name("Ada").build());
-         people.delete(persons);
+        var where = deleteIdIn(template, Person.class, List.of(12L));
+        people.delete(persons);
 
-        Mockito.verify(template).delete(Person.class, 12L);
+        Mockito.verify(where).execute();
+        Mockito.verify(template).delete(Person.class);
         Mockito.verifyNoMoreInteractions(template);
     }
 
@@ -179,9 +184,11 @@ class CustomRepositoryHandlerTest {
     void shouldDeleteArrayEntity() {
         Person ada = Person.builder().id(2L).age(26).name("Ada").build();
         var persons = new Person[]{ada};
+        var where = deleteIdIn(template, Person.class, List.of(2L));
         people.delete(persons);
 
-        Mockito.verify(template).delete(Person.class, 2L);
+        Mockito.verify(where).execute();
+        Mockito.verify(template).delete(Person.class);
         Mockito.verifyNoMoreInteractions(template);
     }
 
@@ -200,12 +207,12 @@ class CustomRepositoryHandlerTest {
     void shouldSaveListEntity() {
         Person ada = Person.builder().age(26).name("Ada").build();
         var persons = List.of(ada);
+        selectIdIn(template, Person.class, List.of(0L), Stream.<Person>empty());
         Mockito.when(template.insert(persons)).thenReturn(persons);
-        Mockito.when(template.insert(ada)).thenReturn(ada);
         List<Person> result = people.save(persons);
 
-        Mockito.verify(template).insert(ada);
-        Mockito.verify(template).find(Person.class, 0L);
+        Mockito.verify(template).insert(persons);
+        Mockito.verify(template, Mockito.never()).find(Person.class, 0L);
         Assertions.assertThat(result).isEqualTo(persons);
     }
 
@@ -213,17 +220,15 @@ class CustomRepositoryHandlerTest {
     void shouldSaveArrayEntity() {
         Person ada = Person.builder().age(26).name("Ada").build();
         var persons = new Person[]{ada};
-        Mockito.when(template.insert(Mockito.any())).thenReturn(List.of(ada));
-        Mockito.when(template.insert(ada)).thenReturn(ada);
+        selectIdIn(template, Person.class, List.of(0L), Stream.<Person>empty());
+        Mockito.when(template.insert(List.of(ada))).thenReturn(List.of(ada));
         Person[] result = people.save(persons);
 
-        Mockito.verify(template).insert(ada);
-        Mockito.verify(template).find(Person.class, 0L);
+        Mockito.verify(template).insert(List.of(ada));
+        Mockito.verify(template, Mockito.never()).find(Person.class, 0L);
         Assertions.assertThat(result).isEqualTo(persons);
     }
 
-
-
     @Test
     void shouldExecuteObjectMethods(){
         Assertions.assertThat(people.toString()).isNotNull();
@@ -68,12 +68,18 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.jnosql.mapping.semistructured.query.TemplateMocks.deleteIdIn;
+import static org.eclipse.jnosql.mapping.semistructured.query.TemplateMocks.selectIdIn;
 import static org.eclipse.jnosql.communication.Condition.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -156,21 +162,17 @@ class RepositoryProxyTest {
 
     @Test
     void shouldSaveIterable() {
-        when(personRepository.findById(10L)).thenReturn(Optional.empty());
+        Person ada = Person.builder().name("Ada").id(10L).phones(singletonList("123123")).build();
+        Person poliana = Person.builder().name("Poliana").id(20L).build();
+        selectIdIn(template, Person.class, List.of(10L, 20L), Stream.of(poliana));
 
-        ArgumentCaptor<Person> captor = ArgumentCaptor.forClass(Person.class);
-        Person person = Person.builder().name("Ada")
-                .id(10L)
-                .phones(singletonList("123123"))
-                .build();
+        personRepository.saveAll(List.of(ada, poliana));
 
-        personRepository.saveAll(singletonList(person));
-        verify(template).insert(captor.capture());
-        Person personCapture = captor.getValue();
-        assertEquals(person, personCapture);
+        verify(template).insert(List.of(ada));
+        verify(template).update(List.of(poliana));
+        verify(template, never()).find(Mockito.eq(Person.class), any());
     }
 
-
     @Test
     void shouldFindByNameInstance() {
 
@@ -277,14 +279,11 @@ class RepositoryProxyTest {
 
     @Test
     void shouldFindByIds() {
-        when(template.find(Mockito.eq(Person.class), Mockito.any(Long.class)))
-                .thenReturn(Optional.of(Person.builder().build()));
-
-        personRepository.findByIdIn(singletonList(10L)).toList();
-        verify(template).find(Person.class, 10L);
+        Person ada = Person.builder().name("Ada").id(1L).build();
+        selectIdIn(template, Person.class, asList(1L, 2L, 3L), Stream.of(ada));
 
-        personRepository.findByIdIn(asList(1L, 2L, 3L)).toList();
-        verify(template, times(4)).find(Mockito.eq(Person.class), Mockito.any(Long.class));
+        assertThat(personRepository.findByIdIn(asList(1L, 2L, 3L)).toList()).containsExactly(ada);
+        verify(template, never()).find(Mockito.eq(Person.class), any());
     }
 
     @Test
@@ -296,12 +295,12 @@ class RepositoryProxyTest {
 
     @Test
     void shouldDeleteByIds() {
-        ArgumentCaptor<DeleteQuery> captor = ArgumentCaptor.forClass(DeleteQuery.class);
-        personRepository.deleteByIdIn(singletonList(10L));
-        verify(template).delete(Person.class, 10L);
+        var where = deleteIdIn(template, Person.class, asList(1L, 2L));
+        personRepository.deleteByIdIn(asList(1L, 2L));
+        verify(where).execute();
+        verify(template, never()).delete(Mockito.eq(Person.class), any());
     }
 
-
     @Test
     void shouldContainsById() {
         when(template.find(Person.class, 10L)).thenReturn(Optional.of(Person.builder().build()));
@@ -347,9 +346,11 @@ class RepositoryProxyTest {
 
     @Test
     void shouldDeleteEntities(){
-        Person person = Person.builder().id(1L).age(20).name("Ada").build();
-        personRepository.deleteAll(List.of(person));
-        verify(template).delete(Person.class, 1L);
+        Person ada = Person.builder().id(1L).age(20).name("Ada").build();
+        Person poliana = Person.builder().id(2L).age(30).name("Poliana").build();
+        var where = deleteIdIn(template, Person.class, List.of(1L, 2L));
+        personRepository.deleteAll(List.of(ada, poliana));
+        verify(where).execute();
     }
 
     @Test
@@ -415,6 +416,51 @@ class RepositoryProxyTest {
 
     }
 
+    @Test
+    void shouldFindAsync() {
+        Person ada = Person.builder()
+                .age(20).name("Ada").build();
+
+        when(template.select(any(SelectQuery.class)))
+                .thenReturn(Stream.of(ada));
+
+        List<Person> people = personRepository.findByAgeGreaterThanEqual(33).toCompletableFuture().join();
+        assertThat(people).containsExactly(ada);
+        ArgumentCaptor<SelectQuery> captor = ArgumentCaptor.forClass(SelectQuery.class);
+        verify(template).select(captor.capture());
+        SelectQuery query = captor.getValue();
+        CriteriaCondition condition = query.condition().get();
+        assertEquals("Person", query.name());
+        assertEquals(GREATER_EQUALS_THAN, condition.condition());
+        assertEquals(Element.of("age", 33), condition.element());
+    }
+
+    @Test
+    void shouldFindSingleResultAsync() {
+        Person ada = Person.builder()
+                .age(20).name("Ada").build();
+        when(template.singleResult(any(SelectQuery.class))).thenReturn(Optional.of(ada));
+
+        Optional<Person> person = personRepository.findByIdAndName(10L, "Ada").join();
+        assertThat(person).contains(ada);
+    }
+
+    @Test
+    void shouldCountAsync() {
+        when(template.count(any(SelectQuery.class))).thenReturn(10L);
+
+        assertThat(personRepository.countByAge(20).toCompletableFuture().join()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldCompleteExceptionallyAsync() {
+        when(template.count(any(SelectQuery.class))).thenThrow(new UnsupportedOperationException("count"));
+
+        var result = personRepository.countByAge(20).toCompletableFuture();
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     void shouldFindByAgeLessThanEqual() {
         Person ada = Person.builder()
@@ -1029,6 +1075,12 @@ class RepositoryProxyTest {
 
         Set<Person> findByAgeLessThan(Integer age);
 
+        CompletionStage<List<Person>> findByAgeGreaterThanEqual(Integer age);
+
+        CompletableFuture<Optional<Person>> findByIdAndName(Long id, String name);
+
+        CompletionStage<Long> countByAge(Integer age);
+
         Set<Person> findByAgeBetween(Integer ageA, Integer ageB);
 
         Set<Person> findByNameLike(String name);
@@ -51,6 +51,9 @@ class SemiStructuredParameterBasedQueryTest {
     @Inject
     private EntitiesMetadata entitiesMetadata;
 
+    @Inject
+    private Converters converters;
+
     private EntityMetadata metadata;
 
     @BeforeEach
@@ -73,6 +76,18 @@ class SemiStructuredParameterBasedQueryTest {
         });
     }
 
+    @Test
+    void shouldCreateQueryWithConverters() {
+        Map<String, Object> params = Map.of("name", "Ada");
+        var query = SemiStructuredParameterBasedQuery.INSTANCE.toQuery(params, Collections.emptyList(), metadata,
+                converters);
+
+        SoftAssertions.assertSoftly(soft -> {
+            soft.assertThat(query.name()).isEqualTo("Person");
+            soft.assertThat(query.condition()).get().isEqualTo(CriteriaCondition.eq(Element.of("name", "Ada")));
+        });
+    }
+
     @Test
     void shouldCreateQueryMultipleParams() {
         Map<String, Object> params = Map.of("name", "Ada", "age", 10);
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2026 Contributors to the Eclipse Foundation
+ *   All rights reserved. This program and the accompanying materials
+ *   are made available under the terms of the Eclipse Public License v1.0
+ *   and Apache License v2.0 which accompanies this distribution.
+ *   The Eclipse Public License is available at http://www.eclipse.org/legal/epl-v10.html
+ *   and the Apache License v2.0 is available at http://www.opensource.org/licenses/apache2.0.php.
+ *
+ *   You may elect to redistribute this code under either of these licenses.
+ *
+ *   Contributors:
+ *
+ *   Otavio Santana
+ */
+package org.eclipse.jnosql.mapping.semistructured.query;
+
+import jakarta.nosql.QueryMapper;
+import org.eclipse.jnosql.mapping.semistructured.SemiStructuredTemplate;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * Stubs the fluent queries by id of a mocked {@link SemiStructuredTemplate}, used by the set-based
+ * repository operations.
+ */
+final class TemplateMocks {
+
+    private TemplateMocks() {
+    }
+
+    static <T> void selectIdIn(SemiStructuredTemplate template, Class<T> type, List<?> ids, Stream<T> result) {
+        QueryMapper.MapperFrom from = Mockito.mock(QueryMapper.MapperFrom.class);
+        QueryMapper.MapperNameCondition condition = Mockito.mock(QueryMapper.MapperNameCondition.class);
+        QueryMapper.MapperWhere where = Mockito.mock(QueryMapper.MapperWhere.class);
+        when(template.select(type)).thenReturn(from);
+        when(from.where("id")).thenReturn(condition);
+        when(condition.in(ids)).thenReturn(where);
+        Mockito.doReturn(result).when(where).stream();
+    }
+
+    static <T> QueryMapper.MapperDeleteWhere deleteIdIn(SemiStructuredTemplate template, Class<T> type, List<?> ids) {
+        QueryMapper.MapperDeleteFrom from = Mockito.mock(QueryMapper.MapperDeleteFrom.class);
+        QueryMapper.MapperDeleteNameCondition condition = Mockito.mock(QueryMapper.MapperDeleteNameCondition.class);
+        QueryMapper.MapperDeleteWhere where = Mockito.mock(QueryMapper.MapperDeleteWhere.class);
+        when(template.delete(type)).thenReturn(from);
+        when(from.where("id")).thenReturn(condition);
+        when(condition.in(ids)).thenReturn(where);
+        return where;
+    }
+}